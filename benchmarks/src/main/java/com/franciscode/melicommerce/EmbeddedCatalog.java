@@ -0,0 +1,54 @@
+package com.franciscode.melicommerce;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+public final class EmbeddedCatalog {
+
+    private static final int BATCH = 1000;
+    private static final String[] DEFAULT_ARGS = {
+            "--spring.datasource.url=jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1",
+            "--spring.flyway.locations=classpath:db/migration",
+            "--spring.jpa.show-sql=false",
+            "--payment.pipeline.enabled=false",
+            "--spring.main.banner-mode=off",
+            "--logging.level.root=warn"
+    };
+
+    private EmbeddedCatalog() {
+    }
+
+    public static ConfigurableApplicationContext start(WebApplicationType type, int catalogSize, String... args) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(MelicommerceApplication.class)
+                .web(type)
+                .run(Stream.concat(Stream.of(DEFAULT_ARGS), Stream.of(args)).toArray(String[]::new));
+        generate(context.getBean(JdbcTemplate.class), catalogSize);
+        return context;
+    }
+
+    private static void generate(JdbcTemplate jdbc, int catalogSize) {
+        jdbc.batchUpdate("INSERT INTO tb_category (name) VALUES (?)",
+                List.of(new Object[]{"Livros"}, new Object[]{"Eletrônicos"}, new Object[]{"Computadores"}));
+        List<Object[]> products = new ArrayList<>(BATCH);
+        List<Object[]> links = new ArrayList<>(BATCH);
+        for (long id = 1; id <= catalogSize; id++) {
+            products.add(new Object[]{id, "Produto " + id, 10.0 + id % 5000 / 100.0, "Descrição do produto " + id,
+                    "https://img.example.com/products/" + id + ".jpg", 1 + id % 40 / 10.0, "Especificações " + id});
+            links.add(new Object[]{id, 1 + id % 3});
+            if (products.size() == BATCH || id == catalogSize) {
+                jdbc.batchUpdate("INSERT INTO tb_product (id, name, price, description, img_url, rating, specifications) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?)", products);
+                jdbc.batchUpdate("INSERT INTO tb_product_category (product_id, category_id) VALUES (?, ?)", links);
+                products.clear();
+                links.clear();
+            }
+        }
+        jdbc.execute("ALTER TABLE tb_product ALTER COLUMN id RESTART WITH " + (catalogSize + 1));
+    }
+}
@@ -0,0 +1,78 @@
+package com.franciscode.melicommerce.controllers.handlers;
+
+import com.franciscode.melicommerce.dto.CustomError;
+import com.franciscode.melicommerce.dto.ProductJsonWriter;
+import com.franciscode.melicommerce.services.exceptions.ResourceNotFoundException;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotFoundPathBenchmark {
+
+    private static final String MESSAGE = "Recurso não encontrado";
+    private static final String PATH = "/products/999999";
+
+    @Param({"120"})
+    private int depth;
+
+    private final JsonMapper mapper = JsonMapper.builder().build();
+    private final ProductJsonWriter writer = new ProductJsonWriter();
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+
+    @Benchmark
+    public Object throwWithStackTrace() {
+        try {
+            return call(depth, false);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object throwStackless() {
+        try {
+            return call(depth, true);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public int notFoundWithStackTraceAndJackson() {
+        out.reset();
+        try {
+            call(depth, false);
+        } catch (RuntimeException e) {
+            mapper.writeValue(out, new CustomError(Instant.now(), 404, e.getMessage(), PATH));
+        }
+        return out.size();
+    }
+
+    @Benchmark
+    public int notFoundStacklessAndWriter() throws IOException {
+        out.reset();
+        try {
+            call(depth, true);
+        } catch (ResourceNotFoundException e) {
+            writer.write(new CustomError(Instant.now(), 404, e.getMessage(), PATH), out);
+        }
+        return out.size();
+    }
+
+    private static Object call(int depth, boolean stackless) {
+        if (depth == 0) {
+            throw stackless ? new ResourceNotFoundException(MESSAGE) : new RuntimeException(MESSAGE);
+        }
+        return call(depth - 1, stackless);
+    }
+}
@@ -0,0 +1,69 @@
+package com.franciscode.melicommerce.dto;
+
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.cbor.CBORWriteFeature;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductCborBenchmark {
+
+    private static final TypeReference<List<ProductDTO>> PRODUCTS = new TypeReference<>() {
+    };
+
+    @Param({"20", "100"})
+    private int size;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final CBORMapper cborMapper = CBORMapper.builder().enable(CBORWriteFeature.WRITE_MINIMAL_DOUBLES).build();
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+    private List<ProductDTO> products;
+    private byte[] json;
+    private byte[] cbor;
+
+    @Setup
+    public void setUp() {
+        products = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            products.add(new ProductDTO(id, "Produto " + id, "Descrição do produto " + id + " com detalhes técnicos",
+                    10.0 + id * 1.37, "https://img.example.com/products/" + id + ".jpg", 4.5, "Especificações " + id));
+        }
+        json = jsonMapper.writeValueAsBytes(products);
+        cbor = cborMapper.writeValueAsBytes(products);
+    }
+
+    @Benchmark
+    public int writeJson() {
+        out.reset();
+        jsonMapper.writeValue(out, products);
+        return out.size();
+    }
+
+    @Benchmark
+    public int writeCbor() {
+        out.reset();
+        cborMapper.writeValue(out, products);
+        return out.size();
+    }
+
+    @Benchmark
+    public List<ProductDTO> readJson() {
+        return jsonMapper.readValue(json, PRODUCTS);
+    }
+
+    @Benchmark
+    public List<ProductDTO> readCbor() {
+        return cborMapper.readValue(cbor, PRODUCTS);
+    }
+}
@@ -0,0 +1,40 @@
+package com.franciscode.melicommerce.dto;
+
+import com.franciscode.melicommerce.entities.Product;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductDTOBenchmark {
+
+    @Param({"1", "20", "100"})
+    private int size;
+
+    private List<Product> products;
+
+    @Setup
+    public void setUp() {
+        products = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            products.add(new Product(id, "Produto " + id, "Descrição do produto " + id, 10.0 + id, "img" + id, 4.5,
+                    "Especificações " + id));
+        }
+    }
+
+    @Benchmark
+    public List<ProductDTO> fromEntities() {
+        List<ProductDTO> result = new ArrayList<>(products.size());
+        for (Product product : products) {
+            result.add(new ProductDTO(product));
+        }
+        return result;
+    }
+}
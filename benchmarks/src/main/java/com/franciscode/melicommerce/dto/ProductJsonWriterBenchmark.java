@@ -0,0 +1,80 @@
+package com.franciscode.melicommerce.dto;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductJsonWriterBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private final JsonMapper mapper = JsonMapper.builder().build();
+    private final ProductJsonWriter writer = new ProductJsonWriter();
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+    private Page<ProductSummaryDTO> page;
+    private ProductPageDTO<ProductSummaryDTO> pageDto;
+    private ProductDTO product;
+
+    @Setup
+    public void setUp() {
+        List<ProductSummaryDTO> content = new ArrayList<>(pageSize);
+        for (long id = 1; id <= pageSize; id++) {
+            content.add(new ProductSummaryDTO(id, "Produto " + id, 10.0 + id,
+                    "https://img.example.com/products/" + id + ".jpg", 4.5));
+        }
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize), 10_000);
+        pageDto = new ProductPageDTO<>(page);
+        product = new ProductDTO(1L, "Produto 1", "Descrição do produto 1 com detalhes técnicos", 11.0,
+                "https://img.example.com/products/1.jpg", 4.5, "Especificações 1");
+    }
+
+    @Benchmark
+    public int jacksonPageImpl() {
+        out.reset();
+        mapper.writeValue(out, page);
+        return out.size();
+    }
+
+    @Benchmark
+    public int jacksonPageDto() {
+        out.reset();
+        mapper.writeValue(out, pageDto);
+        return out.size();
+    }
+
+    @Benchmark
+    public int writerPageDto() throws IOException {
+        out.reset();
+        writer.write(pageDto, out);
+        return out.size();
+    }
+
+    @Benchmark
+    public int jacksonProduct() {
+        out.reset();
+        mapper.writeValue(out, product);
+        return out.size();
+    }
+
+    @Benchmark
+    public int writerProduct() throws IOException {
+        out.reset();
+        writer.write(product, out);
+        return out.size();
+    }
+}
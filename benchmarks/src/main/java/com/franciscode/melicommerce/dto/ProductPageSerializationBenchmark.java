@@ -0,0 +1,45 @@
+package com.franciscode.melicommerce.dto;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductPageSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private final JsonMapper mapper = JsonMapper.builder().build();
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+    private Page<ProductDTO> page;
+
+    @Setup
+    public void setUp() {
+        List<ProductDTO> content = new ArrayList<>(pageSize);
+        for (long id = 1; id <= pageSize; id++) {
+            content.add(new ProductDTO(id, "Produto " + id, "Descrição do produto " + id + " com detalhes técnicos",
+                    10.0 + id, "https://img.example.com/products/" + id + ".jpg", 4.5, "Especificações " + id));
+        }
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize), 10_000);
+    }
+
+    @Benchmark
+    public int serializePage() {
+        out.reset();
+        mapper.writeValue(out, page);
+        return out.size();
+    }
+}
@@ -0,0 +1,33 @@
+package com.franciscode.melicommerce.jfr;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductOperationEventBenchmark {
+
+    private long productId = 42;
+
+    @Benchmark
+    public long withoutEvent() {
+        return productId * 31;
+    }
+
+    @Benchmark
+    public long withEventNotRecording() {
+        ProductOperationEvent event = ProductOperationEvent.start("find", productId);
+        try {
+            long result = productId * 31;
+            event.source(ProductOperationEvent.CATALOG).completed(productId, 1);
+            return result;
+        } finally {
+            event.finish();
+        }
+    }
+}
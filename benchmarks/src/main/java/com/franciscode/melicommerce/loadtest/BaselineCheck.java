@@ -0,0 +1,77 @@
+package com.franciscode.melicommerce.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public class BaselineCheck {
+
+    private final double tolerance;
+    private final double p99SlackMs;
+    private final double maxErrorRate;
+
+    public BaselineCheck(double tolerance, double p99SlackMs, double maxErrorRate) {
+        this.tolerance = tolerance;
+        this.p99SlackMs = p99SlackMs;
+        this.maxErrorRate = maxErrorRate;
+    }
+
+    public List<String> errors(LoadTestReport current) {
+        List<String> violations = new ArrayList<>();
+        for (StageResult stage : current.stages()) {
+            for (EndpointResult result : stage.endpoints()) {
+                if (result.errorRate() > maxErrorRate) {
+                    violations.add(format("%d req/s, %s: taxa de erro %.4f acima do limite %.4f",
+                            stage.rate(), result.endpoint(), result.errorRate(), maxErrorRate));
+                }
+            }
+        }
+        return violations;
+    }
+
+    public boolean comparable(LoadTestReport baseline, LoadTestReport current) {
+        return baseline.catalogSize() == current.catalogSize() && baseline.threadMode().equals(current.threadMode())
+                && baseline.mix().equals(current.mix())
+                && rates(baseline).equals(rates(current));
+    }
+
+    public List<String> regressions(LoadTestReport baseline, LoadTestReport current) {
+        List<String> violations = new ArrayList<>();
+        for (StageResult stage : current.stages()) {
+            StageResult expected = baseline.find(stage.rate());
+            if (expected == null) {
+                continue;
+            }
+            for (EndpointResult result : stage.endpoints()) {
+                EndpointResult reference = expected.find(result.endpoint());
+                if (reference == null) {
+                    continue;
+                }
+                double minThroughput = reference.throughput() * (1 - tolerance);
+                if (result.throughput() < minThroughput) {
+                    violations.add(format("%d req/s, %s: vazão %.1f req/s abaixo do mínimo %.1f (baseline %.1f)",
+                            stage.rate(), result.endpoint(), result.throughput(), minThroughput, reference.throughput()));
+                }
+                double maxP99 = reference.p99Ms() * (1 + tolerance) + p99SlackMs;
+                if (result.p99Ms() > maxP99) {
+                    violations.add(format("%d req/s, %s: p99 %.2f ms acima do máximo %.2f ms (baseline %.2f ms)",
+                            stage.rate(), result.endpoint(), result.p99Ms(), maxP99, reference.p99Ms()));
+                }
+            }
+        }
+        if (baseline.sustainedRate() != null
+                && (current.sustainedRate() == null || current.sustainedRate() < baseline.sustainedRate())) {
+            violations.add(format("taxa sustentada %s req/s abaixo da baseline %d req/s",
+                    current.sustainedRate() == null ? "nenhuma" : current.sustainedRate().toString(), baseline.sustainedRate()));
+        }
+        return violations;
+    }
+
+    private static List<Integer> rates(LoadTestReport report) {
+        return report.stages().stream().map(StageResult::rate).toList();
+    }
+
+    private static String format(String pattern, Object... args) {
+        return String.format(Locale.ROOT, pattern, args);
+    }
+}
@@ -0,0 +1,50 @@
+package com.franciscode.melicommerce.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+public enum Endpoint {
+
+    PRODUCTS("products") {
+        @Override
+        public String path(int catalogSize) {
+            return "/products?size=20&page=" + ThreadLocalRandom.current().nextInt(Math.max(1, catalogSize / 20));
+        }
+    },
+    PRODUCT("product") {
+        @Override
+        public String path(int catalogSize) {
+            return "/products/" + randomId(catalogSize);
+        }
+    },
+    COMPARE("compare") {
+        @Override
+        public String path(int catalogSize) {
+            return "/products/compare?ids=" + randomId(catalogSize) + "," + randomId(catalogSize) + "," + randomId(catalogSize);
+        }
+    };
+
+    private final String key;
+
+    Endpoint(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public abstract String path(int catalogSize);
+
+    public static Endpoint fromKey(String key) {
+        for (Endpoint endpoint : values()) {
+            if (endpoint.key.equalsIgnoreCase(key.trim())) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("Endpoint desconhecido no mix: " + key);
+    }
+
+    private static long randomId(int catalogSize) {
+        return ThreadLocalRandom.current().nextLong(1, catalogSize + 1);
+    }
+}
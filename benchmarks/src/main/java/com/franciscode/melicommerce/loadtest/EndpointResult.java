@@ -0,0 +1,24 @@
+package com.franciscode.melicommerce.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+public record EndpointResult(String endpoint, long requests, long errors, double throughput, double p50Ms,
+                             double p90Ms, double p99Ms, double p999Ms, double maxMs) {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    public static EndpointResult of(Endpoint endpoint, Histogram latencies, long errors, double seconds) {
+        long requests = latencies.getTotalCount() + errors;
+        return new EndpointResult(endpoint.getKey(), requests, errors, latencies.getTotalCount() / seconds,
+                percentile(latencies, 50), percentile(latencies, 90), percentile(latencies, 99),
+                percentile(latencies, 99.9), latencies.getMaxValue() / MICROS_PER_MILLI);
+    }
+
+    public double errorRate() {
+        return requests == 0 ? 0 : (double) errors / requests;
+    }
+
+    private static double percentile(Histogram latencies, double percentile) {
+        return latencies.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+}
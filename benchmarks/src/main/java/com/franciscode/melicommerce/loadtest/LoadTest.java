@@ -0,0 +1,106 @@
+package com.franciscode.melicommerce.loadtest;
+
+import com.franciscode.melicommerce.EmbeddedCatalog;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public final class LoadTest {
+
+    private static final JsonMapper MAPPER = JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT).build();
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        Files.createDirectories(settings.output());
+        LoadTestReport report;
+        try (ConfigurableApplicationContext context = EmbeddedCatalog.start(WebApplicationType.SERVLET,
+                settings.catalogSize(), "--server.port=0", settings.threads().springArgument())) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            report = run(settings, new OpenLoadDriver(URI.create("http://localhost:" + port), settings.catalogSize(),
+                    settings.mix(), settings.timeout()));
+        }
+        MAPPER.writeValue(settings.output().resolve("result.json").toFile(), report);
+        System.exit(check(settings, report) ? 0 : 1);
+    }
+
+    private static LoadTestReport run(LoadTestSettings settings, OpenLoadDriver driver) throws IOException {
+        List<StageResult> stages = new ArrayList<>();
+        Integer sustainedRate = null;
+        for (int rate : settings.rates()) {
+            System.out.printf(Locale.ROOT, "%nEstágio de %d req/s (%s, threads %s): aquecimento %ds, medição %ds%n", rate,
+                    settings.mix(), settings.threads().getKey(), settings.warmup().toSeconds(), settings.duration().toSeconds());
+            Map<Endpoint, Histogram> histograms = new EnumMap<>(Endpoint.class);
+            StageResult stage = driver.run(rate, settings.warmup(), settings.duration(), histograms);
+            stages.add(stage);
+            print(stage);
+            writeHistograms(settings.output(), rate, histograms);
+            if (stage.meets(settings.sloP99Ms(), settings.maxErrorRate())) {
+                sustainedRate = rate;
+            }
+        }
+        System.out.printf(Locale.ROOT, "%nTaxa sustentada com p99 <= %.1f ms: %s%n", settings.sloP99Ms(),
+                sustainedRate == null ? "nenhuma" : sustainedRate + " req/s");
+        return new LoadTestReport(settings.catalogSize(), settings.threads().getKey(), settings.mix().toString(),
+                settings.sloP99Ms(), sustainedRate, stages);
+    }
+
+    private static boolean check(LoadTestSettings settings, LoadTestReport report) throws IOException {
+        BaselineCheck check = new BaselineCheck(settings.tolerance(), settings.p99SlackMs(), settings.maxErrorRate());
+        List<String> violations = new ArrayList<>(check.errors(report));
+        if (settings.updateBaseline()) {
+            Files.createDirectories(settings.baseline().toAbsolutePath().getParent());
+            MAPPER.writeValue(settings.baseline().toFile(), report);
+            System.out.println("Baseline atualizada em " + settings.baseline());
+        }
+        else if (!Files.exists(settings.baseline())) {
+            System.out.println("Baseline " + settings.baseline() + " não encontrada; comparação ignorada");
+        }
+        else {
+            LoadTestReport baseline = MAPPER.readValue(settings.baseline().toFile(), LoadTestReport.class);
+            if (check.comparable(baseline, report)) {
+                violations.addAll(check.regressions(baseline, report));
+            }
+            else {
+                System.out.println("Baseline " + settings.baseline()
+                        + " gerada com outro catálogo, modo de threads, mix ou taxas; comparação ignorada");
+            }
+        }
+        violations.forEach(violation -> System.out.println("REGRESSÃO: " + violation));
+        return violations.isEmpty();
+    }
+
+    private static void print(StageResult stage) {
+        System.out.printf(Locale.ROOT, "%-10s %10s %8s %10s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (EndpointResult result : stage.endpoints()) {
+            System.out.printf(Locale.ROOT, "%-10s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    result.endpoint(), result.requests(), result.errors(), result.throughput(), result.p50Ms(),
+                    result.p90Ms(), result.p99Ms(), result.p999Ms(), result.maxMs());
+        }
+    }
+
+    private static void writeHistograms(Path output, int rate, Map<Endpoint, Histogram> histograms) throws IOException {
+        for (Map.Entry<Endpoint, Histogram> entry : histograms.entrySet()) {
+            Path file = output.resolve(rate + "-" + entry.getKey().getKey() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, "UTF-8")) {
+                entry.getValue().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+}
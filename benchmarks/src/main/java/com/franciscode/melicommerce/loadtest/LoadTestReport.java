@@ -0,0 +1,15 @@
+package com.franciscode.melicommerce.loadtest;
+
+import java.util.List;
+
+public record LoadTestReport(int catalogSize, String threads, String mix, double sloP99Ms, Integer sustainedRate,
+                             List<StageResult> stages) {
+
+    public String threadMode() {
+        return threads == null ? ThreadMode.PLATFORM.getKey() : threads;
+    }
+
+    public StageResult find(int rate) {
+        return stages.stream().filter(stage -> stage.rate() == rate).findFirst().orElse(null);
+    }
+}
@@ -0,0 +1,34 @@
+package com.franciscode.melicommerce.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+public record LoadTestSettings(int catalogSize, ThreadMode threads, List<Integer> rates, Duration warmup, Duration duration,
+                               Duration timeout, TrafficMix mix, double sloP99Ms, double tolerance, double p99SlackMs,
+                               double maxErrorRate, Path baseline, boolean updateBaseline, Path output) {
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.parseInt(property("catalog-size", "10000")),
+                ThreadMode.fromKey(property("threads", "platform")),
+                Arrays.stream(property("rates", "50,100,200").split(",")).map(String::trim).map(Integer::valueOf).toList(),
+                Duration.ofSeconds(Long.parseLong(property("warmup-seconds", "10"))),
+                Duration.ofSeconds(Long.parseLong(property("duration-seconds", "30"))),
+                Duration.ofMillis(Long.parseLong(property("timeout-ms", "5000"))),
+                TrafficMix.parse(property("mix", "products=30,product=60,compare=10")),
+                Double.parseDouble(property("slo-p99-ms", "50")),
+                Double.parseDouble(property("tolerance", "0.2")),
+                Double.parseDouble(property("p99-slack-ms", "2")),
+                Double.parseDouble(property("max-error-rate", "0.001")),
+                Path.of(property("baseline", "baselines/loadtest.json")),
+                Boolean.parseBoolean(property("update-baseline", "false")),
+                Path.of(property("output", "target/loadtest")));
+    }
+
+    private static String property(String name, String defaultValue) {
+        String value = System.getProperty("loadtest." + name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
@@ -0,0 +1,106 @@
+package com.franciscode.melicommerce.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+public class OpenLoadDriver {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final URI baseUri;
+    private final int catalogSize;
+    private final TrafficMix mix;
+    private final Duration timeout;
+    private final HttpClient client;
+
+    public OpenLoadDriver(URI baseUri, int catalogSize, TrafficMix mix, Duration timeout) {
+        this.baseUri = baseUri;
+        this.catalogSize = catalogSize;
+        this.mix = mix;
+        this.timeout = timeout;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    public StageResult run(int rate, Duration warmup, Duration duration, Map<Endpoint, Histogram> histograms) {
+        Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : mix.getEndpoints()) {
+            histograms.put(endpoint, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS));
+            errors.put(endpoint, new LongAdder());
+        }
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / (double) rate;
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            long next = start;
+            while (next < end) {
+                long now;
+                while ((now = System.nanoTime()) < next) {
+                    LockSupport.parkNanos(next - now);
+                }
+                long intended = next;
+                boolean measured = intended >= measureFrom;
+                Endpoint endpoint = mix.next();
+                executor.execute(() -> call(endpoint, intended, measured, histograms, errors));
+                next += (long) (-Math.log(1 - ThreadLocalRandom.current().nextDouble()) * meanIntervalNanos);
+            }
+        }
+        double seconds = duration.toNanos() / (double) TimeUnit.SECONDS.toNanos(1);
+        List<EndpointResult> results = new ArrayList<>();
+        for (Endpoint endpoint : mix.getEndpoints()) {
+            results.add(EndpointResult.of(endpoint, histograms.get(endpoint), errors.get(endpoint).sum(), seconds));
+        }
+        return new StageResult(rate, seconds, results);
+    }
+
+    private void call(Endpoint endpoint, long intended, boolean measured, Map<Endpoint, Histogram> histograms,
+                      Map<Endpoint, LongAdder> errors) {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(endpoint.path(catalogSize)))
+                .timeout(timeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        boolean ok;
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            ok = response.statusCode() / 100 == 2;
+        } catch (IOException e) {
+            ok = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ok = false;
+        }
+        if (!measured) {
+            return;
+        }
+        if (ok) {
+            long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intended);
+            histograms.get(endpoint).recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+        }
+        else {
+            errors.get(endpoint).increment();
+        }
+    }
+}
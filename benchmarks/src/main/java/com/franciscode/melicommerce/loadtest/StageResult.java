@@ -0,0 +1,18 @@
+package com.franciscode.melicommerce.loadtest;
+
+import java.util.List;
+
+public record StageResult(int rate, double seconds, List<EndpointResult> endpoints) {
+
+    public double throughput() {
+        return endpoints.stream().mapToDouble(EndpointResult::throughput).sum();
+    }
+
+    public boolean meets(double sloP99Ms, double maxErrorRate) {
+        return endpoints.stream().allMatch(result -> result.p99Ms() <= sloP99Ms && result.errorRate() <= maxErrorRate);
+    }
+
+    public EndpointResult find(String endpoint) {
+        return endpoints.stream().filter(result -> result.endpoint().equals(endpoint)).findFirst().orElse(null);
+    }
+}
@@ -0,0 +1,32 @@
+package com.franciscode.melicommerce.loadtest;
+
+public enum ThreadMode {
+
+    PLATFORM("platform", false),
+    VIRTUAL("virtual", true);
+
+    private final String key;
+    private final boolean virtualThreads;
+
+    ThreadMode(String key, boolean virtualThreads) {
+        this.key = key;
+        this.virtualThreads = virtualThreads;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String springArgument() {
+        return "--spring.threads.virtual.enabled=" + virtualThreads;
+    }
+
+    public static ThreadMode fromKey(String key) {
+        for (ThreadMode mode : values()) {
+            if (mode.key.equalsIgnoreCase(key.trim())) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("Modo de threads desconhecido: " + key + " (use platform ou virtual)");
+    }
+}
@@ -0,0 +1,55 @@
+package com.franciscode.melicommerce.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class TrafficMix {
+
+    private final Map<Endpoint, Integer> weights;
+    private final int total;
+
+    public TrafficMix(Map<Endpoint, Integer> weights) {
+        this.weights = new EnumMap<>(weights);
+        this.weights.values().removeIf(weight -> weight <= 0);
+        this.total = this.weights.values().stream().mapToInt(Integer::intValue).sum();
+        if (total == 0) {
+            throw new IllegalArgumentException("O mix de tráfego precisa de ao menos um endpoint com peso positivo");
+        }
+    }
+
+    public static TrafficMix parse(String spec) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String part : spec.split(",")) {
+            String[] pair = part.split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Entrada inválida no mix de tráfego: " + part);
+            }
+            weights.merge(Endpoint.fromKey(pair[0]), Integer.parseInt(pair[1].trim()), Integer::sum);
+        }
+        return new TrafficMix(weights);
+    }
+
+    public Set<Endpoint> getEndpoints() {
+        return weights.keySet();
+    }
+
+    public Endpoint next() {
+        int pick = ThreadLocalRandom.current().nextInt(total);
+        for (Map.Entry<Endpoint, Integer> entry : weights.entrySet()) {
+            pick -= entry.getValue();
+            if (pick < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        weights.forEach((endpoint, weight) -> text.append(text.isEmpty() ? "" : ",").append(endpoint.getKey()).append('=').append(weight));
+        return text.toString();
+    }
+}
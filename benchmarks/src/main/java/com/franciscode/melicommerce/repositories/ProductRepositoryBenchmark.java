@@ -0,0 +1,66 @@
+package com.franciscode.melicommerce.repositories;
+
+import com.franciscode.melicommerce.EmbeddedCatalog;
+import com.franciscode.melicommerce.dto.ProductDTO;
+import com.franciscode.melicommerce.dto.ProductSummaryDTO;
+import com.franciscode.melicommerce.entities.Product;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductRepositoryBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1000", "10000", "100000"})
+    private int catalogSize;
+
+    private ConfigurableApplicationContext context;
+    private ProductRepository repository;
+
+    @Setup
+    public void setUp() {
+        context = EmbeddedCatalog.start(WebApplicationType.NONE, catalogSize,
+                "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                "--spring.jpa.properties.hibernate.cache.use_query_cache=false");
+        repository = context.getBean(ProductRepository.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<Product> findById() {
+        return repository.findById(randomId());
+    }
+
+    @Benchmark
+    public Page<ProductSummaryDTO> findAllSummaries() {
+        int pages = catalogSize / PAGE_SIZE;
+        return repository.findAllSummaries(PageRequest.of(ThreadLocalRandom.current().nextInt(pages), PAGE_SIZE));
+    }
+
+    @Benchmark
+    public List<ProductDTO> findAllDtosByIdIn() {
+        return repository.findAllDtosByIdIn(List.of(randomId(), randomId(), randomId(), randomId(), randomId()));
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, catalogSize + 1);
+    }
+}
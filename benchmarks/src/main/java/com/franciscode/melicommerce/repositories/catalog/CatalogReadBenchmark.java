@@ -0,0 +1,106 @@
+package com.franciscode.melicommerce.repositories.catalog;
+
+import com.franciscode.melicommerce.dto.CatalogProductDTO;
+import com.franciscode.melicommerce.dto.ProductDTO;
+import com.franciscode.melicommerce.entities.Product;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class CatalogReadBenchmark {
+
+    @Param({"10000", "200000"})
+    private int catalogSize;
+
+    private final JsonMapper mapper = JsonMapper.builder().build();
+    private Path file;
+    private Map<Long, Product> entities;
+    private CatalogSnapshot snapshot;
+
+    @State(Scope.Thread)
+    public static class Output {
+
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream(4096);
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        file = Files.createTempFile("catalog-bench", ".snap");
+        Files.delete(file);
+        List<CatalogEntry> entries = new ArrayList<>(catalogSize);
+        for (Product product : generate(catalogSize).values()) {
+            entries.add(new CatalogEntry(new ProductDTO(product), new long[]{1 + product.getId() % 3}));
+        }
+        CatalogSnapshot.write(file, 1L, Instant.now(), entries);
+        entities = generate(catalogSize);
+        snapshot = CatalogSnapshot.open(file);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public int entityToJson(Output output) {
+        output.out.reset();
+        mapper.writeValue(output.out, new ProductDTO(entities.get(randomId())));
+        return output.out.size();
+    }
+
+    @Benchmark
+    public int snapshotToJson(Output output) throws IOException {
+        output.out.reset();
+        ((CatalogProductDTO) snapshot.find(randomId()).product()).writeJson(output.out);
+        return output.out.size();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public Map<Long, Product> loadEntities() {
+        return generate(catalogSize);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public CatalogSnapshot openSnapshot() {
+        return CatalogSnapshot.open(file);
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, catalogSize + 1);
+    }
+
+    private static Map<Long, Product> generate(int size) {
+        Map<Long, Product> products = new HashMap<>(size * 2);
+        for (long id = 1; id <= size; id++) {
+            products.put(id, new Product(id, "Produto " + id, "Descrição do produto " + id + " com detalhes técnicos e informações adicionais",
+                    10.0 + id % 5000 / 100.0, "https://img.example.com/products/" + id + ".jpg", 1 + id % 40 / 10.0,
+                    "Especificações " + id + "; garantia de 12 meses"));
+        }
+        return products;
+    }
+}
@@ -0,0 +1,33 @@
+package com.franciscode.melicommerce.services;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductIdParsingBenchmark {
+
+    @Param({"3", "50"})
+    private int count;
+
+    private String ids;
+
+    @Setup
+    public void setUp() {
+        ids = LongStream.rangeClosed(1, count).map(id -> id * 7919).mapToObj(String::valueOf)
+                .collect(Collectors.joining(", "));
+    }
+
+    @Benchmark
+    public List<Long> parseIds() {
+        return ProductService.parseIds(ids);
+    }
+}
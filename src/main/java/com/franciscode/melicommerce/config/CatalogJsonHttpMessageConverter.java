@@ -0,0 +1,37 @@
+package com.franciscode.melicommerce.config;
+
+import com.franciscode.melicommerce.dto.CatalogProductDTO;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+public class CatalogJsonHttpMessageConverter extends AbstractHttpMessageConverter<CatalogProductDTO> {
+
+    public CatalogJsonHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return CatalogProductDTO.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected CatalogProductDTO readInternal(Class<? extends CatalogProductDTO> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("CatalogProductDTO é somente leitura", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(CatalogProductDTO product, HttpOutputMessage outputMessage) throws IOException {
+        product.writeJson(outputMessage.getBody());
+    }
+}
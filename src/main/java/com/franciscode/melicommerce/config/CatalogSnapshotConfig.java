@@ -0,0 +1,25 @@
+package com.franciscode.melicommerce.config;
+
+import com.franciscode.melicommerce.repositories.catalog.CatalogStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+@Configuration
+@ConditionalOnProperty(name = "catalog.snapshot.enabled", havingValue = "true")
+public class CatalogSnapshotConfig {
+
+    @Bean
+    public CatalogStore catalogStore(@Value("${catalog.snapshot.dir}") String directory,
+                                     @Value("${catalog.snapshot.keep:2}") int keep) {
+        return new CatalogStore(Path.of(directory), keep);
+    }
+
+    @Bean
+    public CatalogJsonHttpMessageConverter catalogJsonHttpMessageConverter() {
+        return new CatalogJsonHttpMessageConverter();
+    }
+}
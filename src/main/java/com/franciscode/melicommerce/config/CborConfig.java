@@ -0,0 +1,18 @@
+package com.franciscode.melicommerce.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.http.converter.autoconfigure.ServerHttpMessageConvertersCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+@Configuration
+@ConditionalOnProperty(name = "products.cbor.enabled", havingValue = "true", matchIfMissing = true)
+public class CborConfig {
+
+    @Bean
+    public ServerHttpMessageConvertersCustomizer cborHttpMessageConverter(CBORMapper cborMapper) {
+        return builder -> builder.withCborConverter(new JacksonCborHttpMessageConverter(cborMapper));
+    }
+}
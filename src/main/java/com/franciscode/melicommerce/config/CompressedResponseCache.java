@@ -0,0 +1,90 @@
+package com.franciscode.melicommerce.config;
+
+import com.franciscode.melicommerce.services.events.ProductChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+public class CompressedResponseCache {
+
+    public static final String METRIC = "products.response-cache";
+
+    private final Cache<String, Entry> entries;
+    private final AtomicLong generation = new AtomicLong();
+
+    public CompressedResponseCache(long maxBytes, Duration expireAfterWrite, MeterRegistry registry) {
+        this(maxBytes, expireAfterWrite, registry, Ticker.systemTicker());
+    }
+
+    CompressedResponseCache(long maxBytes, Duration expireAfterWrite, MeterRegistry registry, Ticker ticker) {
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .<String, Entry>weigher((key, entry) -> key.length() + entry.body().length)
+                .expireAfterWrite(expireAfterWrite)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, entries, METRIC);
+    }
+
+    public Entry get(String key) {
+        return entries.getIfPresent(key);
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    public Entry put(String key, String contentType, byte[] body, long startGeneration) {
+        Entry entry = new Entry(contentType, gzip(body));
+        if (generation.get() == startGeneration) {
+            entries.put(key, entry);
+            if (generation.get() != startGeneration) {
+                entries.invalidate(key);
+            }
+        }
+        return entry;
+    }
+
+    public long size() {
+        return entries.estimatedSize();
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        invalidateAll();
+    }
+
+    static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    public record Entry(String contentType, byte[] body) {
+    }
+}
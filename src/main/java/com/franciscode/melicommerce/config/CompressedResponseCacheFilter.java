@@ -0,0 +1,106 @@
+package com.franciscode.melicommerce.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.regex.Pattern;
+
+public class CompressedResponseCacheFilter extends OncePerRequestFilter {
+
+    public static final String CACHE_HEADER = "X-Response-Cache";
+
+    private static final Pattern CACHEABLE_PATH = Pattern.compile("/products(/compare|/\\d+)?");
+
+    private final CompressedResponseCache cache;
+
+    public CompressedResponseCacheFilter(CompressedResponseCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod()) || !CACHEABLE_PATH.matcher(request.getRequestURI()).matches()
+                || !acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String key = key(request);
+        CompressedResponseCache.Entry entry = cache.get(key);
+        if (entry != null) {
+            write(response, entry, "HIT");
+            return;
+        }
+        long generation = cache.generation();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, wrapper);
+        if (wrapper.getStatus() != HttpServletResponse.SC_OK || !isCacheable(wrapper.getContentType())
+                || wrapper.getHeader(HttpHeaders.CONTENT_ENCODING) != null) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+        write(response, cache.put(key, wrapper.getContentType(), wrapper.getContentAsByteArray(), generation), "MISS");
+    }
+
+    private static void write(HttpServletResponse response, CompressedResponseCache.Entry entry, String outcome)
+            throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(entry.contentType());
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader(CACHE_HEADER, outcome);
+        response.setContentLength(entry.body().length);
+        response.getOutputStream().write(entry.body());
+    }
+
+    private static String key(HttpServletRequest request) {
+        String query = request.getQueryString();
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return request.getRequestURI() + (query != null ? "?" + query : "") + " " + (accept != null ? accept : "");
+    }
+
+    private static boolean isCacheable(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        return MediaType.APPLICATION_JSON.isCompatibleWith(mediaType) || MediaType.APPLICATION_CBOR.isCompatibleWith(mediaType);
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.split(";");
+            String coding = parts[0].trim();
+            if (!coding.equalsIgnoreCase("gzip") && !coding.equals("*")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=") && isZero(parameter.substring(2))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isZero(String quality) {
+        try {
+            return Double.parseDouble(quality) == 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.franciscode.melicommerce.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(name = "database.bulkhead.enabled", havingValue = "true", matchIfMissing = true)
+public class DatabaseBulkheadConfig {
+
+    @Bean
+    public static BeanPostProcessor bulkheadDataSourcePostProcessor(Environment environment) {
+        int maxConcurrent = environment.getProperty("database.bulkhead.max-concurrent", Integer.class, 10);
+        long acquireTimeoutMs = environment.getProperty("database.bulkhead.acquire-timeout-ms", Long.class, 2000L);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof BulkheadDataSource)) {
+                    return new BulkheadDataSource(dataSource, maxConcurrent, acquireTimeoutMs);
+                }
+                return bean;
+            }
+        };
+    }
+}
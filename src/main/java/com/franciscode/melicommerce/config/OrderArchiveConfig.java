@@ -0,0 +1,20 @@
+package com.franciscode.melicommerce.config;
+
+import com.franciscode.melicommerce.repositories.archive.OrderArchive;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+@Configuration
+@ConditionalOnProperty(name = "orders.archive.enabled", havingValue = "true")
+public class OrderArchiveConfig {
+
+    @Bean
+    public OrderArchive orderArchive(@Value("${orders.archive.dir}") String directory,
+                                     @Value("${orders.archive.row-group-size:1024}") int rowGroupSize) {
+        return new OrderArchive(Path.of(directory), rowGroupSize);
+    }
+}
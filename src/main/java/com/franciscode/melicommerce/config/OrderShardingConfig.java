@@ -0,0 +1,45 @@
+package com.franciscode.melicommerce.config;
+
+import com.franciscode.melicommerce.repositories.sharding.ShardRouter;
+import com.franciscode.melicommerce.repositories.sharding.ShardedOrderRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+@Configuration
+@ConditionalOnProperty(name = "orders.sharding.enabled", havingValue = "true")
+public class OrderShardingConfig {
+
+    @Bean
+    public ShardRouter shardRouter(@Value("${orders.sharding.urls}") List<String> urls,
+                                   @Value("${orders.sharding.virtual-nodes:64}") int virtualNodes) {
+        return new ShardRouter(urls.size(), virtualNodes);
+    }
+
+    @Bean(destroyMethod = "close")
+    public ShardedOrderRepository shardedOrderRepository(ShardRouter router,
+                                                         @Value("${orders.sharding.urls}") List<String> urls,
+                                                         @Value("${orders.sharding.username:sa}") String username,
+                                                         @Value("${orders.sharding.password:}") String password,
+                                                         @Value("${orders.sharding.pool-size:5}") int poolSize) {
+        List<DataSource> shards = new ArrayList<>(urls.size());
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource dataSource = DataSourceBuilder.create().type(HikariDataSource.class)
+                    .url(urls.get(i).trim()).username(username).password(password).build();
+            dataSource.setPoolName("orders-shard-" + i);
+            dataSource.setMaximumPoolSize(poolSize);
+            Flyway.configure().dataSource(dataSource).locations("classpath:db/shard").load().migrate();
+            shards.add(dataSource);
+        }
+        return new ShardedOrderRepository(shards, router, Executors.newVirtualThreadPerTaskExecutor());
+    }
+}
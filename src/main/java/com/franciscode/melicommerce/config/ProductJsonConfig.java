@@ -0,0 +1,17 @@
+package com.franciscode.melicommerce.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "products.json-writer.enabled", havingValue = "true", matchIfMissing = true)
+public class ProductJsonConfig {
+
+    @Bean
+    public ProductJsonHttpMessageConverter productJsonHttpMessageConverter(
+            @Value("${products.json-writer.pool-size:64}") int poolSize) {
+        return new ProductJsonHttpMessageConverter(poolSize);
+    }
+}
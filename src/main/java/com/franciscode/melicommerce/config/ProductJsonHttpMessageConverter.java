@@ -0,0 +1,85 @@
+package com.franciscode.melicommerce.config;
+
+import com.franciscode.melicommerce.dto.CustomError;
+import com.franciscode.melicommerce.dto.ProductDTO;
+import com.franciscode.melicommerce.dto.ProductJsonWriter;
+import com.franciscode.melicommerce.dto.ProductPageDTO;
+import com.franciscode.melicommerce.dto.ProductSummaryDTO;
+import com.franciscode.melicommerce.dto.SparseProductDTO;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+public class ProductJsonHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    private final BlockingQueue<ProductJsonWriter> writers;
+
+    public ProductJsonHttpMessageConverter(int poolSize) {
+        super(MediaType.APPLICATION_JSON);
+        this.writers = new ArrayBlockingQueue<>(Math.max(1, poolSize));
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return isProduct(clazz) || ProductPageDTO.class.isAssignableFrom(clazz) || CustomError.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        if (!canWrite(mediaType)) {
+            return false;
+        }
+        if (type != null && List.class.isAssignableFrom(clazz)) {
+            Class<?> element = ResolvableType.forType(type).asCollection().resolveGeneric(0);
+            return element != null && isProduct(element);
+        }
+        return supports(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Conversor de produtos é somente leitura", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Conversor de produtos é somente leitura", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object value, Type type, HttpOutputMessage outputMessage) throws IOException {
+        ProductJsonWriter writer = writers.poll();
+        if (writer == null) {
+            writer = new ProductJsonWriter();
+        }
+        try {
+            writer.write(value, outputMessage.getBody());
+        } finally {
+            writers.offer(writer);
+        }
+    }
+
+    private static boolean isProduct(Class<?> clazz) {
+        return ProductDTO.class.isAssignableFrom(clazz) || ProductSummaryDTO.class.isAssignableFrom(clazz)
+                || SparseProductDTO.class.isAssignableFrom(clazz);
+    }
+}
@@ -0,0 +1,32 @@
+package com.franciscode.melicommerce.config;
+
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+@Profile("reactive")
+public class ReactiveCatalogConfig {
+
+    @Bean
+    public DatabaseClient catalogDatabaseClient(@Value("${catalog.reactive.url}") String url,
+                                                @Value("${spring.datasource.username:}") String username,
+                                                @Value("${spring.datasource.password:}") String password) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        return DatabaseClient.create(ConnectionFactories.get(options));
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler catalogScheduler(@Value("${catalog.reactive.threads:4}") int threads) {
+        return Schedulers.newBoundedElastic(threads, Integer.MAX_VALUE, "catalog-db");
+    }
+}
@@ -0,0 +1,70 @@
+package com.franciscode.melicommerce.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class ReadWriteRoutingConfig {
+
+    @Bean
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(@Value("${datasource.replica.url}") String url,
+                                              @Value("${datasource.replica.username:sa}") String username,
+                                              @Value("${datasource.replica.password:}") String password,
+                                              @Value("${datasource.replica.pool-size:10}") int poolSize) {
+        HikariDataSource dataSource = DataSourceBuilder.create().type(HikariDataSource.class)
+                .url(url).username(username).password(password).build();
+        dataSource.setPoolName("replica");
+        dataSource.setMaximumPoolSize(poolSize);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "stop")
+    public ReplicaMonitor replicaMonitor(@Qualifier("primaryDataSource") DataSource primary,
+                                         @Qualifier("replicaDataSource") DataSource replica,
+                                         DataSourceProperties properties,
+                                         @Value("${datasource.replica.link-from-primary:false}") boolean linkFromPrimary,
+                                         @Value("${datasource.replica.max-lag-ms:5000}") long maxLagMs,
+                                         @Value("${datasource.replica.heartbeat-ms:1000}") long heartbeatMs) {
+        ReplicaMonitor monitor = new ReplicaMonitor(primary, replica, maxLagMs, heartbeatMs);
+        if (linkFromPrimary) {
+            monitor.linkTablesFrom(properties.determineUrl(), properties.determineUsername(), properties.determinePassword());
+        }
+        return monitor;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReplicaMonitor replicaMonitor) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+        proxy.setReadOnlyDataSource(new ReplicaFallbackDataSource(replica, primary, replicaMonitor));
+        return proxy;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        event.getApplicationContext().getBean(ReplicaMonitor.class).start();
+    }
+}
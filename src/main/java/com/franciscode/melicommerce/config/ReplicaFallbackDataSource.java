@@ -0,0 +1,29 @@
+package com.franciscode.melicommerce.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+public class ReplicaFallbackDataSource extends DelegatingDataSource {
+
+    private final DataSource primary;
+    private final ReplicaMonitor monitor;
+
+    public ReplicaFallbackDataSource(DataSource replica, DataSource primary, ReplicaMonitor monitor) {
+        super(replica);
+        this.primary = primary;
+        this.monitor = monitor;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return monitor.isAvailable() ? super.getConnection() : primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return monitor.isAvailable() ? super.getConnection(username, password) : primary.getConnection(username, password);
+    }
+}
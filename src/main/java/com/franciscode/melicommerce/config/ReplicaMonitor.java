@@ -0,0 +1,101 @@
+package com.franciscode.melicommerce.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+public class ReplicaMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaMonitor.class);
+
+    static final String HEARTBEAT_TABLE = "TB_REPLICA_HEARTBEAT";
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final long maxLagMs;
+    private final long heartbeatMs;
+    private final LongSupplier clock;
+
+    private String linkUrl;
+    private String linkUsername;
+    private String linkPassword;
+
+    private volatile boolean available;
+    private volatile long lagMs = -1L;
+    private ScheduledExecutorService executor;
+
+    public ReplicaMonitor(DataSource primary, DataSource replica, long maxLagMs, long heartbeatMs) {
+        this(new JdbcTemplate(primary), new JdbcTemplate(replica), maxLagMs, heartbeatMs, System::currentTimeMillis);
+    }
+
+    ReplicaMonitor(JdbcTemplate primary, JdbcTemplate replica, long maxLagMs, long heartbeatMs, LongSupplier clock) {
+        this.primary = primary;
+        this.replica = replica;
+        this.maxLagMs = maxLagMs;
+        this.heartbeatMs = heartbeatMs;
+        this.clock = clock;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public long getLagMs() {
+        return lagMs;
+    }
+
+    public void linkTablesFrom(String url, String username, String password) {
+        this.linkUrl = url;
+        this.linkUsername = username;
+        this.linkPassword = password;
+    }
+
+    public synchronized void start() {
+        if (linkUrl != null) {
+            linkTables();
+        }
+        check();
+        executor = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("replica-monitor").factory());
+        executor.scheduleWithFixedDelay(this::check, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+        available = false;
+    }
+
+    private void linkTables() {
+        List<String> tables = primary.queryForList("SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES "
+                + "WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE'", String.class);
+        for (String table : tables) {
+            replica.execute("CREATE LINKED TABLE IF NOT EXISTS \"" + table + "\"('org.h2.Driver', '" + linkUrl + "', '"
+                    + linkUsername + "', '" + linkPassword + "', 'PUBLIC', '\"" + table + "\"') READONLY");
+        }
+    }
+
+    void check() {
+        try {
+            long now = clock.getAsLong();
+            primary.update("MERGE INTO " + HEARTBEAT_TABLE + " (id, beat_at) KEY (id) VALUES (1, ?)", now);
+            Long beat = replica.queryForObject("SELECT beat_at FROM " + HEARTBEAT_TABLE + " WHERE id = 1", Long.class);
+            lagMs = beat == null ? Long.MAX_VALUE : Math.max(0L, now - beat);
+            available = lagMs <= maxLagMs;
+        } catch (RuntimeException e) {
+            if (available) {
+                log.warn("Replica indisponivel; leituras voltam para o primario", e);
+            }
+            lagMs = -1L;
+            available = false;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.franciscode.melicommerce.config;
+
+import java.util.Locale;
+
+public final class RequestTiming {
+
+    public static final String HEADER = "Server-Timing";
+
+    public enum Phase {
+        HANDLER("handler"),
+        SERVICE("service"),
+        REPOSITORY("repository"),
+        SERIALIZATION("serialization");
+
+        private final String key;
+
+        Phase(String key) {
+            this.key = key;
+        }
+
+        public String getKey() {
+            return key;
+        }
+    }
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+    private static final Phase[] PHASES = Phase.values();
+
+    private final long start = System.nanoTime();
+    private final long[] nanos = new long[PHASES.length];
+    private final int[] counts = new int[PHASES.length];
+    private final int[] depth = new int[PHASES.length];
+    private final long[] started = new long[PHASES.length];
+
+    private RequestTiming() {
+    }
+
+    public static RequestTiming start() {
+        RequestTiming timing = new RequestTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    public static RequestTiming current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public void begin(Phase phase) {
+        int index = phase.ordinal();
+        if (depth[index]++ == 0) {
+            started[index] = System.nanoTime();
+        }
+    }
+
+    public void end(Phase phase) {
+        int index = phase.ordinal();
+        if (depth[index] > 0 && --depth[index] == 0) {
+            nanos[index] += System.nanoTime() - started[index];
+            counts[index]++;
+        }
+    }
+
+    public void add(Phase phase, long elapsedNanos) {
+        nanos[phase.ordinal()] += elapsedNanos;
+        counts[phase.ordinal()]++;
+    }
+
+    public long getNanos(Phase phase) {
+        return nanos[phase.ordinal()];
+    }
+
+    public int getCount(Phase phase) {
+        return counts[phase.ordinal()];
+    }
+
+    public long getElapsedNanos() {
+        return System.nanoTime() - start;
+    }
+
+    public String toHeader() {
+        StringBuilder header = new StringBuilder(128);
+        for (Phase phase : PHASES) {
+            if (counts[phase.ordinal()] > 0) {
+                append(header, phase.getKey(), nanos[phase.ordinal()]);
+                if (phase == Phase.REPOSITORY) {
+                    header.append(";desc=\"").append(counts[phase.ordinal()]).append(" chamada(s)\"");
+                }
+            }
+        }
+        append(header, "total", getElapsedNanos());
+        return header.toString();
+    }
+
+    private static void append(StringBuilder header, String name, long elapsedNanos) {
+        if (!header.isEmpty()) {
+            header.append(", ");
+        }
+        header.append(name).append(";dur=").append(String.format(Locale.ROOT, "%.3f", elapsedNanos / 1_000_000.0));
+    }
+}
@@ -0,0 +1,96 @@
+package com.franciscode.melicommerce.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+@ConditionalOnProperty(name = "request-timing.enabled", havingValue = "true", matchIfMissing = true)
+public class RequestTimingConfig {
+
+    @Bean
+    public FilterRegistrationBean<RequestTimingFilter> requestTimingFilter(MeterRegistry registry,
+                                                                           @Value("${request-timing.header:true}") boolean header) {
+        FilterRegistrationBean<RequestTimingFilter> registration =
+                new FilterRegistrationBean<>(new RequestTimingFilter(registry, header));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    @Bean
+    public WebMvcConfigurer requestTimingInterceptor() {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new HandlerInterceptor() {
+                    @Override
+                    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                        RequestTiming timing = RequestTiming.current();
+                        if (timing != null) {
+                            timing.begin(RequestTiming.Phase.HANDLER);
+                        }
+                        return true;
+                    }
+                });
+            }
+        };
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor requestTimingServiceAdvisor() {
+        MethodInterceptor interceptor = invocation -> {
+            RequestTiming timing = RequestTiming.current();
+            if (timing == null) {
+                return invocation.proceed();
+            }
+            timing.begin(RequestTiming.Phase.SERVICE);
+            try {
+                return invocation.proceed();
+            } finally {
+                timing.end(RequestTiming.Phase.SERVICE);
+            }
+        };
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(new AnnotationMatchingPointcut(Service.class, true), interceptor);
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    @Bean
+    public static BeanPostProcessor requestTimingRepositoryPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addInvocationListener(invocation -> {
+                        RequestTiming timing = RequestTiming.current();
+                        if (timing != null) {
+                            timing.add(RequestTiming.Phase.REPOSITORY, invocation.getDuration(TimeUnit.NANOSECONDS));
+                        }
+                    }));
+                }
+                return bean;
+            }
+        };
+    }
+}
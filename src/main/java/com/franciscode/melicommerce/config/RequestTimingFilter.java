@@ -0,0 +1,65 @@
+package com.franciscode.melicommerce.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+public class RequestTimingFilter extends OncePerRequestFilter {
+
+    public static final String METRIC = "http.server.requests.phases";
+
+    private final Meter.MeterProvider<Timer> timers;
+    private final boolean header;
+
+    public RequestTimingFilter(MeterRegistry registry, boolean header) {
+        this.timers = Timer.builder(METRIC)
+                .description("Tempo por fase (handler, service, repository, serialization) das requisições HTTP")
+                .withRegistry(registry);
+        this.header = header;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestTiming timing = RequestTiming.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            timing.end(RequestTiming.Phase.HANDLER);
+            timing.end(RequestTiming.Phase.SERIALIZATION);
+            RequestTiming.clear();
+            if (header && !response.isCommitted()) {
+                response.setHeader(RequestTiming.HEADER, timing.toHeader());
+            }
+            record(request, response, timing);
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, RequestTiming timing) {
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri(request, response),
+                "status", String.valueOf(response.getStatus()));
+        for (RequestTiming.Phase phase : RequestTiming.Phase.values()) {
+            if (timing.getCount(phase) > 0) {
+                timers.withTags(tags.and("phase", phase.getKey())).record(timing.getNanos(phase), TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private static String uri(HttpServletRequest request, HttpServletResponse response) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern != null) {
+            return pattern.toString();
+        }
+        return response.getStatus() == HttpServletResponse.SC_NOT_FOUND ? "NOT_FOUND" : "UNKNOWN";
+    }
+}
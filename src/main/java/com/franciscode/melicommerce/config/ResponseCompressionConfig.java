@@ -0,0 +1,33 @@
+package com.franciscode.melicommerce.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+@Configuration
+@Profile("!reactive")
+@ConditionalOnProperty(name = "products.response-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class ResponseCompressionConfig {
+
+    @Bean
+    public CompressedResponseCache compressedResponseCache(MeterRegistry registry,
+                                                           @Value("${products.response-cache.max-bytes:8388608}") long maxBytes,
+                                                           @Value("${products.response-cache.expire-after-write-seconds:60}") long expireSeconds) {
+        return new CompressedResponseCache(maxBytes, Duration.ofSeconds(expireSeconds), registry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<CompressedResponseCacheFilter> compressedResponseCacheFilter(CompressedResponseCache cache) {
+        FilterRegistrationBean<CompressedResponseCacheFilter> registration =
+                new FilterRegistrationBean<>(new CompressedResponseCacheFilter(cache));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 12);
+        return registration;
+    }
+}
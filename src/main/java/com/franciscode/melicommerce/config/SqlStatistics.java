@@ -0,0 +1,167 @@
+package com.franciscode.melicommerce.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+public class SqlStatistics {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatistics.class);
+    private static final String OTHERS = "(outros)";
+    private static final int SHAPE_CACHE_LIMIT = 10_000;
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final long slowThresholdNanos;
+    private final int nPlusOneThreshold;
+    private final int maxStatements;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, String> shapes = new ConcurrentHashMap<>();
+    private final LongAdder slowStatements = new LongAdder();
+    private final ThreadLocal<Map<Entry, int[]>> requestExecutions = new ThreadLocal<>();
+
+    public SqlStatistics(long slowThresholdMs, int nPlusOneThreshold, int maxStatements) {
+        this.slowThresholdNanos = slowThresholdMs <= 0 ? Long.MAX_VALUE : TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+        this.nPlusOneThreshold = nPlusOneThreshold <= 0 ? Integer.MAX_VALUE : nPlusOneThreshold;
+        this.maxStatements = maxStatements;
+    }
+
+    public Entry entry(String sql) {
+        String shape = shapes.get(sql);
+        if (shape == null) {
+            shape = shape(sql);
+            if (shapes.size() < SHAPE_CACHE_LIMIT) {
+                shapes.put(sql, shape);
+            }
+        }
+        Entry entry = entries.get(shape);
+        if (entry != null) {
+            return entry;
+        }
+        if (entries.size() >= maxStatements) {
+            return entries.computeIfAbsent(OTHERS, Entry::new);
+        }
+        return entries.computeIfAbsent(shape, Entry::new);
+    }
+
+    public void record(Entry entry, String sql, long elapsedNanos, boolean failed) {
+        entry.count.increment();
+        entry.totalNanos.add(elapsedNanos);
+        entry.maxNanos.accumulate(elapsedNanos);
+        if (failed) {
+            entry.errors.increment();
+        }
+        if (elapsedNanos >= slowThresholdNanos) {
+            slowStatements.increment();
+            log.warn("SQL lento ({} ms): {}", String.format(Locale.ROOT, "%.1f", elapsedNanos / 1_000_000.0),
+                    WHITESPACE.matcher(sql).replaceAll(" ").strip());
+        }
+        Map<Entry, int[]> executions = requestExecutions.get();
+        if (executions != null) {
+            executions.computeIfAbsent(entry, key -> new int[1])[0]++;
+        }
+    }
+
+    public void beginRequest() {
+        requestExecutions.set(new HashMap<>());
+    }
+
+    public void endRequest(String request) {
+        Map<Entry, int[]> executions = requestExecutions.get();
+        requestExecutions.remove();
+        if (executions == null) {
+            return;
+        }
+        executions.forEach((entry, count) -> {
+            if (entry.query && count[0] >= nPlusOneThreshold) {
+                entry.nPlusOne.increment();
+                if (entry.warned.compareAndSet(false, true)) {
+                    log.warn("Possível N+1 em {}: o mesmo SELECT rodou {} vezes na requisição: {}", request, count[0], entry.shape);
+                }
+            }
+        });
+    }
+
+    public List<Entry> getEntries() {
+        return List.copyOf(entries.values());
+    }
+
+    public long getSlowStatements() {
+        return slowStatements.sum();
+    }
+
+    public void clear() {
+        entries.clear();
+        slowStatements.reset();
+    }
+
+    public static String shape(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("in (?...)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").strip();
+    }
+
+    public static class Entry {
+
+        private final String shape;
+        private final boolean query;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder nPlusOne = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+        private final AtomicBoolean warned = new AtomicBoolean();
+
+        private Entry(String shape) {
+            this.shape = shape;
+            String start = shape.length() > 6 ? shape.substring(0, 6).toLowerCase(Locale.ROOT) : shape.toLowerCase(Locale.ROOT);
+            this.query = start.startsWith("select") || start.startsWith("with");
+        }
+
+        public void addRow() {
+            rows.increment();
+        }
+
+        public String getShape() {
+            return shape;
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getErrors() {
+            return errors.sum();
+        }
+
+        public long getRows() {
+            return rows.sum();
+        }
+
+        public long getSuspectedNPlusOne() {
+            return nPlusOne.sum();
+        }
+
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        public long getMaxNanos() {
+            return maxNanos.get();
+        }
+    }
+}
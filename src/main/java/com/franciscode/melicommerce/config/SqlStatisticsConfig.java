@@ -0,0 +1,58 @@
+package com.franciscode.melicommerce.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(name = "sql.statistics.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatisticsConfig {
+
+    @Bean
+    public static SqlStatisticsDataSourcePostProcessor sqlStatisticsDataSourcePostProcessor(Environment environment) {
+        return new SqlStatisticsDataSourcePostProcessor(new SqlStatistics(
+                environment.getProperty("sql.statistics.slow-threshold-ms", Long.class, 100L),
+                environment.getProperty("sql.statistics.n-plus-one-threshold", Integer.class, 5),
+                environment.getProperty("sql.statistics.max-statements", Integer.class, 500)));
+    }
+
+    @Bean
+    public SqlStatistics sqlStatistics(SqlStatisticsDataSourcePostProcessor postProcessor) {
+        return postProcessor.getStatistics();
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatisticsFilter> sqlStatisticsFilter(SqlStatistics statistics) {
+        FilterRegistrationBean<SqlStatisticsFilter> registration = new FilterRegistrationBean<>(new SqlStatisticsFilter(statistics));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 11);
+        return registration;
+    }
+
+    public static class SqlStatisticsDataSourcePostProcessor implements BeanPostProcessor {
+
+        private final SqlStatistics statistics;
+
+        public SqlStatisticsDataSourcePostProcessor(SqlStatistics statistics) {
+            this.statistics = statistics;
+        }
+
+        public SqlStatistics getStatistics() {
+            return statistics;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                    && !(bean instanceof SqlStatisticsDataSource)) {
+                return new SqlStatisticsDataSource(dataSource, statistics);
+            }
+            return bean;
+        }
+    }
+}
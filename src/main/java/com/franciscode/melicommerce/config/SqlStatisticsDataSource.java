@@ -0,0 +1,121 @@
+package com.franciscode.melicommerce.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+public class SqlStatisticsDataSource extends DelegatingDataSource {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate",
+            "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private final SqlStatistics statistics;
+
+    public SqlStatisticsDataSource(DataSource target, SqlStatistics statistics) {
+        super(target);
+        this.statistics = statistics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connection(super.getConnection(username, password));
+    }
+
+    private Connection connection(Connection target) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            String name = method.getName();
+            if (result instanceof Statement statement && method.getReturnType().isInterface()
+                    && (name.startsWith("prepare") || name.equals("createStatement"))) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                return proxy(method.getReturnType(), new StatementHandler(statement, sql));
+            }
+            return result;
+        });
+    }
+
+    private ResultSet rows(ResultSet target, SqlStatistics.Entry entry) {
+        return proxy(ResultSet.class, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (Boolean.TRUE.equals(result) && method.getName().equals("next")) {
+                entry.addRow();
+            }
+            return result;
+        });
+    }
+
+    private class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String sql;
+        private String batchSql;
+        private SqlStatistics.Entry last;
+
+        private StatementHandler(Statement target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (EXECUTE_METHODS.contains(name)) {
+                return execute(method, args);
+            }
+            Object result = SqlStatisticsDataSource.invoke(target, method, args);
+            if (name.equals("addBatch") && args != null && args.length == 1 && args[0] instanceof String text) {
+                batchSql = text;
+            }
+            else if (name.equals("getResultSet") && result instanceof ResultSet resultSet && last != null) {
+                return rows(resultSet, last);
+            }
+            return result;
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            String executed = args != null && args.length > 0 && args[0] instanceof String text ? text
+                    : sql != null ? sql : batchSql;
+            if (executed == null) {
+                return SqlStatisticsDataSource.invoke(target, method, args);
+            }
+            SqlStatistics.Entry entry = statistics.entry(executed);
+            last = entry;
+            boolean failed = true;
+            long start = System.nanoTime();
+            try {
+                Object result = SqlStatisticsDataSource.invoke(target, method, args);
+                failed = false;
+                return result instanceof ResultSet resultSet ? rows(resultSet, entry) : result;
+            } finally {
+                statistics.record(entry, executed, System.nanoTime() - start, failed);
+            }
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+}
@@ -0,0 +1,103 @@
+package com.franciscode.melicommerce.controllers;
+
+import com.franciscode.melicommerce.config.ReplicaMonitor;
+import com.franciscode.melicommerce.dto.CacheStatisticsDTO;
+import com.franciscode.melicommerce.dto.CatalogSnapshotDTO;
+import com.franciscode.melicommerce.dto.OrderArchiveDTO;
+import com.franciscode.melicommerce.dto.OrderSummaryDTO;
+import com.franciscode.melicommerce.dto.ReplicaStatusDTO;
+import com.franciscode.melicommerce.dto.SqlStatisticsDTO;
+import com.franciscode.melicommerce.entities.OrderStatus;
+import com.franciscode.melicommerce.services.CacheStatisticsService;
+import com.franciscode.melicommerce.services.CatalogSnapshotService;
+import com.franciscode.melicommerce.services.OrderArchiveService;
+import com.franciscode.melicommerce.services.OrderHistoryService;
+import com.franciscode.melicommerce.services.SqlStatisticsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping(value = "/admin")
+public class AdminController {
+
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+
+    @Autowired
+    private OrderHistoryService orderHistoryService;
+
+    @Autowired
+    private OrderArchiveService orderArchiveService;
+
+    @Autowired
+    private CatalogSnapshotService catalogSnapshotService;
+
+    @Autowired
+    private SqlStatisticsService sqlStatisticsService;
+
+    @Autowired(required = false)
+    private ReplicaMonitor replicaMonitor;
+
+    @GetMapping(value = "/cache")
+    public ResponseEntity<CacheStatisticsDTO> getCacheStatistics() {
+        return ResponseEntity.ok(cacheStatisticsService.getStatistics());
+    }
+
+    @DeleteMapping(value = "/cache/statistics")
+    public ResponseEntity<Void> clearCacheStatistics() {
+        cacheStatisticsService.clear();
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping(value = "/sql")
+    public ResponseEntity<SqlStatisticsDTO> getSqlStatistics(
+            @RequestParam(value = "sort", defaultValue = "total") String sort,
+            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        return ResponseEntity.ok(sqlStatisticsService.getStatistics(sort, limit));
+    }
+
+    @DeleteMapping(value = "/sql/statistics")
+    public ResponseEntity<Void> clearSqlStatistics() {
+        sqlStatisticsService.clear();
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping(value = "/datasource")
+    public ResponseEntity<ReplicaStatusDTO> getReplicaStatus() {
+        if (replicaMonitor == null) {
+            return ResponseEntity.ok(new ReplicaStatusDTO(false, false, null));
+        }
+        long lag = replicaMonitor.getLagMs();
+        return ResponseEntity.ok(new ReplicaStatusDTO(true, replicaMonitor.isAvailable(), lag < 0 ? null : lag));
+    }
+
+    @GetMapping(value = "/orders")
+    public ResponseEntity<List<OrderSummaryDTO>> findRecentOrders(
+            @RequestParam(value = "status", required = false) OrderStatus status,
+            @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        return ResponseEntity.ok(orderHistoryService.findRecent(status, limit));
+    }
+
+    @GetMapping(value = "/orders/archive")
+    public ResponseEntity<OrderArchiveDTO> getOrderArchive() {
+        return ResponseEntity.ok(orderArchiveService.getStatus());
+    }
+
+    @PostMapping(value = "/orders/archive")
+    public ResponseEntity<OrderArchiveDTO> archiveOrders() {
+        return ResponseEntity.ok(orderArchiveService.archive());
+    }
+
+    @GetMapping(value = "/catalog/snapshot")
+    public ResponseEntity<CatalogSnapshotDTO> getCatalogSnapshot() {
+        return ResponseEntity.ok(catalogSnapshotService.getStatus());
+    }
+
+    @PostMapping(value = "/catalog/snapshot")
+    public ResponseEntity<CatalogSnapshotDTO> writeCatalogSnapshot() {
+        return ResponseEntity.ok(catalogSnapshotService.writeSnapshot());
+    }
+}
@@ -0,0 +1,45 @@
+package com.franciscode.melicommerce.controllers;
+
+import com.franciscode.melicommerce.dto.DailySalesDTO;
+import com.franciscode.melicommerce.dto.SalesSummaryDTO;
+import com.franciscode.melicommerce.services.SalesAnalyticsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping(value = "/analytics")
+public class AnalyticsController {
+
+    @Autowired
+    private SalesAnalyticsService service;
+
+    @GetMapping(value = "/products/{id}")
+    public ResponseEntity<SalesSummaryDTO> findByProduct(@PathVariable Long id) {
+        return ResponseEntity.ok(service.findByProduct(id));
+    }
+
+    @GetMapping(value = "/categories/{id}")
+    public ResponseEntity<SalesSummaryDTO> findByCategory(@PathVariable Long id) {
+        return ResponseEntity.ok(service.findByCategory(id));
+    }
+
+    @GetMapping(value = "/daily")
+    public ResponseEntity<List<DailySalesDTO>> findDaily(@RequestParam(value = "days", defaultValue = "30") int days) {
+        return ResponseEntity.ok(service.findDaily(days));
+    }
+
+    @GetMapping(value = "/categories/{id}/daily")
+    public ResponseEntity<List<DailySalesDTO>> findDailyByCategory(@PathVariable Long id,
+                                                                   @RequestParam(value = "days", defaultValue = "30") int days) {
+        return ResponseEntity.ok(service.findDailyByCategory(id, days));
+    }
+
+    @PostMapping(value = "/rebuild")
+    public ResponseEntity<Void> rebuild() {
+        service.rebuild();
+        return ResponseEntity.noContent().build();
+    }
+}
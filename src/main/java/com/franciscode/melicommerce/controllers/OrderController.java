@@ -0,0 +1,60 @@
+package com.franciscode.melicommerce.controllers;
+
+import com.franciscode.melicommerce.dto.OrderDTO;
+import com.franciscode.melicommerce.dto.OrderStatusBatchDTO;
+import com.franciscode.melicommerce.dto.OrderStatusDTO;
+import com.franciscode.melicommerce.entities.OrderStatus;
+import com.franciscode.melicommerce.services.OrderQueueService;
+import com.franciscode.melicommerce.services.OrderService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.util.List;
+
+@RestController
+@RequestMapping(value = "/orders")
+public class OrderController {
+
+    @Autowired
+    private OrderService service;
+
+    @Autowired
+    private OrderQueueService queueService;
+
+    @GetMapping(value = "/{id}")
+    public ResponseEntity<OrderDTO> findById(@PathVariable Long id) {
+        OrderDTO dto = service.findById(id);
+        return ResponseEntity.ok(dto);
+    }
+
+    @PostMapping
+    public ResponseEntity<OrderDTO> insert(@Valid @RequestBody OrderDTO dto) {
+        dto = service.insert(dto);
+        URI uri = ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}")
+                .buildAndExpand(dto.getId()).toUri();
+        return ResponseEntity.created(uri).body(dto);
+    }
+
+    @PutMapping(value = "/{id}/status")
+    public ResponseEntity<OrderDTO> updateStatus(@PathVariable Long id, @Valid @RequestBody OrderStatusDTO dto) {
+        OrderDTO result = service.updateStatus(id, dto.getStatus());
+        return ResponseEntity.ok(result);
+    }
+
+    @PostMapping(value = "/status")
+    public ResponseEntity<Void> updateStatus(@Valid @RequestBody OrderStatusBatchDTO dto) {
+        service.updateStatus(dto.getIds(), dto.getStatus());
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping(value = "/queues/{status}/poll")
+    public ResponseEntity<List<Long>> poll(@PathVariable OrderStatus status,
+                                           @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        List<Long> ids = queueService.poll(status, limit);
+        return ResponseEntity.ok(ids);
+    }
+}
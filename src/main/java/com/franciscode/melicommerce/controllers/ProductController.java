@@ -1,11 +1,12 @@
 package com.franciscode.melicommerce.controllers;
 
 import com.franciscode.melicommerce.dto.ProductDTO;
+import com.franciscode.melicommerce.dto.RelatedProductDTO;
 import com.franciscode.melicommerce.services.ProductService;
+import com.franciscode.melicommerce.services.RankingService;
+import com.franciscode.melicommerce.services.RecommendationService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
@@ -20,22 +21,25 @@ public class ProductController {
     @Autowired
     private ProductService service;
 
-    @GetMapping("/compare")
-    public ResponseEntity<List<ProductDTO>> compareProducts(@RequestParam(value = "ids") String ids) {
-        List<ProductDTO> products = service.compareProductsByIds(ids);
-        return ResponseEntity.ok(products);
-    }
+    @Autowired
+    private RecommendationService recommendationService;
 
-    @GetMapping(value = "/{id}")
-    public ResponseEntity<ProductDTO> findById(@PathVariable Long id) {
-        ProductDTO dto = service.findById(id);
-        return ResponseEntity.ok(dto);
+    @Autowired
+    private RankingService rankingService;
+
+    @GetMapping(value = "/top")
+    public ResponseEntity<List<ProductDTO>> findTop(@RequestParam(value = "by", defaultValue = "rating") String by,
+                                                    @RequestParam(value = "category", required = false) Long category,
+                                                    @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        List<ProductDTO> products = rankingService.findTop(by, category, limit);
+        return ResponseEntity.ok(products);
     }
 
-    @GetMapping
-    public ResponseEntity<Page<ProductDTO>> findAll(Pageable pageable) {
-        Page<ProductDTO> dto = service.findAll(pageable);
-        return ResponseEntity.ok(dto);
+    @GetMapping(value = "/{id}/related")
+    public ResponseEntity<List<RelatedProductDTO>> findRelated(@PathVariable Long id,
+                                                               @RequestParam(value = "limit", defaultValue = "5") int limit) {
+        List<RelatedProductDTO> related = recommendationService.findRelated(id, limit);
+        return ResponseEntity.ok(related);
     }
 
     @PostMapping
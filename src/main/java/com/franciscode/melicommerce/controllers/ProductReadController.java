@@ -0,0 +1,63 @@
+package com.franciscode.melicommerce.controllers;
+
+import com.franciscode.melicommerce.dto.ProductDTO;
+import com.franciscode.melicommerce.dto.ProductPageDTO;
+import com.franciscode.melicommerce.dto.ProductSummaryDTO;
+import com.franciscode.melicommerce.dto.SparseProductDTO;
+import com.franciscode.melicommerce.services.ProductService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping(value = "/products")
+public class ProductReadController {
+
+    @Autowired
+    private ProductService service;
+
+    @GetMapping("/compare")
+    public ResponseEntity<List<ProductDTO>> compareProducts(@RequestParam(value = "ids") String ids) {
+        List<ProductDTO> products = service.compareProductsByIds(ids);
+        return ResponseEntity.ok(products);
+    }
+
+    @GetMapping(value = "/compare", params = "fields")
+    public ResponseEntity<List<SparseProductDTO>> compareProductFields(@RequestParam(value = "ids") String ids,
+                                                                       @RequestParam(value = "fields") String fields) {
+        List<SparseProductDTO> products = service.compareProductsByIds(ids, fields);
+        return ResponseEntity.ok(products);
+    }
+
+    @GetMapping(value = "/{id}")
+    public ResponseEntity<ProductDTO> findById(@PathVariable Long id) {
+        ProductDTO dto = service.findById(id);
+        return ResponseEntity.ok(dto);
+    }
+
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<SparseProductDTO> findFieldsById(@PathVariable Long id,
+                                                           @RequestParam(value = "fields") String fields) {
+        SparseProductDTO dto = service.findById(id, fields);
+        return ResponseEntity.ok(dto);
+    }
+
+    @GetMapping
+    public ResponseEntity<ProductPageDTO<ProductSummaryDTO>> findAll(Pageable pageable) {
+        Page<ProductSummaryDTO> page = service.findAll(pageable);
+        return ResponseEntity.ok(new ProductPageDTO<>(page));
+    }
+
+    @GetMapping(params = "fields")
+    public ResponseEntity<ProductPageDTO<SparseProductDTO>> findAllFields(Pageable pageable,
+                                                                          @RequestParam(value = "fields") String fields) {
+        Page<SparseProductDTO> page = service.findAll(pageable, fields);
+        return ResponseEntity.ok(new ProductPageDTO<>(page));
+    }
+}
@@ -0,0 +1,57 @@
+package com.franciscode.melicommerce.controllers;
+
+import com.franciscode.melicommerce.dto.ProductDTO;
+import com.franciscode.melicommerce.dto.ProductPageDTO;
+import com.franciscode.melicommerce.dto.ProductSummaryDTO;
+import com.franciscode.melicommerce.dto.SparseProductDTO;
+import com.franciscode.melicommerce.services.ReactiveProductService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RestController
+@Profile("reactive")
+@RequestMapping(value = "/products")
+public class ReactiveProductReadController {
+
+    @Autowired
+    private ReactiveProductService service;
+
+    @GetMapping("/compare")
+    public Mono<ResponseEntity<List<ProductDTO>>> compareProducts(@RequestParam(value = "ids") String ids) {
+        return service.compareProductsByIds(ids).map(ResponseEntity::ok);
+    }
+
+    @GetMapping(value = "/compare", params = "fields")
+    public Mono<ResponseEntity<List<SparseProductDTO>>> compareProductFields(@RequestParam(value = "ids") String ids,
+                                                                             @RequestParam(value = "fields") String fields) {
+        return service.compareProductsByIds(ids, fields).map(ResponseEntity::ok);
+    }
+
+    @GetMapping(value = "/{id}")
+    public Mono<ResponseEntity<ProductDTO>> findById(@PathVariable Long id) {
+        return service.findById(id).map(ResponseEntity::ok);
+    }
+
+    @GetMapping(value = "/{id}", params = "fields")
+    public Mono<ResponseEntity<SparseProductDTO>> findFieldsById(@PathVariable Long id,
+                                                                 @RequestParam(value = "fields") String fields) {
+        return service.findById(id, fields).map(ResponseEntity::ok);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<ProductPageDTO<ProductSummaryDTO>>> findAll(Pageable pageable) {
+        return service.findAll(pageable).map(page -> ResponseEntity.ok(new ProductPageDTO<>(page)));
+    }
+
+    @GetMapping(params = "fields")
+    public Mono<ResponseEntity<ProductPageDTO<SparseProductDTO>>> findAllFields(Pageable pageable,
+                                                                                @RequestParam(value = "fields") String fields) {
+        return service.findAll(pageable, fields).map(page -> ResponseEntity.ok(new ProductPageDTO<>(page)));
+    }
+}
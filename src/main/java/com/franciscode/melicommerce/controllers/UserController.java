@@ -0,0 +1,24 @@
+package com.franciscode.melicommerce.controllers;
+
+import com.franciscode.melicommerce.dto.OrderSummaryDTO;
+import com.franciscode.melicommerce.services.OrderHistoryService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping(value = "/users")
+public class UserController {
+
+    @Autowired
+    private OrderHistoryService orderHistoryService;
+
+    @GetMapping(value = "/{id}/orders")
+    public ResponseEntity<List<OrderSummaryDTO>> findOrders(@PathVariable Long id,
+                                                            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        List<OrderSummaryDTO> orders = orderHistoryService.findByClient(id, limit);
+        return ResponseEntity.ok(orders);
+    }
+}
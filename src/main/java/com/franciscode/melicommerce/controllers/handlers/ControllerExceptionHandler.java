@@ -3,36 +3,65 @@ package com.franciscode.melicommerce.controllers.handlers;
 import com.franciscode.melicommerce.dto.CustomError;
 import com.franciscode.melicommerce.services.exceptions.BadRequestException;
 import com.franciscode.melicommerce.services.exceptions.DatabaseException;
+import com.franciscode.melicommerce.services.exceptions.DomainException;
 import com.franciscode.melicommerce.services.exceptions.ResourceNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @ControllerAdvice
 public class ControllerExceptionHandler {
 
+    public static final String METRIC = "http.server.errors";
+
+    private final Map<Class<?>, Counter> counters = new ConcurrentHashMap<>();
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<CustomError> resourceNotFound(ResourceNotFoundException e, HttpServletRequest request) {
-        HttpStatus status = HttpStatus.NOT_FOUND;
-        CustomError err = new CustomError(Instant.now(), status.value(), e.getMessage(), request.getRequestURI());
-        return ResponseEntity.status(status).body(err);
+        return error(HttpStatus.NOT_FOUND, e, request);
     }
 
     @ExceptionHandler(DatabaseException.class)
     public ResponseEntity<CustomError> database(DatabaseException e, HttpServletRequest request) {
-        HttpStatus status = HttpStatus.BAD_REQUEST;
-        CustomError err = new CustomError(Instant.now(), status.value(), e.getMessage(), request.getRequestURI());
-        return ResponseEntity.status(status).body(err);
+        return error(HttpStatus.BAD_REQUEST, e, request);
     }
 
     @ExceptionHandler(BadRequestException.class)
     public ResponseEntity<CustomError> badRequest(BadRequestException e, HttpServletRequest request) {
-        HttpStatus status = HttpStatus.BAD_REQUEST;
-        CustomError err = new CustomError(Instant.now(), status.value(), e.getMessage(), request.getRequestURI());
+        return error(HttpStatus.BAD_REQUEST, e, request);
+    }
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<CustomError> argumentTypeMismatch(MethodArgumentTypeMismatchException e, HttpServletRequest request) {
+        return error(HttpStatus.BAD_REQUEST, e, "Valor inválido para o parâmetro '" + e.getName() + "': '" + e.getValue() + "'.", request);
+    }
+
+    private ResponseEntity<CustomError> error(HttpStatus status, DomainException e, HttpServletRequest request) {
+        return error(status, e, e.getMessage(), request);
+    }
+
+    private ResponseEntity<CustomError> error(HttpStatus status, Exception e, String message, HttpServletRequest request) {
+        if (meterRegistry != null) {
+            counters.computeIfAbsent(e.getClass(), type -> Counter.builder(METRIC)
+                    .description("Erros devolvidos pela API, por tipo de exceção")
+                    .tag("exception", type.getSimpleName())
+                    .tag("status", String.valueOf(status.value()))
+                    .register(meterRegistry)).increment();
+        }
+        CustomError err = new CustomError(Instant.now(), status.value(), message, request.getRequestURI());
         return ResponseEntity.status(status).body(err);
     }
-}
\ No newline at end of file
+}
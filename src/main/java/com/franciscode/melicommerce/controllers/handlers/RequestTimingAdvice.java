@@ -0,0 +1,40 @@
+package com.franciscode.melicommerce.controllers.handlers;
+
+import com.franciscode.melicommerce.config.RequestTiming;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+@ControllerAdvice
+@ConditionalOnProperty(name = "request-timing.enabled", havingValue = "true", matchIfMissing = true)
+public class RequestTimingAdvice implements ResponseBodyAdvice<Object> {
+
+    @Value("${request-timing.header:true}")
+    private boolean header;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestTiming timing = RequestTiming.current();
+        if (timing != null) {
+            timing.end(RequestTiming.Phase.HANDLER);
+            timing.begin(RequestTiming.Phase.SERIALIZATION);
+            if (header) {
+                response.getHeaders().set(RequestTiming.HEADER, timing.toHeader());
+            }
+        }
+        return body;
+    }
+}
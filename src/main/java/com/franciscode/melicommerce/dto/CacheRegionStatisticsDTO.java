@@ -0,0 +1,38 @@
+package com.franciscode.melicommerce.dto;
+
+public class CacheRegionStatisticsDTO {
+
+    private String region;
+    private Long hitCount;
+    private Long missCount;
+    private Long putCount;
+    private Long elementCount;
+
+    public CacheRegionStatisticsDTO(String region, Long hitCount, Long missCount, Long putCount, Long elementCount) {
+        this.region = region;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.putCount = putCount;
+        this.elementCount = elementCount;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public Long getHitCount() {
+        return hitCount;
+    }
+
+    public Long getMissCount() {
+        return missCount;
+    }
+
+    public Long getPutCount() {
+        return putCount;
+    }
+
+    public Long getElementCount() {
+        return elementCount;
+    }
+}
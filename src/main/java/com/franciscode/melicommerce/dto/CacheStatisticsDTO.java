@@ -0,0 +1,35 @@
+package com.franciscode.melicommerce.dto;
+
+import java.util.List;
+
+public class CacheStatisticsDTO {
+
+    private Long queryCacheHitCount;
+    private Long queryCacheMissCount;
+    private Long queryCachePutCount;
+    private List<CacheRegionStatisticsDTO> regions;
+
+    public CacheStatisticsDTO(Long queryCacheHitCount, Long queryCacheMissCount, Long queryCachePutCount,
+                              List<CacheRegionStatisticsDTO> regions) {
+        this.queryCacheHitCount = queryCacheHitCount;
+        this.queryCacheMissCount = queryCacheMissCount;
+        this.queryCachePutCount = queryCachePutCount;
+        this.regions = regions;
+    }
+
+    public Long getQueryCacheHitCount() {
+        return queryCacheHitCount;
+    }
+
+    public Long getQueryCacheMissCount() {
+        return queryCacheMissCount;
+    }
+
+    public Long getQueryCachePutCount() {
+        return queryCachePutCount;
+    }
+
+    public List<CacheRegionStatisticsDTO> getRegions() {
+        return regions;
+    }
+}
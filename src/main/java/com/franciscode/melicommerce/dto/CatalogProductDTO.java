@@ -0,0 +1,60 @@
+package com.franciscode.melicommerce.dto;
+
+import com.franciscode.melicommerce.repositories.catalog.CatalogSnapshot;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public class CatalogProductDTO extends ProductDTO {
+
+    private final CatalogSnapshot snapshot;
+    private final int slot;
+
+    public CatalogProductDTO(CatalogSnapshot snapshot, int slot) {
+        this.snapshot = snapshot;
+        this.slot = slot;
+    }
+
+    @Override
+    public Long getId() {
+        return snapshot.id(slot);
+    }
+
+    @Override
+    public String getName() {
+        return snapshot.string(CatalogSnapshot.NAME, slot);
+    }
+
+    @Override
+    public String getDescription() {
+        return snapshot.string(CatalogSnapshot.DESCRIPTION, slot);
+    }
+
+    @Override
+    public Double getPrice() {
+        return snapshot.price(slot);
+    }
+
+    @Override
+    public String getImgUrl() {
+        return snapshot.string(CatalogSnapshot.IMG_URL, slot);
+    }
+
+    @Override
+    public Double getRating() {
+        return snapshot.rating(slot);
+    }
+
+    @Override
+    public String getSpecifications() {
+        return snapshot.string(CatalogSnapshot.SPECIFICATIONS, slot);
+    }
+
+    public void writeJson(OutputStream out) throws IOException {
+        snapshot.writeJson(slot, out);
+    }
+
+    public void writeJson(JsonEncoder json) throws IOException {
+        snapshot.writeJson(slot, json);
+    }
+}
@@ -0,0 +1,47 @@
+package com.franciscode.melicommerce.dto;
+
+import java.time.Instant;
+
+public class CatalogSnapshotDTO {
+
+    private Boolean enabled;
+    private Long version;
+    private Instant createdAt;
+    private Integer products;
+    private Integer pendingChanges;
+    private Long sizeBytes;
+
+    public CatalogSnapshotDTO(Boolean enabled, Long version, Instant createdAt, Integer products, Integer pendingChanges,
+                              Long sizeBytes) {
+        this.enabled = enabled;
+        this.version = version;
+        this.createdAt = createdAt;
+        this.products = products;
+        this.pendingChanges = pendingChanges;
+        this.sizeBytes = sizeBytes;
+    }
+
+    public Boolean getEnabled() {
+        return enabled;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Integer getProducts() {
+        return products;
+    }
+
+    public Integer getPendingChanges() {
+        return pendingChanges;
+    }
+
+    public Long getSizeBytes() {
+        return sizeBytes;
+    }
+}
@@ -0,0 +1,28 @@
+package com.franciscode.melicommerce.dto;
+
+import java.time.LocalDate;
+
+public class DailySalesDTO {
+
+    private LocalDate date;
+    private Long unitsSold;
+    private Double revenue;
+
+    public DailySalesDTO(LocalDate date, Long unitsSold, Double revenue) {
+        this.date = date;
+        this.unitsSold = unitsSold;
+        this.revenue = revenue;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public Long getUnitsSold() {
+        return unitsSold;
+    }
+
+    public Double getRevenue() {
+        return revenue;
+    }
+}
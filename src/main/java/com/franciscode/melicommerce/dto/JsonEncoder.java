@@ -0,0 +1,231 @@
+package com.franciscode.melicommerce.dto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public final class JsonEncoder {
+
+    public static final int MIN_CAPACITY = 32;
+
+    private static final byte[] NULL = ascii("null");
+    private static final byte[] UNICODE_ESCAPE = ascii("\\u00");
+    private static final byte[] HEX = ascii("0123456789ABCDEF");
+    private static final long NEGATIVE_ZERO = Double.doubleToRawLongBits(-0.0);
+    private static final double MAX_PLAIN = 1e7;
+    private static final int MAX_CHAR_BYTES = 6;
+    private static final int MAX_NUMBER_BYTES = 26;
+
+    private final byte[] bytes;
+    private OutputStream out;
+    private int length;
+
+    public JsonEncoder(int capacity) {
+        this.bytes = new byte[Math.max(capacity, MIN_CAPACITY)];
+    }
+
+    public void attach(OutputStream out) {
+        this.out = out;
+        this.length = 0;
+    }
+
+    public void detach() {
+        this.out = null;
+        this.length = 0;
+    }
+
+    public void flush() throws IOException {
+        if (length > 0) {
+            out.write(bytes, 0, length);
+            length = 0;
+        }
+    }
+
+    public void writeByte(char value) throws IOException {
+        ensure(1);
+        bytes[length++] = (byte) value;
+    }
+
+    public void writeRaw(byte[] value) throws IOException {
+        ensure(value.length);
+        System.arraycopy(value, 0, bytes, length, value.length);
+        length += value.length;
+    }
+
+    public void writeNull() throws IOException {
+        writeRaw(NULL);
+    }
+
+    public void writeLong(Long value) throws IOException {
+        if (value == null) {
+            writeRaw(NULL);
+        }
+        else {
+            writeLong(value.longValue());
+        }
+    }
+
+    public void writeLong(long value) throws IOException {
+        ensure(MAX_NUMBER_BYTES);
+        if (value == Long.MIN_VALUE) {
+            writeAscii(Long.toString(value));
+            return;
+        }
+        if (value < 0) {
+            bytes[length++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long rest = value / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        int position = length + digits;
+        length = position;
+        do {
+            bytes[--position] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+    }
+
+    public void writeDouble(Double value) throws IOException {
+        if (value == null) {
+            writeRaw(NULL);
+            return;
+        }
+        double number = value;
+        if (Double.isNaN(number) || Double.isInfinite(number)) {
+            writeByte('"');
+            writeAscii(Double.toString(number));
+            writeByte('"');
+        }
+        else if (Math.abs(number) < MAX_PLAIN && Math.rint(number * 100) / 100 == number
+                && Double.doubleToRawLongBits(number) != NEGATIVE_ZERO) {
+            long cents = (long) Math.rint(number * 100);
+            if (cents < 0) {
+                writeByte('-');
+                cents = -cents;
+            }
+            writeLong(cents / 100);
+            writeByte('.');
+            int fraction = (int) (cents % 100);
+            writeByte((char) ('0' + fraction / 10));
+            if (fraction % 10 != 0) {
+                writeByte((char) ('0' + fraction % 10));
+            }
+        }
+        else {
+            writeAscii(Double.toString(number));
+        }
+    }
+
+    public void writeString(String value) throws IOException {
+        if (value == null) {
+            writeRaw(NULL);
+            return;
+        }
+        writeByte('"');
+        int count = value.length();
+        for (int i = 0; i < count; i++) {
+            ensure(MAX_CHAR_BYTES);
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                if (c < 0x20 || c == '"' || c == '\\') {
+                    escape(c);
+                }
+                else {
+                    bytes[length++] = (byte) c;
+                }
+            }
+            else if (c < 0x800) {
+                bytes[length++] = (byte) (0xC0 | (c >> 6));
+                bytes[length++] = (byte) (0x80 | (c & 0x3F));
+            }
+            else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < count && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    bytes[length++] = (byte) (0xF0 | (codePoint >> 18));
+                    bytes[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    bytes[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    bytes[length++] = (byte) (0x80 | (codePoint & 0x3F));
+                }
+                else {
+                    bytes[length++] = '?';
+                }
+            }
+            else {
+                bytes[length++] = (byte) (0xE0 | (c >> 12));
+                bytes[length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                bytes[length++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        writeByte('"');
+    }
+
+    public void writeUtf8String(ByteBuffer source, int from, int to) throws IOException {
+        writeByte('"');
+        int run = from;
+        for (int position = from; position < to; position++) {
+            byte value = source.get(position);
+            if (value == '"' || value == '\\' || (value >= 0 && value < 0x20)) {
+                copy(source, run, position);
+                ensure(MAX_CHAR_BYTES);
+                escape((char) value);
+                run = position + 1;
+            }
+        }
+        copy(source, run, to);
+        writeByte('"');
+    }
+
+    private void writeAscii(String value) throws IOException {
+        ensure(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            bytes[length++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void escape(char c) {
+        byte shortEscape = switch (c) {
+            case '"', '\\' -> (byte) c;
+            case '\b' -> 'b';
+            case '\t' -> 't';
+            case '\n' -> 'n';
+            case '\f' -> 'f';
+            case '\r' -> 'r';
+            default -> 0;
+        };
+        if (shortEscape != 0) {
+            bytes[length++] = '\\';
+            bytes[length++] = shortEscape;
+        }
+        else {
+            System.arraycopy(UNICODE_ESCAPE, 0, bytes, length, UNICODE_ESCAPE.length);
+            length += UNICODE_ESCAPE.length;
+            bytes[length++] = HEX[c >> 4];
+            bytes[length++] = HEX[c & 0xF];
+        }
+    }
+
+    private void copy(ByteBuffer source, int from, int to) throws IOException {
+        while (from < to) {
+            if (length == bytes.length) {
+                flush();
+            }
+            int chunk = Math.min(to - from, bytes.length - length);
+            source.get(from, bytes, length, chunk);
+            length += chunk;
+            from += chunk;
+        }
+    }
+
+    private void ensure(int extra) throws IOException {
+        if (length + extra > bytes.length) {
+            flush();
+        }
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
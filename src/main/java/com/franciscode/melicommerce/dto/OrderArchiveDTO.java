@@ -0,0 +1,38 @@
+package com.franciscode.melicommerce.dto;
+
+public class OrderArchiveDTO {
+
+    private Boolean enabled;
+    private Integer archived;
+    private Integer segments;
+    private Long orders;
+    private Long sizeBytes;
+
+    public OrderArchiveDTO(Boolean enabled, Integer archived, Integer segments, Long orders, Long sizeBytes) {
+        this.enabled = enabled;
+        this.archived = archived;
+        this.segments = segments;
+        this.orders = orders;
+        this.sizeBytes = sizeBytes;
+    }
+
+    public Boolean getEnabled() {
+        return enabled;
+    }
+
+    public Integer getArchived() {
+        return archived;
+    }
+
+    public Integer getSegments() {
+        return segments;
+    }
+
+    public Long getOrders() {
+        return orders;
+    }
+
+    public Long getSizeBytes() {
+        return sizeBytes;
+    }
+}
@@ -0,0 +1,75 @@
+package com.franciscode.melicommerce.dto;
+
+import com.franciscode.melicommerce.entities.Order;
+import com.franciscode.melicommerce.entities.OrderStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+public class OrderDTO {
+
+    private Long id;
+    private Instant moment;
+    private OrderStatus status;
+
+    @NotNull(message = "Campo requerido")
+    private Long clientId;
+
+    @Valid
+    @NotEmpty(message = "O pedido deve ter pelo menos um item")
+    private List<OrderItemDTO> items = new ArrayList<>();
+
+    public OrderDTO() {
+    }
+
+    public OrderDTO(Long id, Instant moment, OrderStatus status, Long clientId, List<OrderItemDTO> items) {
+        this.id = id;
+        this.moment = moment;
+        this.status = status;
+        this.clientId = clientId;
+        this.items = items;
+    }
+
+    public OrderDTO(Order entity) {
+        id = entity.getId();
+        moment = entity.getMoment();
+        status = entity.getStatus();
+        clientId = entity.getClient().getId();
+        items = entity.getItems().stream().map(OrderItemDTO::new).toList();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Instant getMoment() {
+        return moment;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public Long getClientId() {
+        return clientId;
+    }
+
+    public List<OrderItemDTO> getItems() {
+        return items;
+    }
+
+    public Double getTotal() {
+        double sum = 0.0;
+        for (OrderItemDTO item : items) {
+            Double subTotal = item.getSubTotal();
+            if (subTotal != null) {
+                sum += subTotal;
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,54 @@
+package com.franciscode.melicommerce.dto;
+
+import com.franciscode.melicommerce.entities.OrderItem;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public class OrderItemDTO {
+
+    @NotNull(message = "Campo requerido")
+    private Long productId;
+    private String name;
+    private Double price;
+
+    @NotNull(message = "Campo requerido")
+    @Positive(message = "A quantidade deve ser positiva")
+    private Integer quantity;
+
+    public OrderItemDTO() {
+    }
+
+    public OrderItemDTO(Long productId, String name, Double price, Integer quantity) {
+        this.productId = productId;
+        this.name = name;
+        this.price = price;
+        this.quantity = quantity;
+    }
+
+    public OrderItemDTO(OrderItem entity) {
+        productId = entity.getProduct().getId();
+        name = entity.getProduct().getName();
+        price = entity.getPrice();
+        quantity = entity.getQuantity();
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Double getPrice() {
+        return price;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public Double getSubTotal() {
+        return price == null || quantity == null ? null : price * quantity;
+    }
+}
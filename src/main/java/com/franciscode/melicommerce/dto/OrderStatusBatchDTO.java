@@ -0,0 +1,33 @@
+package com.franciscode.melicommerce.dto;
+
+import com.franciscode.melicommerce.entities.OrderStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class OrderStatusBatchDTO {
+
+    @NotEmpty(message = "Informe pelo menos um pedido")
+    private List<Long> ids = new ArrayList<>();
+
+    @NotNull(message = "Campo requerido")
+    private OrderStatus status;
+
+    public OrderStatusBatchDTO() {
+    }
+
+    public OrderStatusBatchDTO(List<Long> ids, OrderStatus status) {
+        this.ids = ids;
+        this.status = status;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,21 @@
+package com.franciscode.melicommerce.dto;
+
+import com.franciscode.melicommerce.entities.OrderStatus;
+import jakarta.validation.constraints.NotNull;
+
+public class OrderStatusDTO {
+
+    @NotNull(message = "Campo requerido")
+    private OrderStatus status;
+
+    public OrderStatusDTO() {
+    }
+
+    public OrderStatusDTO(OrderStatus status) {
+        this.status = status;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+}
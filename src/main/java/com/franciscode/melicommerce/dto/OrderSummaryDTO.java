@@ -0,0 +1,48 @@
+package com.franciscode.melicommerce.dto;
+
+import com.franciscode.melicommerce.entities.OrderStatus;
+
+import java.time.Instant;
+
+public class OrderSummaryDTO {
+
+    private Long id;
+    private Long clientId;
+    private Instant moment;
+    private OrderStatus status;
+    private Long items;
+    private Double total;
+
+    public OrderSummaryDTO(Long id, Long clientId, Instant moment, OrderStatus status, Long items, Double total) {
+        this.id = id;
+        this.clientId = clientId;
+        this.moment = moment;
+        this.status = status;
+        this.items = items;
+        this.total = total;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getClientId() {
+        return clientId;
+    }
+
+    public Instant getMoment() {
+        return moment;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public Long getItems() {
+        return items;
+    }
+
+    public Double getTotal() {
+        return total;
+    }
+}
@@ -0,0 +1,38 @@
+package com.franciscode.melicommerce.dto;
+
+import org.springframework.data.domain.Page;
+
+public class PageMetadataDTO {
+
+    private final int number;
+    private final int size;
+    private final long totalElements;
+    private final int totalPages;
+
+    public PageMetadataDTO(int number, int size, long totalElements, int totalPages) {
+        this.number = number;
+        this.size = size;
+        this.totalElements = totalElements;
+        this.totalPages = totalPages;
+    }
+
+    public PageMetadataDTO(Page<?> page) {
+        this(page.getNumber(), page.getSize(), page.getTotalElements(), page.getTotalPages());
+    }
+
+    public int getNumber() {
+        return number;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public long getTotalElements() {
+        return totalElements;
+    }
+
+    public int getTotalPages() {
+        return totalPages;
+    }
+}
@@ -0,0 +1,49 @@
+package com.franciscode.melicommerce.dto;
+
+public enum ProductField {
+
+    DESCRIPTION("description", "description"),
+    ID("id", "id"),
+    IMG_URL("imgUrl", "img_url"),
+    NAME("name", "name"),
+    PRICE("price", "price"),
+    RATING("rating", "rating"),
+    SPECIFICATIONS("specifications", "specifications");
+
+    private final String property;
+    private final String column;
+
+    ProductField(String property, String column) {
+        this.property = property;
+        this.column = column;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public Object read(ProductDTO product) {
+        return switch (this) {
+            case DESCRIPTION -> product.getDescription();
+            case ID -> product.getId();
+            case IMG_URL -> product.getImgUrl();
+            case NAME -> product.getName();
+            case PRICE -> product.getPrice();
+            case RATING -> product.getRating();
+            case SPECIFICATIONS -> product.getSpecifications();
+        };
+    }
+
+    public static ProductField fromProperty(String property) {
+        for (ProductField field : values()) {
+            if (field.property.equals(property)) {
+                return field;
+            }
+        }
+        return null;
+    }
+}
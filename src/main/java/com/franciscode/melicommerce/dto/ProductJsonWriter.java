@@ -0,0 +1,163 @@
+package com.franciscode.melicommerce.dto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+public final class ProductJsonWriter {
+
+    public static final int BUFFER_SIZE = 8192;
+
+    private static final byte[] PRODUCT_DESCRIPTION = ascii("{\"description\":");
+    private static final byte[] PRODUCT_ID = ascii(",\"id\":");
+    private static final byte[] PRODUCT_IMG_URL = ascii(",\"imgUrl\":");
+    private static final byte[] PRODUCT_NAME = ascii(",\"name\":");
+    private static final byte[] PRODUCT_PRICE = ascii(",\"price\":");
+    private static final byte[] PRODUCT_RATING = ascii(",\"rating\":");
+    private static final byte[] PRODUCT_SPECIFICATIONS = ascii(",\"specifications\":");
+    private static final byte[] SUMMARY_ID = ascii("{\"id\":");
+    private static final byte[] PAGE_CONTENT = ascii("{\"content\":");
+    private static final byte[] PAGE_NUMBER = ascii(",\"page\":{\"number\":");
+    private static final byte[] PAGE_SIZE = ascii(",\"size\":");
+    private static final byte[] PAGE_TOTAL_ELEMENTS = ascii(",\"totalElements\":");
+    private static final byte[] PAGE_TOTAL_PAGES = ascii(",\"totalPages\":");
+    private static final byte[] ERROR_TIMESTAMP = ascii("{\"timestamp\":");
+    private static final byte[] ERROR_STATUS = ascii(",\"status\":");
+    private static final byte[] ERROR_MESSAGE = ascii(",\"error\":");
+    private static final byte[] ERROR_PATH = ascii(",\"path\":");
+    private static final byte[][] SPARSE_NAMES = sparseNames();
+
+    private final JsonEncoder json = new JsonEncoder(BUFFER_SIZE);
+
+    public void write(Object value, OutputStream out) throws IOException {
+        json.attach(out);
+        try {
+            value(value);
+            json.flush();
+        } finally {
+            json.detach();
+        }
+    }
+
+    private void value(Object value) throws IOException {
+        switch (value) {
+            case null -> json.writeNull();
+            case SparseProductDTO sparse -> sparse(sparse);
+            case ProductDTO product -> product(product);
+            case ProductSummaryDTO summary -> summary(summary);
+            case ProductPageDTO<?> page -> page(page);
+            case List<?> list -> array(list);
+            case CustomError error -> error(error);
+            default -> throw new IllegalArgumentException("Tipo não suportado: " + value.getClass().getName());
+        }
+    }
+
+    private void array(List<?> values) throws IOException {
+        json.writeByte('[');
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                json.writeByte(',');
+            }
+            value(values.get(i));
+        }
+        json.writeByte(']');
+    }
+
+    private void page(ProductPageDTO<?> page) throws IOException {
+        PageMetadataDTO metadata = page.getPage();
+        json.writeRaw(PAGE_CONTENT);
+        array(page.getContent());
+        json.writeRaw(PAGE_NUMBER);
+        json.writeLong(metadata.getNumber());
+        json.writeRaw(PAGE_SIZE);
+        json.writeLong(metadata.getSize());
+        json.writeRaw(PAGE_TOTAL_ELEMENTS);
+        json.writeLong(metadata.getTotalElements());
+        json.writeRaw(PAGE_TOTAL_PAGES);
+        json.writeLong(metadata.getTotalPages());
+        json.writeByte('}');
+        json.writeByte('}');
+    }
+
+    private void product(ProductDTO product) throws IOException {
+        if (product instanceof CatalogProductDTO catalog) {
+            catalog.writeJson(json);
+            return;
+        }
+        json.writeRaw(PRODUCT_DESCRIPTION);
+        json.writeString(product.getDescription());
+        json.writeRaw(PRODUCT_ID);
+        json.writeLong(product.getId());
+        json.writeRaw(PRODUCT_IMG_URL);
+        json.writeString(product.getImgUrl());
+        json.writeRaw(PRODUCT_NAME);
+        json.writeString(product.getName());
+        json.writeRaw(PRODUCT_PRICE);
+        json.writeDouble(product.getPrice());
+        json.writeRaw(PRODUCT_RATING);
+        json.writeDouble(product.getRating());
+        json.writeRaw(PRODUCT_SPECIFICATIONS);
+        json.writeString(product.getSpecifications());
+        json.writeByte('}');
+    }
+
+    private void sparse(SparseProductDTO sparse) throws IOException {
+        ProductDTO product = sparse.getProduct();
+        json.writeByte('{');
+        boolean first = true;
+        for (ProductField field : sparse.getFields()) {
+            if (!first) {
+                json.writeByte(',');
+            }
+            first = false;
+            json.writeRaw(SPARSE_NAMES[field.ordinal()]);
+            switch (field) {
+                case ID -> json.writeLong(product.getId());
+                case PRICE -> json.writeDouble(product.getPrice());
+                case RATING -> json.writeDouble(product.getRating());
+                default -> json.writeString((String) field.read(product));
+            }
+        }
+        json.writeByte('}');
+    }
+
+    private void summary(ProductSummaryDTO summary) throws IOException {
+        json.writeRaw(SUMMARY_ID);
+        json.writeLong(summary.getId());
+        json.writeRaw(PRODUCT_NAME);
+        json.writeString(summary.getName());
+        json.writeRaw(PRODUCT_PRICE);
+        json.writeDouble(summary.getPrice());
+        json.writeRaw(PRODUCT_IMG_URL);
+        json.writeString(summary.getImgUrl());
+        json.writeRaw(PRODUCT_RATING);
+        json.writeDouble(summary.getRating());
+        json.writeByte('}');
+    }
+
+    private void error(CustomError error) throws IOException {
+        json.writeRaw(ERROR_TIMESTAMP);
+        json.writeString(error.getTimestamp() == null ? null : error.getTimestamp().toString());
+        json.writeRaw(ERROR_STATUS);
+        json.writeLong(error.getStatus() == null ? null : error.getStatus().longValue());
+        json.writeRaw(ERROR_MESSAGE);
+        json.writeString(error.getError());
+        json.writeRaw(ERROR_PATH);
+        json.writeString(error.getPath());
+        json.writeByte('}');
+    }
+
+    private static byte[][] sparseNames() {
+        ProductField[] fields = ProductField.values();
+        byte[][] names = new byte[fields.length][];
+        for (ProductField field : fields) {
+            names[field.ordinal()] = ascii("\"" + field.getProperty() + "\":");
+        }
+        return names;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
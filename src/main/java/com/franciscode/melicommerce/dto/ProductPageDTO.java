@@ -0,0 +1,28 @@
+package com.franciscode.melicommerce.dto;
+
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+public class ProductPageDTO<T> {
+
+    private final List<T> content;
+    private final PageMetadataDTO page;
+
+    public ProductPageDTO(List<T> content, PageMetadataDTO page) {
+        this.content = content;
+        this.page = page;
+    }
+
+    public ProductPageDTO(Page<T> page) {
+        this(page.getContent(), new PageMetadataDTO(page));
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public PageMetadataDTO getPage() {
+        return page;
+    }
+}
@@ -0,0 +1,38 @@
+package com.franciscode.melicommerce.dto;
+
+public class ProductSummaryDTO {
+
+    private Long id;
+    private String name;
+    private Double price;
+    private String imgUrl;
+    private Double rating;
+
+    public ProductSummaryDTO(Long id, String name, Double price, String imgUrl, Double rating) {
+        this.id = id;
+        this.name = name;
+        this.price = price;
+        this.imgUrl = imgUrl;
+        this.rating = rating;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Double getPrice() {
+        return price;
+    }
+
+    public String getImgUrl() {
+        return imgUrl;
+    }
+
+    public Double getRating() {
+        return rating;
+    }
+}
@@ -0,0 +1,20 @@
+package com.franciscode.melicommerce.dto;
+
+public class RelatedProductDTO {
+
+    private Long productId;
+    private Integer score;
+
+    public RelatedProductDTO(Long productId, Integer score) {
+        this.productId = productId;
+        this.score = score;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public Integer getScore() {
+        return score;
+    }
+}
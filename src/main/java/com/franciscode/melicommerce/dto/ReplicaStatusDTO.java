@@ -0,0 +1,26 @@
+package com.franciscode.melicommerce.dto;
+
+public class ReplicaStatusDTO {
+
+    private Boolean routingEnabled;
+    private Boolean replicaAvailable;
+    private Long replicaLagMs;
+
+    public ReplicaStatusDTO(Boolean routingEnabled, Boolean replicaAvailable, Long replicaLagMs) {
+        this.routingEnabled = routingEnabled;
+        this.replicaAvailable = replicaAvailable;
+        this.replicaLagMs = replicaLagMs;
+    }
+
+    public Boolean getRoutingEnabled() {
+        return routingEnabled;
+    }
+
+    public Boolean getReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    public Long getReplicaLagMs() {
+        return replicaLagMs;
+    }
+}
@@ -0,0 +1,26 @@
+package com.franciscode.melicommerce.dto;
+
+public class SalesSummaryDTO {
+
+    private Long id;
+    private Long unitsSold;
+    private Double revenue;
+
+    public SalesSummaryDTO(Long id, Long unitsSold, Double revenue) {
+        this.id = id;
+        this.unitsSold = unitsSold;
+        this.revenue = revenue;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getUnitsSold() {
+        return unitsSold;
+    }
+
+    public Double getRevenue() {
+        return revenue;
+    }
+}
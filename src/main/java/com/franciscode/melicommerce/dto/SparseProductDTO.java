@@ -0,0 +1,35 @@
+package com.franciscode.melicommerce.dto;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+public class SparseProductDTO {
+
+    private final ProductDTO product;
+    private final Set<ProductField> fields;
+
+    public SparseProductDTO(ProductDTO product, Set<ProductField> fields) {
+        this.product = product;
+        this.fields = fields;
+    }
+
+    public ProductDTO getProduct() {
+        return product;
+    }
+
+    public Set<ProductField> getFields() {
+        return fields;
+    }
+
+    @JsonValue
+    public Map<String, Object> toMap() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (ProductField field : fields) {
+            values.put(field.getProperty(), field.read(product));
+        }
+        return values;
+    }
+}
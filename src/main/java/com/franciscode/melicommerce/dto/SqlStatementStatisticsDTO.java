@@ -0,0 +1,57 @@
+package com.franciscode.melicommerce.dto;
+
+public class SqlStatementStatisticsDTO {
+
+    private String sql;
+    private Long count;
+    private Long errors;
+    private Double totalMs;
+    private Double avgMs;
+    private Double maxMs;
+    private Long rows;
+    private Long suspectedNPlusOne;
+
+    public SqlStatementStatisticsDTO(String sql, Long count, Long errors, Double totalMs, Double avgMs, Double maxMs,
+                                     Long rows, Long suspectedNPlusOne) {
+        this.sql = sql;
+        this.count = count;
+        this.errors = errors;
+        this.totalMs = totalMs;
+        this.avgMs = avgMs;
+        this.maxMs = maxMs;
+        this.rows = rows;
+        this.suspectedNPlusOne = suspectedNPlusOne;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public Long getCount() {
+        return count;
+    }
+
+    public Long getErrors() {
+        return errors;
+    }
+
+    public Double getTotalMs() {
+        return totalMs;
+    }
+
+    public Double getAvgMs() {
+        return avgMs;
+    }
+
+    public Double getMaxMs() {
+        return maxMs;
+    }
+
+    public Long getRows() {
+        return rows;
+    }
+
+    public Long getSuspectedNPlusOne() {
+        return suspectedNPlusOne;
+    }
+}
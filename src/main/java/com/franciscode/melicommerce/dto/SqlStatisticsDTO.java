@@ -0,0 +1,34 @@
+package com.franciscode.melicommerce.dto;
+
+import java.util.List;
+
+public class SqlStatisticsDTO {
+
+    private Boolean enabled;
+    private Long executions;
+    private Long slowStatements;
+    private List<SqlStatementStatisticsDTO> statements;
+
+    public SqlStatisticsDTO(Boolean enabled, Long executions, Long slowStatements, List<SqlStatementStatisticsDTO> statements) {
+        this.enabled = enabled;
+        this.executions = executions;
+        this.slowStatements = slowStatements;
+        this.statements = statements;
+    }
+
+    public Boolean getEnabled() {
+        return enabled;
+    }
+
+    public Long getExecutions() {
+        return executions;
+    }
+
+    public Long getSlowStatements() {
+        return slowStatements;
+    }
+
+    public List<SqlStatementStatisticsDTO> getStatements() {
+        return statements;
+    }
+}
@@ -0,0 +1,40 @@
+package com.franciscode.melicommerce.entities;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "tb_catalog_change")
+public class CatalogChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long productId;
+
+    @Column(columnDefinition = "TIMESTAMP(6) WITH TIME ZONE")
+    private Instant moment;
+
+    public CatalogChange() {
+    }
+
+    public CatalogChange(Long id, Long productId, Instant moment) {
+        this.id = id;
+        this.productId = productId;
+        this.moment = moment;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public Instant getMoment() {
+        return moment;
+    }
+}
@@ -3,4 +3,17 @@ package com.franciscode.melicommerce.entities;
 public enum OrderStatus {
 
     WAITING_PAYMENT, PAID, SHIPPED, DELIVERED, CANCELED;
-}
\ No newline at end of file
+
+    public boolean canTransitionTo(OrderStatus target) {
+        return switch (this) {
+            case WAITING_PAYMENT -> target == PAID || target == CANCELED;
+            case PAID -> target == SHIPPED || target == CANCELED;
+            case SHIPPED -> target == DELIVERED;
+            case DELIVERED, CANCELED -> false;
+        };
+    }
+
+    public boolean isFinal() {
+        return this == DELIVERED || this == CANCELED;
+    }
+}
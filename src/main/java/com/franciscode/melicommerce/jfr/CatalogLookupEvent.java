@@ -0,0 +1,43 @@
+package com.franciscode.melicommerce.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("melicommerce.CatalogLookup")
+@Label("Catalog Lookup")
+@Description("Busca de um produto no snapshot do catálogo e nas alterações em memória")
+@Category({"Melicommerce", "Catalog"})
+@StackTrace(false)
+@Enabled(false)
+public class CatalogLookupEvent extends Event {
+
+    @Label("Product Id")
+    private long productId;
+
+    @Label("Hit")
+    private boolean hit;
+
+    @Label("From Overlay")
+    private boolean overlay;
+
+    public static CatalogLookupEvent start(long productId) {
+        CatalogLookupEvent event = new CatalogLookupEvent();
+        event.productId = productId;
+        event.begin();
+        return event;
+    }
+
+    public void finish(boolean hit, boolean overlay) {
+        end();
+        if (shouldCommit()) {
+            this.hit = hit;
+            this.overlay = overlay;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.franciscode.melicommerce.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("melicommerce.CatalogSnapshot")
+@Label("Catalog Snapshot")
+@Description("Gravação do snapshot do catálogo ou aplicação das alterações recentes sobre ele")
+@Category({"Melicommerce", "Catalog"})
+@StackTrace(false)
+public class CatalogSnapshotEvent extends Event {
+
+    public static final String WRITE = "write";
+    public static final String CATCH_UP = "catch-up";
+
+    @Label("Action")
+    private String action;
+
+    @Label("Version")
+    private long version;
+
+    @Label("Products")
+    private int products;
+
+    @Label("Changed Products")
+    private int changed;
+
+    @Label("Size")
+    @DataAmount
+    private long sizeBytes;
+
+    public static CatalogSnapshotEvent start(String action) {
+        CatalogSnapshotEvent event = new CatalogSnapshotEvent();
+        event.action = action;
+        event.begin();
+        return event;
+    }
+
+    public void finish(long version, int products, int changed, long sizeBytes) {
+        end();
+        if (shouldCommit()) {
+            this.version = version;
+            this.products = products;
+            this.changed = changed;
+            this.sizeBytes = sizeBytes;
+            commit();
+        }
+    }
+}
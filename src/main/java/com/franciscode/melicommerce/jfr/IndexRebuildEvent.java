@@ -0,0 +1,44 @@
+package com.franciscode.melicommerce.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("melicommerce.IndexRebuild")
+@Label("Index Rebuild")
+@Description("Recarga completa de um índice em memória (categorias de produto ou rankings)")
+@Category({"Melicommerce", "Index"})
+@StackTrace(false)
+public class IndexRebuildEvent extends Event {
+
+    public static final String CATEGORIES = "categories";
+    public static final String RANKINGS = "rankings";
+
+    @Label("Index")
+    private String index;
+
+    @Label("Source")
+    private String source;
+
+    @Label("Entries")
+    private int entries;
+
+    public static IndexRebuildEvent start(String index, String source) {
+        IndexRebuildEvent event = new IndexRebuildEvent();
+        event.index = index;
+        event.source = source;
+        event.begin();
+        return event;
+    }
+
+    public void finish(int entries) {
+        end();
+        if (shouldCommit()) {
+            this.entries = entries;
+            commit();
+        }
+    }
+}
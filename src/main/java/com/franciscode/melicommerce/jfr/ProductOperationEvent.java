@@ -0,0 +1,75 @@
+package com.franciscode.melicommerce.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("melicommerce.ProductOperation")
+@Label("Product Operation")
+@Description("Operação do ProductService: find, list, compare, insert, update ou delete")
+@Category({"Melicommerce", "Catalog"})
+@StackTrace(false)
+public class ProductOperationEvent extends Event {
+
+    public static final String CATALOG = "catalog";
+    public static final String DATABASE = "database";
+    public static final String MIXED = "mixed";
+    private static final int MAX_IDS_LENGTH = 256;
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Product Id")
+    private long productId;
+
+    @Label("Requested Ids")
+    private String ids;
+
+    @Label("Result Size")
+    private int resultSize;
+
+    @Label("Source")
+    private String source;
+
+    @Label("Failed")
+    private boolean failed;
+
+    public static ProductOperationEvent start(String operation, Long productId) {
+        ProductOperationEvent event = new ProductOperationEvent();
+        event.operation = operation;
+        event.productId = productId == null ? 0 : productId;
+        event.failed = true;
+        event.begin();
+        return event;
+    }
+
+    public ProductOperationEvent ids(String ids) {
+        if (isEnabled() && ids != null) {
+            this.ids = ids.length() > MAX_IDS_LENGTH ? ids.substring(0, MAX_IDS_LENGTH) : ids;
+        }
+        return this;
+    }
+
+    public ProductOperationEvent source(String source) {
+        this.source = source;
+        return this;
+    }
+
+    public void completed(Long productId, int resultSize) {
+        if (productId != null) {
+            this.productId = productId;
+        }
+        this.resultSize = resultSize;
+        this.failed = false;
+    }
+
+    public void finish() {
+        end();
+        if (shouldCommit()) {
+            commit();
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.franciscode.melicommerce.projections;
+
+public interface OrderProductProjection {
+
+    Long getOrderId();
+    Long getProductId();
+}
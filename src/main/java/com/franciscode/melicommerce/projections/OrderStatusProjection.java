@@ -0,0 +1,9 @@
+package com.franciscode.melicommerce.projections;
+
+import com.franciscode.melicommerce.entities.OrderStatus;
+
+public interface OrderStatusProjection {
+
+    Long getId();
+    OrderStatus getStatus();
+}
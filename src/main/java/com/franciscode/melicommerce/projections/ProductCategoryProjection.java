@@ -0,0 +1,7 @@
+package com.franciscode.melicommerce.projections;
+
+public interface ProductCategoryProjection {
+
+    Long getProductId();
+    Long getCategoryId();
+}
@@ -0,0 +1,7 @@
+package com.franciscode.melicommerce.projections;
+
+public interface ProductRatingProjection {
+
+    Long getId();
+    Double getRating();
+}
@@ -0,0 +1,15 @@
+package com.franciscode.melicommerce.projections;
+
+import com.franciscode.melicommerce.entities.OrderStatus;
+
+import java.time.Instant;
+
+public interface SaleLineProjection {
+
+    Long getOrderId();
+    Long getProductId();
+    Instant getMoment();
+    OrderStatus getStatus();
+    Integer getQuantity();
+    Double getPrice();
+}
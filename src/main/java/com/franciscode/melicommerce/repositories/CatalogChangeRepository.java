@@ -0,0 +1,29 @@
+package com.franciscode.melicommerce.repositories;
+
+import com.franciscode.melicommerce.entities.CatalogChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface CatalogChangeRepository extends JpaRepository<CatalogChange, Long> {
+
+    @Query("SELECT c FROM CatalogChange c WHERE c.id > :after ORDER BY c.id")
+    List<CatalogChange> findAfter(Long after, Pageable pageable);
+
+    @Query("SELECT c FROM CatalogChange c WHERE c.moment >= :since AND c.id <= :upTo ORDER BY c.id")
+    List<CatalogChange> findRecentUpTo(Instant since, Long upTo);
+
+    @Query("SELECT COALESCE(MAX(c.id), 0) FROM CatalogChange c")
+    long findLatestId();
+
+    @Query("SELECT COALESCE(MIN(c.id), 0) FROM CatalogChange c")
+    long findOldestId();
+
+    @Modifying
+    @Query("DELETE FROM CatalogChange c WHERE c.moment < :before AND c.id < :upTo")
+    int deleteByMomentBeforeAndIdLessThan(Instant before, Long upTo);
+}
@@ -0,0 +1,31 @@
+package com.franciscode.melicommerce.repositories;
+
+import com.franciscode.melicommerce.entities.OrderItem;
+import com.franciscode.melicommerce.entities.OrderItemPK;
+import com.franciscode.melicommerce.entities.OrderStatus;
+import com.franciscode.melicommerce.projections.OrderProductProjection;
+import com.franciscode.melicommerce.projections.SaleLineProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface OrderItemRepository extends JpaRepository<OrderItem, OrderItemPK> {
+
+    @Query("SELECT o.id AS orderId, p.id AS productId, o.moment AS moment, o.status AS status, "
+            + "i.quantity AS quantity, i.price AS price "
+            + "FROM OrderItem i JOIN i.id.order o JOIN i.id.product p "
+            + "WHERE o.status IN :statuses")
+    List<SaleLineProjection> findSaleLinesByStatusIn(Collection<OrderStatus> statuses);
+
+    @Query("SELECT o.id AS orderId, p.id AS productId "
+            + "FROM OrderItem i JOIN i.id.order o JOIN i.id.product p "
+            + "WHERE o.status <> :excluded ORDER BY o.id")
+    List<OrderProductProjection> findOrderProductsByStatusNot(OrderStatus excluded);
+
+    @Modifying
+    @Query("DELETE FROM OrderItem i WHERE i.id.order.id IN :orderIds")
+    int deleteByOrderIdIn(Collection<Long> orderIds);
+}
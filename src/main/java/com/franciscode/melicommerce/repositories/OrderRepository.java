@@ -0,0 +1,49 @@
+package com.franciscode.melicommerce.repositories;
+
+import com.franciscode.melicommerce.dto.OrderSummaryDTO;
+import com.franciscode.melicommerce.entities.Order;
+import com.franciscode.melicommerce.entities.OrderStatus;
+import com.franciscode.melicommerce.projections.OrderStatusProjection;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface OrderRepository extends JpaRepository<Order, Long> {
+
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.items WHERE o.id IN :ids")
+    List<Order> findAllWithItemsByIdIn(Collection<Long> ids);
+
+    @Query("SELECT DISTINCT o FROM Order o JOIN FETCH o.client LEFT JOIN FETCH o.payment LEFT JOIN FETCH o.items "
+            + "WHERE o.id IN :ids")
+    List<Order> findAllForExportByIdIn(Collection<Long> ids);
+
+    @Query("SELECT o.id FROM Order o WHERE o.id > :after ORDER BY o.id")
+    List<Long> findIdsAfter(Long after, Pageable pageable);
+
+    @Query("SELECT o.id FROM Order o WHERE o.status IN :statuses AND o.moment < :before ORDER BY o.id")
+    List<Long> findIdsByStatusInAndMomentBefore(Collection<OrderStatus> statuses, Instant before, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Payment p WHERE p.id IN :orderIds")
+    int deletePaymentsByOrderIdIn(Collection<Long> orderIds);
+
+    @Query("SELECT o.id AS id, o.status AS status FROM Order o WHERE o.status IN :statuses")
+    List<OrderStatusProjection> findStatusesByStatusIn(Collection<OrderStatus> statuses);
+
+    @Query("SELECT new com.franciscode.melicommerce.dto.OrderSummaryDTO(o.id, o.client.id, o.moment, o.status, "
+            + "COUNT(i), COALESCE(SUM(i.price * i.quantity), 0.0)) "
+            + "FROM Order o LEFT JOIN o.items i WHERE o.client.id = :clientId "
+            + "GROUP BY o.id, o.client.id, o.moment, o.status ORDER BY o.moment DESC, o.id DESC")
+    List<OrderSummaryDTO> findSummariesByClientId(Long clientId, Pageable pageable);
+
+    @Query("SELECT new com.franciscode.melicommerce.dto.OrderSummaryDTO(o.id, o.client.id, o.moment, o.status, "
+            + "COUNT(i), COALESCE(SUM(i.price * i.quantity), 0.0)) "
+            + "FROM Order o LEFT JOIN o.items i WHERE o.status IN :statuses "
+            + "GROUP BY o.id, o.client.id, o.moment, o.status ORDER BY o.moment DESC, o.id DESC")
+    List<OrderSummaryDTO> findRecentSummaries(Collection<OrderStatus> statuses, Pageable pageable);
+}
@@ -0,0 +1,20 @@
+package com.franciscode.melicommerce.repositories;
+
+import com.franciscode.melicommerce.dto.ProductDTO;
+import com.franciscode.melicommerce.dto.ProductField;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public interface ProductFieldsRepository {
+
+    Optional<ProductDTO> findFieldsById(Long id, Set<ProductField> fields);
+
+    List<ProductDTO> findFieldsByIdIn(Collection<Long> ids, Set<ProductField> fields);
+
+    Page<ProductDTO> findAllFields(Set<ProductField> fields, Pageable pageable);
+}
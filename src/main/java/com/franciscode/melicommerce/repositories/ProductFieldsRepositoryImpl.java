@@ -0,0 +1,93 @@
+package com.franciscode.melicommerce.repositories;
+
+import com.franciscode.melicommerce.dto.ProductDTO;
+import com.franciscode.melicommerce.dto.ProductField;
+import com.franciscode.melicommerce.services.exceptions.BadRequestException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+
+public class ProductFieldsRepositoryImpl implements ProductFieldsRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<ProductDTO> findFieldsById(Long id, Set<ProductField> fields) {
+        return query(fields, " WHERE p.id = :id").setParameter("id", id)
+                .getResultList()
+                .stream()
+                .findFirst()
+                .map(row -> toDto(fields, row));
+    }
+
+    @Override
+    public List<ProductDTO> findFieldsByIdIn(Collection<Long> ids, Set<ProductField> fields) {
+        return query(fields, " WHERE p.id IN :ids").setParameter("ids", ids)
+                .getResultList()
+                .stream()
+                .map(row -> toDto(fields, row))
+                .toList();
+    }
+
+    @Override
+    public Page<ProductDTO> findAllFields(Set<ProductField> fields, Pageable pageable) {
+        TypedQuery<Tuple> query = query(fields, orderBy(pageable.getSort()));
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+        }
+        List<ProductDTO> content = query.getResultList().stream().map(row -> toDto(fields, row)).toList();
+        Long total = entityManager.createQuery("SELECT COUNT(p) FROM Product p", Long.class)
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
+                .getSingleResult();
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private TypedQuery<Tuple> query(Set<ProductField> fields, String suffix) {
+        StringJoiner select = new StringJoiner(", ", "SELECT ", " FROM Product p" + suffix);
+        for (ProductField field : fields) {
+            select.add("p." + field.getProperty());
+        }
+        return entityManager.createQuery(select.toString(), Tuple.class)
+                .setHint(HibernateHints.HINT_CACHEABLE, true);
+    }
+
+    private static String orderBy(Sort sort) {
+        if (sort.isUnsorted()) {
+            return "";
+        }
+        StringJoiner orderBy = new StringJoiner(", ", " ORDER BY ", "");
+        for (Sort.Order order : sort) {
+            ProductField field = ProductField.fromProperty(order.getProperty());
+            if (field == null) {
+                throw new BadRequestException("Não é possível ordenar por '" + order.getProperty() + "'.");
+            }
+            orderBy.add("p." + field.getProperty() + (order.isAscending() ? " ASC" : " DESC"));
+        }
+        return orderBy.toString();
+    }
+
+    private static ProductDTO toDto(Set<ProductField> fields, Tuple row) {
+        Object[] values = new Object[ProductField.values().length];
+        int index = 0;
+        for (ProductField field : fields) {
+            values[field.ordinal()] = row.get(index++);
+        }
+        return new ProductDTO((Long) values[ProductField.ID.ordinal()], (String) values[ProductField.NAME.ordinal()],
+                (String) values[ProductField.DESCRIPTION.ordinal()], (Double) values[ProductField.PRICE.ordinal()],
+                (String) values[ProductField.IMG_URL.ordinal()], (Double) values[ProductField.RATING.ordinal()],
+                (String) values[ProductField.SPECIFICATIONS.ordinal()]);
+    }
+}
@@ -1,7 +1,46 @@
 package com.franciscode.melicommerce.repositories;
 
+import com.franciscode.melicommerce.dto.ProductDTO;
+import com.franciscode.melicommerce.dto.ProductSummaryDTO;
 import com.franciscode.melicommerce.entities.Product;
+import com.franciscode.melicommerce.projections.ProductCategoryProjection;
+import com.franciscode.melicommerce.projections.ProductRatingProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
-public interface ProductRepository extends JpaRepository<Product, Long> {
-}
\ No newline at end of file
+import java.util.Collection;
+import java.util.List;
+
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductFieldsRepository {
+
+    @Query("SELECT p.id AS productId, c.id AS categoryId FROM Product p JOIN p.categories c")
+    List<ProductCategoryProjection> findAllCategoryLinks();
+
+    @Query("SELECT p.id AS productId, c.id AS categoryId FROM Product p JOIN p.categories c WHERE p.id IN :productIds")
+    List<ProductCategoryProjection> findCategoryLinksByProductIdIn(Collection<Long> productIds);
+
+    @Query("SELECT c.id FROM Product p JOIN p.categories c WHERE p.id = :productId")
+    List<Long> findCategoryIdsByProductId(Long productId);
+
+    @Query("SELECT p.id AS id, p.rating AS rating FROM Product p")
+    List<ProductRatingProjection> findAllRatings();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(value = "SELECT new com.franciscode.melicommerce.dto.ProductSummaryDTO(p.id, p.name, p.price, p.imgUrl, p.rating) FROM Product p",
+            countQuery = "SELECT COUNT(p) FROM Product p")
+    Page<ProductSummaryDTO> findAllSummaries(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT new com.franciscode.melicommerce.dto.ProductDTO(p.id, p.name, p.description, p.price, p.imgUrl, p.rating, p.specifications) " +
+            "FROM Product p WHERE p.id IN :ids")
+    List<ProductDTO> findAllDtosByIdIn(Collection<Long> ids);
+
+    @Query("SELECT new com.franciscode.melicommerce.dto.ProductDTO(p.id, p.name, p.description, p.price, p.imgUrl, p.rating, p.specifications) " +
+            "FROM Product p ORDER BY p.id")
+    List<ProductDTO> findAllDtos();
+}
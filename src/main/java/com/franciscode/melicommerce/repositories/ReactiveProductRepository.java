@@ -0,0 +1,108 @@
+package com.franciscode.melicommerce.repositories;
+
+import com.franciscode.melicommerce.dto.ProductDTO;
+import com.franciscode.melicommerce.dto.ProductField;
+import com.franciscode.melicommerce.dto.ProductSummaryDTO;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.StringJoiner;
+
+@Repository
+@Profile("reactive")
+public class ReactiveProductRepository {
+
+    private static final String SELECT = "SELECT id, name, description, price, img_url, rating, specifications FROM tb_product";
+    private static final String SELECT_SUMMARY = "SELECT id, name, price, img_url, rating FROM tb_product";
+
+    @Autowired
+    private DatabaseClient client;
+
+    public Mono<ProductDTO> findById(Long id) {
+        return client.sql(SELECT + " WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveProductRepository::toDto)
+                .one();
+    }
+
+    public Flux<ProductDTO> findAllById(Collection<Long> ids) {
+        return client.sql(SELECT + " WHERE id IN (:ids)")
+                .bind("ids", ids)
+                .map(ReactiveProductRepository::toDto)
+                .all();
+    }
+
+    public Flux<ProductSummaryDTO> findPage(String orderBy, int limit, long offset) {
+        return client.sql(SELECT_SUMMARY + " ORDER BY " + orderBy + " LIMIT :limit OFFSET :offset")
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(ReactiveProductRepository::toSummary)
+                .all();
+    }
+
+    public Mono<ProductDTO> findFieldsById(Long id, Set<ProductField> fields) {
+        return client.sql(select(fields) + " WHERE id = :id")
+                .bind("id", id)
+                .map(row -> toSparseDto(row, fields))
+                .one();
+    }
+
+    public Flux<ProductDTO> findFieldsByIdIn(Collection<Long> ids, Set<ProductField> fields) {
+        return client.sql(select(fields) + " WHERE id IN (:ids)")
+                .bind("ids", ids)
+                .map(row -> toSparseDto(row, fields))
+                .all();
+    }
+
+    public Flux<ProductDTO> findFieldsPage(Set<ProductField> fields, String orderBy, int limit, long offset) {
+        return client.sql(select(fields) + " ORDER BY " + orderBy + " LIMIT :limit OFFSET :offset")
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(row -> toSparseDto(row, fields))
+                .all();
+    }
+
+    public Mono<Long> count() {
+        return client.sql("SELECT COUNT(*) FROM tb_product")
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    private static ProductDTO toDto(Readable row) {
+        return new ProductDTO(row.get("id", Long.class), row.get("name", String.class),
+                row.get("description", String.class), row.get("price", Double.class),
+                row.get("img_url", String.class), row.get("rating", Double.class),
+                row.get("specifications", String.class));
+    }
+
+    private static ProductDTO toSparseDto(Readable row, Set<ProductField> fields) {
+        return new ProductDTO(
+                fields.contains(ProductField.ID) ? row.get("id", Long.class) : null,
+                fields.contains(ProductField.NAME) ? row.get("name", String.class) : null,
+                fields.contains(ProductField.DESCRIPTION) ? row.get("description", String.class) : null,
+                fields.contains(ProductField.PRICE) ? row.get("price", Double.class) : null,
+                fields.contains(ProductField.IMG_URL) ? row.get("img_url", String.class) : null,
+                fields.contains(ProductField.RATING) ? row.get("rating", Double.class) : null,
+                fields.contains(ProductField.SPECIFICATIONS) ? row.get("specifications", String.class) : null);
+    }
+
+    private static String select(Set<ProductField> fields) {
+        StringJoiner columns = new StringJoiner(", ", "SELECT ", " FROM tb_product");
+        for (ProductField field : fields) {
+            columns.add(field.getColumn());
+        }
+        return columns.toString();
+    }
+
+    private static ProductSummaryDTO toSummary(Readable row) {
+        return new ProductSummaryDTO(row.get("id", Long.class), row.get("name", String.class),
+                row.get("price", Double.class), row.get("img_url", String.class), row.get("rating", Double.class));
+    }
+}
@@ -0,0 +1,7 @@
+package com.franciscode.melicommerce.repositories;
+
+import com.franciscode.melicommerce.entities.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface UserRepository extends JpaRepository<User, Long> {
+}
@@ -0,0 +1,291 @@
+package com.franciscode.melicommerce.repositories.archive;
+
+import com.franciscode.melicommerce.entities.OrderStatus;
+import com.franciscode.melicommerce.services.events.OrderLine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+public class ArchiveSegment {
+
+    private static final int MAGIC = 0x4D4F4152;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 20;
+    private static final int CLIENT_ENTRY_BYTES = 16;
+    private static final int COLUMN_ENTRY_BYTES = 16;
+    private static final long NO_PAYMENT = Long.MIN_VALUE;
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private static final int ORDER_ID = 0;
+    private static final int CLIENT_ID = 1;
+    private static final int MOMENT = 2;
+    private static final int STATUS = 3;
+    private static final int PAYMENT_MOMENT = 4;
+    private static final int LINE_COUNT = 5;
+    private static final int PRODUCT_ID = 6;
+    private static final int QUANTITY = 7;
+    private static final int PRICE = 8;
+    private static final int COLUMNS = 9;
+    private static final int GROUP_ENTRY_BYTES = 8 + COLUMNS * COLUMN_ENTRY_BYTES;
+
+    private static final Comparator<ArchivedOrder> STORAGE_ORDER = Comparator.comparingLong(ArchivedOrder::clientId)
+            .thenComparing(ArchivedOrder::moment, Comparator.reverseOrder())
+            .thenComparing(ArchivedOrder::id, Comparator.reverseOrder());
+
+    private final Path file;
+    private final MappedByteBuffer buffer;
+    private final int orderCount;
+    private final int clientCount;
+    private final int groupCount;
+    private final int groupsStart;
+    private final int dataStart;
+
+    private ArchiveSegment(Path file, MappedByteBuffer buffer) {
+        this.file = file;
+        this.buffer = buffer;
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IllegalStateException("not an order archive segment: " + file);
+        }
+        orderCount = buffer.getInt(8);
+        clientCount = buffer.getInt(12);
+        groupCount = buffer.getInt(16);
+        groupsStart = HEADER_BYTES + clientCount * CLIENT_ENTRY_BYTES;
+        dataStart = groupsStart + groupCount * GROUP_ENTRY_BYTES;
+    }
+
+    public static ArchiveSegment open(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new ArchiveSegment(file, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static void write(Path file, List<ArchivedOrder> orders, int rowGroupSize) {
+        List<ArchivedOrder> sorted = new ArrayList<>(orders);
+        sorted.sort(STORAGE_ORDER);
+
+        List<long[]> clients = new ArrayList<>();
+        for (int row = 0; row < sorted.size(); row++) {
+            long clientId = sorted.get(row).clientId();
+            if (clients.isEmpty() || clients.get(clients.size() - 1)[0] != clientId) {
+                clients.add(new long[]{clientId, row, 0});
+            }
+            clients.get(clients.size() - 1)[2]++;
+        }
+
+        int groupCount = (sorted.size() + rowGroupSize - 1) / rowGroupSize;
+        ByteBuffer directory = ByteBuffer.allocate(groupCount * GROUP_ENTRY_BYTES);
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            for (int first = 0; first < sorted.size(); first += rowGroupSize) {
+                List<ArchivedOrder> group = sorted.subList(first, Math.min(first + rowGroupSize, sorted.size()));
+                ByteBuffer[] columns = encode(group);
+                directory.putInt(first).putInt(group.size());
+                for (ByteBuffer column : columns) {
+                    byte[] compressed = deflate(deflater, column.array());
+                    directory.putLong(data.size()).putInt(compressed.length).putInt(column.capacity());
+                    data.writeBytes(compressed);
+                }
+            }
+        } finally {
+            deflater.end();
+        }
+
+        ByteBuffer head = ByteBuffer.allocate(HEADER_BYTES + clients.size() * CLIENT_ENTRY_BYTES);
+        head.putInt(MAGIC).putInt(VERSION).putInt(sorted.size()).putInt(clients.size()).putInt(groupCount);
+        for (long[] client : clients) {
+            head.putLong(client[0]).putInt((int) client[1]).putInt((int) client[2]);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            channel.write(new ByteBuffer[]{head.flip(), directory.flip(), ByteBuffer.wrap(data.toByteArray())});
+            channel.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public int getOrderCount() {
+        return orderCount;
+    }
+
+    public long getSizeBytes() {
+        return buffer.capacity();
+    }
+
+    public long firstOrderId() {
+        if (orderCount == 0) {
+            throw new IllegalStateException("empty order archive segment: " + file);
+        }
+        return decode(0).order(0).id();
+    }
+
+    public List<ArchivedOrder> findByClient(long clientId) {
+        int low = 0;
+        int high = clientCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int entry = HEADER_BYTES + mid * CLIENT_ENTRY_BYTES;
+            long current = buffer.getLong(entry);
+            if (current < clientId) {
+                low = mid + 1;
+            }
+            else if (current > clientId) {
+                high = mid - 1;
+            }
+            else {
+                int first = buffer.getInt(entry + 8);
+                return readRows(first, first + buffer.getInt(entry + 12));
+            }
+        }
+        return List.of();
+    }
+
+    public void forEach(Consumer<ArchivedOrder> consumer) {
+        for (int group = 0; group < groupCount; group++) {
+            RowGroup rows = decode(group);
+            for (int row = 0; row < rows.size; row++) {
+                consumer.accept(rows.order(row));
+            }
+        }
+    }
+
+    private List<ArchivedOrder> readRows(int from, int to) {
+        List<ArchivedOrder> result = new ArrayList<>(to - from);
+        for (int group = 0; group < groupCount && result.size() < to - from; group++) {
+            int entry = groupsStart + group * GROUP_ENTRY_BYTES;
+            int first = buffer.getInt(entry);
+            int size = buffer.getInt(entry + 4);
+            if (first + size <= from || first >= to) {
+                continue;
+            }
+            RowGroup rows = decode(group);
+            for (int row = Math.max(from, first); row < Math.min(to, first + size); row++) {
+                result.add(rows.order(row - first));
+            }
+        }
+        return result;
+    }
+
+    private RowGroup decode(int group) {
+        int entry = groupsStart + group * GROUP_ENTRY_BYTES;
+        ByteBuffer[] columns = new ByteBuffer[COLUMNS];
+        Inflater inflater = new Inflater();
+        try {
+            for (int column = 0; column < COLUMNS; column++) {
+                int position = entry + 8 + column * COLUMN_ENTRY_BYTES;
+                long offset = buffer.getLong(position);
+                int compressed = buffer.getInt(position + 8);
+                ByteBuffer raw = ByteBuffer.allocate(buffer.getInt(position + 12));
+                inflater.reset();
+                inflater.setInput(buffer.slice(dataStart + (int) offset, compressed));
+                while (raw.hasRemaining() && !inflater.finished()) {
+                    inflater.inflate(raw);
+                }
+                columns[column] = raw.flip();
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("corrupt order archive segment: " + file, e);
+        } finally {
+            inflater.end();
+        }
+        return new RowGroup(buffer.getInt(entry + 4), columns);
+    }
+
+    private static ByteBuffer[] encode(List<ArchivedOrder> group) {
+        int lines = group.stream().mapToInt(order -> order.lines().size()).sum();
+        ByteBuffer[] columns = {
+                ByteBuffer.allocate(group.size() * Long.BYTES),
+                ByteBuffer.allocate(group.size() * Long.BYTES),
+                ByteBuffer.allocate(group.size() * Long.BYTES),
+                ByteBuffer.allocate(group.size()),
+                ByteBuffer.allocate(group.size() * Long.BYTES),
+                ByteBuffer.allocate(group.size() * Integer.BYTES),
+                ByteBuffer.allocate(lines * Long.BYTES),
+                ByteBuffer.allocate(lines * Integer.BYTES),
+                ByteBuffer.allocate(lines * Double.BYTES)
+        };
+        for (ArchivedOrder order : group) {
+            columns[ORDER_ID].putLong(order.id());
+            columns[CLIENT_ID].putLong(order.clientId());
+            columns[MOMENT].putLong(toMicros(order.moment()));
+            columns[STATUS].put((byte) order.status().ordinal());
+            columns[PAYMENT_MOMENT].putLong(order.paymentMoment() == null ? NO_PAYMENT : toMicros(order.paymentMoment()));
+            columns[LINE_COUNT].putInt(order.lines().size());
+            for (OrderLine line : order.lines()) {
+                columns[PRODUCT_ID].putLong(line.productId());
+                columns[QUANTITY].putInt(line.quantity());
+                columns[PRICE].putDouble(line.price());
+            }
+        }
+        return columns;
+    }
+
+    private static byte[] deflate(Deflater deflater, byte[] raw) {
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+        byte[] chunk = new byte[8192];
+        while (!deflater.finished()) {
+            out.write(chunk, 0, deflater.deflate(chunk));
+        }
+        return out.toByteArray();
+    }
+
+    private static long toMicros(Instant instant) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+    }
+
+    private static Instant fromMicros(long micros) {
+        return Instant.EPOCH.plus(micros, ChronoUnit.MICROS);
+    }
+
+    private static final class RowGroup {
+
+        private final int size;
+        private final ByteBuffer[] columns;
+        private final int[] lineStart;
+
+        private RowGroup(int size, ByteBuffer[] columns) {
+            this.size = size;
+            this.columns = columns;
+            lineStart = new int[size + 1];
+            for (int row = 0; row < size; row++) {
+                lineStart[row + 1] = lineStart[row] + columns[LINE_COUNT].getInt(row * Integer.BYTES);
+            }
+        }
+
+        private ArchivedOrder order(int row) {
+            List<OrderLine> lines = new ArrayList<>(lineStart[row + 1] - lineStart[row]);
+            for (int line = lineStart[row]; line < lineStart[row + 1]; line++) {
+                lines.add(new OrderLine(columns[PRODUCT_ID].getLong(line * Long.BYTES),
+                        columns[QUANTITY].getInt(line * Integer.BYTES), columns[PRICE].getDouble(line * Double.BYTES)));
+            }
+            long payment = columns[PAYMENT_MOMENT].getLong(row * Long.BYTES);
+            return new ArchivedOrder(columns[ORDER_ID].getLong(row * Long.BYTES), columns[CLIENT_ID].getLong(row * Long.BYTES),
+                    fromMicros(columns[MOMENT].getLong(row * Long.BYTES)), STATUSES[columns[STATUS].get(row)],
+                    payment == NO_PAYMENT ? null : fromMicros(payment), lines);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.franciscode.melicommerce.repositories.archive;
+
+import com.franciscode.melicommerce.entities.OrderStatus;
+import com.franciscode.melicommerce.services.events.OrderLine;
+
+import java.time.Instant;
+import java.util.List;
+
+public record ArchivedOrder(long id, long clientId, Instant moment, OrderStatus status, Instant paymentMoment,
+                           List<OrderLine> lines) {
+
+    public double total() {
+        double sum = 0.0;
+        for (OrderLine line : lines) {
+            sum += line.price() * line.quantity();
+        }
+        return sum;
+    }
+}
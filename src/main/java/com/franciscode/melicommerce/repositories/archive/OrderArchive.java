@@ -0,0 +1,127 @@
+package com.franciscode.melicommerce.repositories.archive;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.LongPredicate;
+import java.util.stream.Stream;
+
+public class OrderArchive {
+
+    private static final String SUFFIX = ".arc";
+    private static final String PENDING = ".pending";
+    private static final String TEMP = ".tmp";
+
+    private final Path directory;
+    private final int rowGroupSize;
+    private final List<ArchiveSegment> segments = new CopyOnWriteArrayList<>();
+    private final List<Path> pending = new ArrayList<>();
+    private long nextSequence = 1;
+
+    public OrderArchive(Path directory, int rowGroupSize) {
+        this.directory = directory;
+        this.rowGroupSize = rowGroupSize;
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : files.filter(path -> path.getFileName().toString().contains(SUFFIX)).sorted().toList()) {
+                    String name = file.getFileName().toString();
+                    nextSequence = Math.max(nextSequence, sequenceOf(name) + 1);
+                    if (name.endsWith(TEMP)) {
+                        Files.delete(file);
+                    }
+                    else if (name.endsWith(PENDING)) {
+                        pending.add(file);
+                    }
+                    else {
+                        segments.add(ArchiveSegment.open(file));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public synchronized Path write(List<ArchivedOrder> orders) {
+        Path file = directory.resolve(String.format("orders-%08d%s", nextSequence++, SUFFIX));
+        Path temp = directory.resolve(file.getFileName() + TEMP);
+        try {
+            Files.deleteIfExists(temp);
+            ArchiveSegment.write(temp, orders, rowGroupSize);
+            return Files.move(temp, directory.resolve(file.getFileName() + PENDING), StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public synchronized void publish(Path pendingFile) {
+        String name = pendingFile.getFileName().toString();
+        try {
+            Path file = Files.move(pendingFile, directory.resolve(name.substring(0, name.length() - PENDING.length())),
+                    StandardCopyOption.ATOMIC_MOVE);
+            segments.add(ArchiveSegment.open(file));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void discard(Path pendingFile) {
+        try {
+            Files.deleteIfExists(pendingFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public synchronized int recover(LongPredicate isLive) {
+        int published = 0;
+        for (Path file : pending) {
+            if (isLive.test(ArchiveSegment.open(file).firstOrderId())) {
+                discard(file);
+            }
+            else {
+                publish(file);
+                published++;
+            }
+        }
+        pending.clear();
+        return published;
+    }
+
+    public List<ArchivedOrder> findByClient(long clientId) {
+        List<ArchivedOrder> result = new ArrayList<>();
+        for (ArchiveSegment segment : segments) {
+            result.addAll(segment.findByClient(clientId));
+        }
+        return result;
+    }
+
+    public void forEach(Consumer<ArchivedOrder> consumer) {
+        for (ArchiveSegment segment : segments) {
+            segment.forEach(consumer);
+        }
+    }
+
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    public long getOrderCount() {
+        return segments.stream().mapToLong(ArchiveSegment::getOrderCount).sum();
+    }
+
+    public long getSizeBytes() {
+        return segments.stream().mapToLong(ArchiveSegment::getSizeBytes).sum();
+    }
+
+    private static long sequenceOf(String name) {
+        return Long.parseLong(name.substring(name.indexOf('-') + 1, name.indexOf(SUFFIX)));
+    }
+}
@@ -0,0 +1,6 @@
+package com.franciscode.melicommerce.repositories.catalog;
+
+import com.franciscode.melicommerce.dto.ProductDTO;
+
+public record CatalogEntry(ProductDTO product, long[] categoryIds) {
+}
@@ -0,0 +1,314 @@
+package com.franciscode.melicommerce.repositories.catalog;
+
+import com.franciscode.melicommerce.dto.CatalogProductDTO;
+import com.franciscode.melicommerce.dto.JsonEncoder;
+import com.franciscode.melicommerce.dto.ProductDTO;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+public class CatalogSnapshot {
+
+    private static final int MAGIC = 0x4D434154;
+    private static final int FORMAT_VERSION = 2;
+    private static final int HEADER_BYTES = 48;
+    private static final int TRAILER_BYTES = 4;
+
+    public static final int NAME = 0;
+    public static final int DESCRIPTION = 1;
+    public static final int IMG_URL = 2;
+    public static final int SPECIFICATIONS = 3;
+    private static final int STRING_COLUMNS = 4;
+
+    private static final byte[][] JSON_KEYS = {
+            ascii("{\"description\":"), ascii(",\"id\":"), ascii(",\"imgUrl\":"), ascii(",\"name\":"),
+            ascii(",\"price\":"), ascii(",\"rating\":"), ascii(",\"specifications\":")
+    };
+
+    private final Path file;
+    private final MappedByteBuffer buffer;
+    private final long version;
+    private final Instant createdAt;
+    private final int productCount;
+    private final int ids;
+    private final int prices;
+    private final int ratings;
+    private final int categoryStarts;
+    private final int categoryIds;
+    private final int stringEnds;
+    private final int nulls;
+    private final int arena;
+
+    private CatalogSnapshot(Path file, MappedByteBuffer buffer) {
+        this.file = file;
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_BYTES + TRAILER_BYTES || buffer.getInt(0) != MAGIC) {
+            throw new IllegalStateException("not a catalog snapshot: " + file);
+        }
+        if (buffer.getInt(4) != FORMAT_VERSION) {
+            throw new IllegalStateException("unsupported catalog snapshot format " + buffer.getInt(4) + ": " + file);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(0, buffer.capacity() - TRAILER_BYTES));
+        if ((int) crc.getValue() != buffer.getInt(buffer.capacity() - TRAILER_BYTES)) {
+            throw new IllegalStateException("corrupt catalog snapshot: " + file);
+        }
+        version = buffer.getLong(8);
+        createdAt = Instant.ofEpochMilli(buffer.getLong(16));
+        productCount = buffer.getInt(24);
+        int links = buffer.getInt(28);
+        ids = HEADER_BYTES;
+        prices = ids + productCount * Long.BYTES;
+        ratings = prices + productCount * Double.BYTES;
+        categoryIds = ratings + productCount * Double.BYTES;
+        categoryStarts = categoryIds + links * Long.BYTES;
+        stringEnds = categoryStarts + (productCount + 1) * Integer.BYTES;
+        nulls = stringEnds + STRING_COLUMNS * (productCount + 1) * Integer.BYTES;
+        arena = nulls + productCount;
+    }
+
+    public static CatalogSnapshot open(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new CatalogSnapshot(file, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static void write(Path file, long version, Instant createdAt, List<CatalogEntry> entries) {
+        List<CatalogEntry> sorted = new ArrayList<>(entries);
+        sorted.sort(Comparator.comparing(entry -> entry.product().getId()));
+        int count = sorted.size();
+        int links = sorted.stream().mapToInt(entry -> entry.categoryIds().length).sum();
+
+        ByteBuffer columns = ByteBuffer.allocate(count * (Long.BYTES + 2 * Double.BYTES) + links * Long.BYTES
+                + (count + 1) * Integer.BYTES * (1 + STRING_COLUMNS) + count);
+        for (CatalogEntry entry : sorted) {
+            columns.putLong(entry.product().getId());
+        }
+        for (CatalogEntry entry : sorted) {
+            columns.putDouble(orNaN(entry.product().getPrice()));
+        }
+        for (CatalogEntry entry : sorted) {
+            columns.putDouble(orNaN(entry.product().getRating()));
+        }
+        for (CatalogEntry entry : sorted) {
+            for (long categoryId : entry.categoryIds()) {
+                columns.putLong(categoryId);
+            }
+        }
+        int link = 0;
+        columns.putInt(link);
+        for (CatalogEntry entry : sorted) {
+            link += entry.categoryIds().length;
+            columns.putInt(link);
+        }
+        ByteArrayOutputStream strings = new ByteArrayOutputStream(count * 128);
+        byte[] nullFlags = new byte[count];
+        for (int column = 0; column < STRING_COLUMNS; column++) {
+            columns.putInt(strings.size());
+            for (int row = 0; row < count; row++) {
+                String value = stringOf(sorted.get(row).product(), column);
+                if (value == null) {
+                    nullFlags[row] |= (byte) (1 << column);
+                }
+                else {
+                    strings.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+                }
+                columns.putInt(strings.size());
+            }
+        }
+        columns.put(nullFlags);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(MAGIC).putInt(FORMAT_VERSION).putLong(version).putLong(createdAt.toEpochMilli())
+                .putInt(count).putInt(links).putLong(strings.size());
+        byte[] arena = strings.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(header.array());
+        crc.update(columns.array());
+        crc.update(arena);
+        ByteBuffer trailer = ByteBuffer.allocate(TRAILER_BYTES).putInt((int) crc.getValue());
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            channel.write(new ByteBuffer[]{header.clear(), columns.flip(), ByteBuffer.wrap(arena), trailer.flip()});
+            channel.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public int getProductCount() {
+        return productCount;
+    }
+
+    public long getSizeBytes() {
+        return buffer.capacity();
+    }
+
+    public CatalogEntry find(long productId) {
+        int slot = slotOf(productId);
+        return slot < 0 ? null : entry(slot);
+    }
+
+    public void forEach(Consumer<CatalogEntry> consumer) {
+        for (int slot = 0; slot < productCount; slot++) {
+            consumer.accept(entry(slot));
+        }
+    }
+
+    public long id(int slot) {
+        return buffer.getLong(ids + slot * Long.BYTES);
+    }
+
+    public Double price(int slot) {
+        return ofNaN(buffer.getDouble(prices + slot * Double.BYTES));
+    }
+
+    public Double rating(int slot) {
+        return ofNaN(buffer.getDouble(ratings + slot * Double.BYTES));
+    }
+
+    public String string(int column, int slot) {
+        if (isNull(column, slot)) {
+            return null;
+        }
+        int start = stringStart(column, slot);
+        byte[] bytes = new byte[stringEnd(column, slot) - start];
+        buffer.get(arena + start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public long[] categoryIds(int slot) {
+        int first = buffer.getInt(categoryStarts + slot * Integer.BYTES);
+        long[] result = new long[buffer.getInt(categoryStarts + (slot + 1) * Integer.BYTES) - first];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = buffer.getLong(categoryIds + (first + i) * Long.BYTES);
+        }
+        return result;
+    }
+
+    public void writeJson(int slot, OutputStream out) throws IOException {
+        int size = JSON_KEYS.length * 24;
+        for (int column = 0; column < STRING_COLUMNS; column++) {
+            size += stringEnd(column, slot) - stringStart(column, slot);
+        }
+        JsonEncoder json = new JsonEncoder(size);
+        json.attach(out);
+        try {
+            writeJson(slot, json);
+            json.flush();
+        } finally {
+            json.detach();
+        }
+    }
+
+    public void writeJson(int slot, JsonEncoder json) throws IOException {
+        json.writeRaw(JSON_KEYS[0]);
+        writeJsonString(DESCRIPTION, slot, json);
+        json.writeRaw(JSON_KEYS[1]);
+        json.writeLong(id(slot));
+        json.writeRaw(JSON_KEYS[2]);
+        writeJsonString(IMG_URL, slot, json);
+        json.writeRaw(JSON_KEYS[3]);
+        writeJsonString(NAME, slot, json);
+        json.writeRaw(JSON_KEYS[4]);
+        json.writeDouble(price(slot));
+        json.writeRaw(JSON_KEYS[5]);
+        json.writeDouble(rating(slot));
+        json.writeRaw(JSON_KEYS[6]);
+        writeJsonString(SPECIFICATIONS, slot, json);
+        json.writeByte('}');
+    }
+
+    private void writeJsonString(int column, int slot, JsonEncoder json) throws IOException {
+        if (isNull(column, slot)) {
+            json.writeNull();
+        }
+        else {
+            json.writeUtf8String(buffer, arena + stringStart(column, slot), arena + stringEnd(column, slot));
+        }
+    }
+
+    private int slotOf(long productId) {
+        int low = 0;
+        int high = productCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long current = id(mid);
+            if (current < productId) {
+                low = mid + 1;
+            }
+            else if (current > productId) {
+                high = mid - 1;
+            }
+            else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private CatalogEntry entry(int slot) {
+        return new CatalogEntry(new CatalogProductDTO(this, slot), categoryIds(slot));
+    }
+
+    private boolean isNull(int column, int slot) {
+        return (buffer.get(nulls + slot) & (1 << column)) != 0;
+    }
+
+    private int stringStart(int column, int slot) {
+        return buffer.getInt(stringEnds + (column * (productCount + 1) + slot) * Integer.BYTES);
+    }
+
+    private int stringEnd(int column, int slot) {
+        return stringStart(column, slot + 1);
+    }
+
+    private static String stringOf(ProductDTO product, int column) {
+        return switch (column) {
+            case NAME -> product.getName();
+            case DESCRIPTION -> product.getDescription();
+            case IMG_URL -> product.getImgUrl();
+            default -> product.getSpecifications();
+        };
+    }
+
+    private static double orNaN(Double value) {
+        return value == null ? Double.NaN : value;
+    }
+
+    private static Double ofNaN(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,138 @@
+package com.franciscode.melicommerce.repositories.catalog;
+
+import com.franciscode.melicommerce.jfr.CatalogLookupEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public class CatalogStore {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogStore.class);
+    private static final String PREFIX = "catalog-";
+    private static final String SUFFIX = ".snap";
+    private static final String TEMP = ".tmp";
+    private static final CatalogEntry DELETED = new CatalogEntry(null, new long[0]);
+
+    private final Path directory;
+    private final int keep;
+    private volatile State state;
+
+    public CatalogStore(Path directory, int keep) {
+        this.directory = directory;
+        this.keep = Math.max(1, keep);
+        CatalogSnapshot latest = null;
+        try {
+            Files.createDirectories(directory);
+            for (Path file : list()) {
+                if (file.getFileName().toString().endsWith(TEMP)) {
+                    Files.delete(file);
+                }
+                else if (latest == null) {
+                    try {
+                        latest = CatalogSnapshot.open(file);
+                    } catch (IllegalStateException | UncheckedIOException e) {
+                        log.warn("Snapshot do catálogo ignorado: {}", e.getMessage());
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        state = new State(latest, new ConcurrentHashMap<>());
+    }
+
+    public CatalogSnapshot getSnapshot() {
+        return state.snapshot();
+    }
+
+    public int getOverlaySize() {
+        return state.overlay().size();
+    }
+
+    public CatalogEntry find(long productId) {
+        CatalogLookupEvent event = CatalogLookupEvent.start(productId);
+        State current = state;
+        CatalogEntry entry = current.overlay().get(productId);
+        if (entry != null) {
+            event.finish(entry != DELETED, true);
+            return entry == DELETED ? null : entry;
+        }
+        entry = current.snapshot() == null ? null : current.snapshot().find(productId);
+        event.finish(entry != null, false);
+        return entry;
+    }
+
+    public void forEach(Consumer<CatalogEntry> consumer) {
+        State current = state;
+        Map<Long, CatalogEntry> overlay = Map.copyOf(current.overlay());
+        if (current.snapshot() != null) {
+            current.snapshot().forEach(entry -> {
+                if (!overlay.containsKey(entry.product().getId())) {
+                    consumer.accept(entry);
+                }
+            });
+        }
+        overlay.values().stream()
+                .filter(entry -> entry != DELETED)
+                .sorted(Comparator.comparing(entry -> entry.product().getId()))
+                .forEach(consumer);
+    }
+
+    public void put(CatalogEntry entry) {
+        state.overlay().put(entry.product().getId(), entry);
+    }
+
+    public void remove(long productId) {
+        state.overlay().put(productId, DELETED);
+    }
+
+    public synchronized CatalogSnapshot publish(long version, Instant createdAt, List<CatalogEntry> entries) {
+        String name = String.format("%s%020d-%013d%s", PREFIX, version, createdAt.toEpochMilli(), SUFFIX);
+        Path temp = directory.resolve(name + TEMP);
+        CatalogSnapshot snapshot;
+        try {
+            Files.deleteIfExists(temp);
+            CatalogSnapshot.write(temp, version, createdAt, entries);
+            snapshot = CatalogSnapshot.open(Files.move(temp, directory.resolve(name), StandardCopyOption.ATOMIC_MOVE));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        state = new State(snapshot, new ConcurrentHashMap<>());
+        prune();
+        return snapshot;
+    }
+
+    private void prune() {
+        try {
+            List<Path> snapshots = list().stream().filter(file -> file.getFileName().toString().endsWith(SUFFIX)).toList();
+            for (Path file : snapshots.subList(Math.min(keep, snapshots.size()), snapshots.size())) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            log.warn("Falha ao remover snapshots antigos do catálogo", e);
+        }
+    }
+
+    private List<Path> list() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith(PREFIX))
+                    .sorted(Comparator.comparing(Path::getFileName).reversed())
+                    .toList();
+        }
+    }
+
+    private record State(CatalogSnapshot snapshot, Map<Long, CatalogEntry> overlay) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.franciscode.melicommerce.repositories.sharding;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+public class ShardRouter {
+
+    private final int shardCount;
+    private final TreeMap<Long, Integer> ring = new TreeMap<>();
+
+    public ShardRouter(int shardCount, int virtualNodes) {
+        if (shardCount <= 0 || virtualNodes <= 0) {
+            throw new IllegalArgumentException("shardCount and virtualNodes must be positive");
+        }
+        this.shardCount = shardCount;
+        for (int shard = 0; shard < shardCount; shard++) {
+            for (int node = 0; node < virtualNodes; node++) {
+                ring.put(mix(((long) shard << 32) | node), shard);
+            }
+        }
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public int shardFor(long clientId) {
+        Map.Entry<Long, Integer> entry = ring.ceilingEntry(mix(clientId));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
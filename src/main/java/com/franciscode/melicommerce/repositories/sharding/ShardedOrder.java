@@ -0,0 +1,11 @@
+package com.franciscode.melicommerce.repositories.sharding;
+
+import com.franciscode.melicommerce.entities.OrderStatus;
+import com.franciscode.melicommerce.services.events.OrderLine;
+
+import java.time.Instant;
+import java.util.List;
+
+public record ShardedOrder(long id, long clientId, Instant moment, OrderStatus status, Instant paymentMoment,
+                           List<OrderLine> lines) {
+}
@@ -0,0 +1,374 @@
+package com.franciscode.melicommerce.repositories.sharding;
+
+import com.franciscode.melicommerce.dto.OrderSummaryDTO;
+import com.franciscode.melicommerce.entities.OrderStatus;
+import com.franciscode.melicommerce.projections.OrderProductProjection;
+import com.franciscode.melicommerce.projections.OrderStatusProjection;
+import com.franciscode.melicommerce.projections.SaleLineProjection;
+import com.franciscode.melicommerce.services.events.OrderLine;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class ShardedOrderRepository implements AutoCloseable {
+
+    private static final String SELECT_SUMMARY = "SELECT o.id, o.client_id, o.moment, o.status, "
+            + "COUNT(i.product_id) AS items, COALESCE(SUM(i.price * i.quantity), 0) AS total FROM (";
+    private static final String GROUP_SUMMARY = ") o LEFT JOIN tb_order_item i ON i.order_id = o.id "
+            + "GROUP BY o.id, o.client_id, o.moment, o.status ORDER BY o.moment DESC, o.id DESC";
+    private static final Comparator<OrderSummaryDTO> MOST_RECENT_FIRST = Comparator
+            .comparing(OrderSummaryDTO::getMoment).thenComparing(OrderSummaryDTO::getId).reversed();
+
+    private final List<DataSource> dataSources;
+    private final List<JdbcTemplate> shards = new ArrayList<>();
+    private final List<TransactionTemplate> transactions = new ArrayList<>();
+    private final ShardRouter router;
+    private final ExecutorService executor;
+
+    public ShardedOrderRepository(List<DataSource> dataSources, ShardRouter router, ExecutorService executor) {
+        if (dataSources.size() != router.getShardCount()) {
+            throw new IllegalArgumentException("router expects " + router.getShardCount() + " shards, got " + dataSources.size());
+        }
+        this.dataSources = List.copyOf(dataSources);
+        this.router = router;
+        this.executor = executor;
+        for (DataSource dataSource : dataSources) {
+            shards.add(new JdbcTemplate(dataSource));
+            transactions.add(new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+        }
+    }
+
+    public int getShardCount() {
+        return shards.size();
+    }
+
+    public int shardFor(long clientId) {
+        return router.shardFor(clientId);
+    }
+
+    public long nextId(long clientId) {
+        int shard = shardFor(clientId);
+        Long value = shards.get(shard).queryForObject("SELECT NEXT VALUE FOR seq_order_id", Long.class);
+        return value * shards.size() + shard;
+    }
+
+    public void reserveIdsThrough(long maxId) {
+        long floor = maxId / shards.size() + 1;
+        fanOut(jdbc -> {
+            Long next = jdbc.queryForObject("SELECT NEXT VALUE FOR seq_order_id", Long.class);
+            jdbc.execute("ALTER SEQUENCE seq_order_id RESTART WITH " + Math.max(next, floor));
+            return next;
+        });
+    }
+
+    public long findBackfillWatermark() {
+        return fanOut(jdbc -> jdbc.queryForObject("SELECT last_order_id FROM tb_backfill_watermark WHERE id = 1", Long.class))
+                .stream()
+                .mapToLong(Long::longValue)
+                .min()
+                .orElse(0L);
+    }
+
+    public void recordBackfillWatermark(long lastOrderId) {
+        fanOut(jdbc -> jdbc.update("UPDATE tb_backfill_watermark SET last_order_id = ? WHERE id = 1 AND last_order_id < ?",
+                lastOrderId, lastOrderId));
+    }
+
+    public void insert(ShardedOrder order) {
+        int shard = shardFor(order.clientId());
+        JdbcTemplate jdbc = shards.get(shard);
+        transactions.get(shard).executeWithoutResult(status -> insertRows(jdbc, order));
+    }
+
+    public boolean insertIfAbsent(ShardedOrder order) {
+        int shard = shardFor(order.clientId());
+        JdbcTemplate jdbc = shards.get(shard);
+        Boolean inserted = transactions.get(shard).execute(status -> {
+            Long existing = jdbc.queryForObject("SELECT COUNT(*) FROM tb_order WHERE id = ?", Long.class, order.id());
+            if (existing != null && existing > 0) {
+                return false;
+            }
+            insertRows(jdbc, order);
+            return true;
+        });
+        return Boolean.TRUE.equals(inserted);
+    }
+
+    public List<ShardedOrder> findAllById(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        String ids = orderIds.stream().map(String::valueOf).collect(Collectors.joining(", "));
+        List<ShardedOrder> result = new ArrayList<>(orderIds.size());
+        fanOut(jdbc -> findAllById(jdbc, ids)).forEach(result::addAll);
+        return result;
+    }
+
+    public boolean existsById(long orderId) {
+        return fanOut(jdbc -> jdbc.queryForObject("SELECT COUNT(*) FROM tb_order WHERE id = ?", Long.class, orderId))
+                .stream().anyMatch(count -> count > 0);
+    }
+
+    public int updateStatus(Collection<ShardedOrder> orders, OrderStatus status, Instant moment) {
+        Map<Integer, List<ShardedOrder>> byShard = orders.stream()
+                .collect(Collectors.groupingBy(order -> shardFor(order.clientId()), TreeMap::new, Collectors.toList()));
+        inTransactions(List.copyOf(byShard.keySet()), () -> byShard.forEach((shard, shardOrders) -> {
+            JdbcTemplate jdbc = shards.get(shard);
+            for (ShardedOrder order : shardOrders) {
+                int rows = jdbc.update("UPDATE tb_order SET status = ? WHERE id = ? AND status = ?",
+                        status.ordinal(), order.id(), order.status().ordinal());
+                if (rows == 0) {
+                    throw new OptimisticLockingFailureException("Order " + order.id() + " is no longer " + order.status());
+                }
+                if (status == OrderStatus.PAID) {
+                    jdbc.update("INSERT INTO tb_payment (order_id, moment) SELECT ?, ? "
+                            + "WHERE NOT EXISTS (SELECT 1 FROM tb_payment WHERE order_id = ?)",
+                            order.id(), toTimestamp(moment), order.id());
+                }
+            }
+        }));
+        return orders.size();
+    }
+
+    public void deleteAll(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+        String ids = orderIds.stream().map(String::valueOf).collect(Collectors.joining(", "));
+        List<Integer> all = IntStream.range(0, shards.size()).boxed().toList();
+        inTransactions(all, () -> {
+            for (JdbcTemplate jdbc : shards) {
+                jdbc.update("DELETE FROM tb_payment WHERE order_id IN (" + ids + ")");
+                jdbc.update("DELETE FROM tb_order_item WHERE order_id IN (" + ids + ")");
+                jdbc.update("DELETE FROM tb_order WHERE id IN (" + ids + ")");
+            }
+        });
+    }
+
+    public List<Long> findIdsByStatusInAndMomentBefore(Collection<OrderStatus> statuses, Instant before, int limit) {
+        String sql = "SELECT id FROM tb_order WHERE status IN (" + ordinals(statuses) + ") AND moment < ? ORDER BY id LIMIT ?";
+        return fanOut(jdbc -> jdbc.queryForList(sql, Long.class, toTimestamp(before), limit)).stream()
+                .flatMap(List::stream)
+                .sorted()
+                .limit(limit)
+                .toList();
+    }
+
+    public List<OrderStatusProjection> findStatuses(Collection<OrderStatus> statuses) {
+        String sql = "SELECT id, status FROM tb_order WHERE status IN (" + ordinals(statuses) + ")";
+        List<OrderStatusProjection> result = new ArrayList<>();
+        fanOut(jdbc -> jdbc.query(sql, (rs, rowNum) -> (OrderStatusProjection) new OrderStatusRow(rs.getLong("id"),
+                OrderStatus.values()[rs.getInt("status")]))).forEach(result::addAll);
+        return result;
+    }
+
+    public List<OrderProductProjection> findOrderProducts(OrderStatus excluded) {
+        String sql = "SELECT i.order_id, i.product_id FROM tb_order_item i JOIN tb_order o ON o.id = i.order_id "
+                + "WHERE o.status <> ? ORDER BY i.order_id";
+        List<OrderProductProjection> result = new ArrayList<>();
+        fanOut(jdbc -> jdbc.query(sql, (rs, rowNum) -> (OrderProductProjection) new OrderProductRow(rs.getLong("order_id"),
+                rs.getLong("product_id")), excluded.ordinal())).forEach(result::addAll);
+        return result;
+    }
+
+    public List<OrderSummaryDTO> findByClient(long clientId, int limit) {
+        return shards.get(shardFor(clientId)).query(SELECT_SUMMARY
+                        + "SELECT id, client_id, moment, status FROM tb_order WHERE client_id = ? "
+                        + "ORDER BY moment DESC, id DESC LIMIT ?" + GROUP_SUMMARY,
+                ShardedOrderRepository::toSummary, clientId, limit);
+    }
+
+    public List<OrderSummaryDTO> findRecent(Collection<OrderStatus> statuses, int limit) {
+        String sql = SELECT_SUMMARY + "SELECT id, client_id, moment, status FROM tb_order WHERE status IN ("
+                + ordinals(statuses) + ") ORDER BY moment DESC, id DESC LIMIT ?" + GROUP_SUMMARY;
+        return fanOut(jdbc -> jdbc.query(sql, ShardedOrderRepository::toSummary, limit)).stream()
+                .flatMap(List::stream)
+                .sorted(MOST_RECENT_FIRST)
+                .limit(limit)
+                .toList();
+    }
+
+    public List<SaleLineProjection> findSaleLines(Collection<OrderStatus> statuses) {
+        String sql = "SELECT o.id, i.product_id, o.moment, o.status, i.quantity, i.price "
+                + "FROM tb_order_item i JOIN tb_order o ON o.id = i.order_id WHERE o.status IN (" + ordinals(statuses) + ")";
+        List<SaleLineProjection> result = new ArrayList<>();
+        fanOut(jdbc -> jdbc.query(sql, ShardedOrderRepository::toSaleLine)).forEach(result::addAll);
+        return result;
+    }
+
+    public List<Long> countByShard() {
+        return fanOut(jdbc -> jdbc.queryForObject("SELECT COUNT(*) FROM tb_order", Long.class));
+    }
+
+    @Override
+    public void close() throws Exception {
+        executor.shutdown();
+        for (DataSource dataSource : dataSources) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private <T> List<T> fanOut(Function<JdbcTemplate, T> query) {
+        List<CompletableFuture<T>> futures = new ArrayList<>(shards.size());
+        for (JdbcTemplate jdbc : shards) {
+            futures.add(CompletableFuture.supplyAsync(() -> query.apply(jdbc), executor));
+        }
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (CompletableFuture<T> future : futures) {
+                results.add(future.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return results;
+    }
+
+    private void inTransactions(List<Integer> shardIndexes, Runnable work) {
+        inTransactions(shardIndexes, 0, work);
+    }
+
+    private void inTransactions(List<Integer> shardIndexes, int next, Runnable work) {
+        if (next == shardIndexes.size()) {
+            work.run();
+            return;
+        }
+        transactions.get(shardIndexes.get(next)).executeWithoutResult(status -> inTransactions(shardIndexes, next + 1, work));
+    }
+
+    private static void insertRows(JdbcTemplate jdbc, ShardedOrder order) {
+        jdbc.update("INSERT INTO tb_order (id, client_id, moment, status) VALUES (?, ?, ?, ?)",
+                order.id(), order.clientId(), toTimestamp(order.moment()), order.status().ordinal());
+        List<Object[]> items = new ArrayList<>(order.lines().size());
+        for (OrderLine line : order.lines()) {
+            items.add(new Object[]{order.id(), line.productId(), line.quantity(), line.price()});
+        }
+        jdbc.batchUpdate("INSERT INTO tb_order_item (order_id, product_id, quantity, price) VALUES (?, ?, ?, ?)", items);
+        if (order.paymentMoment() != null) {
+            jdbc.update("INSERT INTO tb_payment (order_id, moment) VALUES (?, ?)", order.id(), toTimestamp(order.paymentMoment()));
+        }
+    }
+
+    private static List<ShardedOrder> findAllById(JdbcTemplate jdbc, String ids) {
+        Map<Long, List<OrderLine>> lines = new HashMap<>();
+        jdbc.query("SELECT order_id, product_id, quantity, price FROM tb_order_item WHERE order_id IN (" + ids + ") "
+                + "ORDER BY order_id, product_id", rs -> {
+            lines.computeIfAbsent(rs.getLong("order_id"), id -> new ArrayList<>())
+                    .add(new OrderLine(rs.getLong("product_id"), rs.getInt("quantity"), rs.getDouble("price")));
+        });
+        return jdbc.query("SELECT o.id, o.client_id, o.moment, o.status, p.moment AS payment_moment FROM tb_order o "
+                        + "LEFT JOIN tb_payment p ON p.order_id = o.id WHERE o.id IN (" + ids + ")",
+                (rs, rowNum) -> new ShardedOrder(rs.getLong("id"), rs.getLong("client_id"), toInstant(rs, "moment"),
+                        OrderStatus.values()[rs.getInt("status")], toInstant(rs, "payment_moment"),
+                        lines.getOrDefault(rs.getLong("id"), List.of())));
+    }
+
+    private static String ordinals(Collection<OrderStatus> statuses) {
+        return statuses.stream().map(status -> String.valueOf(status.ordinal())).collect(Collectors.joining(", "));
+    }
+
+    private static OffsetDateTime toTimestamp(Instant instant) {
+        return instant == null ? null : instant.atOffset(ZoneOffset.UTC);
+    }
+
+    private static Instant toInstant(ResultSet rs, String column) throws SQLException {
+        OffsetDateTime value = rs.getObject(column, OffsetDateTime.class);
+        return value == null ? null : value.toInstant();
+    }
+
+    private static OrderSummaryDTO toSummary(ResultSet rs, int rowNum) throws SQLException {
+        return new OrderSummaryDTO(rs.getLong("id"), rs.getLong("client_id"), toInstant(rs, "moment"),
+                OrderStatus.values()[rs.getInt("status")], rs.getLong("items"), rs.getDouble("total"));
+    }
+
+    private static SaleLineProjection toSaleLine(ResultSet rs, int rowNum) throws SQLException {
+        return new SaleLine(rs.getLong("id"), rs.getLong("product_id"), toInstant(rs, "moment"),
+                OrderStatus.values()[rs.getInt("status")], rs.getInt("quantity"), rs.getDouble("price"));
+    }
+
+    private record OrderStatusRow(Long id, OrderStatus status) implements OrderStatusProjection {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public OrderStatus getStatus() {
+            return status;
+        }
+    }
+
+    private record OrderProductRow(Long orderId, Long productId) implements OrderProductProjection {
+
+        @Override
+        public Long getOrderId() {
+            return orderId;
+        }
+
+        @Override
+        public Long getProductId() {
+            return productId;
+        }
+    }
+
+    private record SaleLine(Long orderId, Long productId, Instant moment, OrderStatus status, Integer quantity,
+                            Double price) implements SaleLineProjection {
+
+        @Override
+        public Long getOrderId() {
+            return orderId;
+        }
+
+        @Override
+        public Long getProductId() {
+            return productId;
+        }
+
+        @Override
+        public Instant getMoment() {
+            return moment;
+        }
+
+        @Override
+        public OrderStatus getStatus() {
+            return status;
+        }
+
+        @Override
+        public Integer getQuantity() {
+            return quantity;
+        }
+
+        @Override
+        public Double getPrice() {
+            return price;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.franciscode.melicommerce.services;
+
+import com.franciscode.melicommerce.dto.CacheRegionStatisticsDTO;
+import com.franciscode.melicommerce.dto.CacheStatisticsDTO;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@Service
+public class CacheStatisticsService {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    public CacheStatisticsDTO getStatistics() {
+        Statistics statistics = statistics();
+        String[] regionNames = statistics.getSecondLevelCacheRegionNames();
+        Arrays.sort(regionNames);
+        List<CacheRegionStatisticsDTO> regions = new ArrayList<>(regionNames.length);
+        for (String name : regionNames) {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(name);
+            if (region != null) {
+                long elements = region.getElementCountInMemory();
+                regions.add(new CacheRegionStatisticsDTO(name, region.getHitCount(), region.getMissCount(),
+                        region.getPutCount(), elements < 0 ? null : elements));
+            }
+        }
+        return new CacheStatisticsDTO(statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount(),
+                statistics.getQueryCachePutCount(), regions);
+    }
+
+    public void clear() {
+        statistics().clear();
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
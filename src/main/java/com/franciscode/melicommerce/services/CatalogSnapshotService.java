@@ -0,0 +1,277 @@
+package com.franciscode.melicommerce.services;
+
+import com.franciscode.melicommerce.config.CompressedResponseCache;
+import com.franciscode.melicommerce.dto.CatalogSnapshotDTO;
+import com.franciscode.melicommerce.dto.ProductDTO;
+import com.franciscode.melicommerce.entities.CatalogChange;
+import com.franciscode.melicommerce.jfr.CatalogSnapshotEvent;
+import com.franciscode.melicommerce.projections.ProductCategoryProjection;
+import com.franciscode.melicommerce.repositories.CatalogChangeRepository;
+import com.franciscode.melicommerce.repositories.ProductRepository;
+import com.franciscode.melicommerce.repositories.catalog.CatalogEntry;
+import com.franciscode.melicommerce.repositories.catalog.CatalogSnapshot;
+import com.franciscode.melicommerce.repositories.catalog.CatalogStore;
+import com.franciscode.melicommerce.services.events.ProductChangedEvent;
+import com.franciscode.melicommerce.services.exceptions.BadRequestException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Service
+public class CatalogSnapshotService {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogSnapshotService.class);
+    private static final int CATCH_UP_BATCH = 1000;
+    private static final long[] NO_CATEGORIES = new long[0];
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CatalogChangeRepository changeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired(required = false)
+    private CatalogStore store;
+
+    @Autowired(required = false)
+    private CompressedResponseCache responseCache;
+
+    @Value("${catalog.snapshot.interval-minutes:30}")
+    private long intervalMinutes;
+
+    @Value("${catalog.snapshot.poll-ms:1000}")
+    private long pollMs;
+
+    @Value("${catalog.snapshot.settle-seconds:60}")
+    private long settleSeconds;
+
+    @Value("${catalog.snapshot.change-retention-days:7}")
+    private int retentionDays;
+
+    private long version = -1;
+    private Instant since = Instant.EPOCH;
+    private final Map<Long, Instant> applied = new HashMap<>();
+    private final AtomicBoolean catchUpRequested = new AtomicBoolean();
+    private volatile ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    public void open() {
+        if (store == null) {
+            return;
+        }
+        CatalogSnapshot snapshot = store.getSnapshot();
+        if (snapshot == null || changeRepository.findOldestId() > snapshot.getVersion() + 1) {
+            writeSnapshot();
+        }
+        else {
+            synchronized (this) {
+                reset(snapshot);
+            }
+            int changed = catchUp();
+            log.info("Catálogo carregado do snapshot versão {} ({} produtos, {} alteração(ões) aplicadas)",
+                    snapshot.getVersion(), snapshot.getProductCount(), changed);
+        }
+        start();
+    }
+
+    public synchronized void start() {
+        if (store == null || scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("catalog-snapshot").factory());
+        if (pollMs > 0) {
+            scheduler.scheduleWithFixedDelay(this::catchUpQuietly, pollMs, pollMs, TimeUnit.MILLISECONDS);
+        }
+        if (intervalMinutes > 0) {
+            scheduler.scheduleWithFixedDelay(this::writeSnapshotQuietly, intervalMinutes, intervalMinutes, TimeUnit.MINUTES);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        ScheduledExecutorService current = scheduler;
+        if (current == null || !catchUpRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            current.execute(() -> {
+                catchUpRequested.set(false);
+                catchUpQuietly();
+            });
+        } catch (RejectedExecutionException e) {
+            catchUpRequested.set(false);
+        }
+    }
+
+    public synchronized int catchUp() {
+        if (store == null) {
+            return 0;
+        }
+        CatalogSnapshotEvent event = CatalogSnapshotEvent.start(CatalogSnapshotEvent.CATCH_UP);
+        Instant now = Instant.now();
+        Integer changed = readOnly().execute(status -> {
+            Set<Long> productIds = new LinkedHashSet<>();
+            collect(changeRepository.findRecentUpTo(since, version), productIds);
+            List<CatalogChange> changes;
+            do {
+                changes = changeRepository.findAfter(version, PageRequest.of(0, CATCH_UP_BATCH));
+                collect(changes, productIds);
+            } while (changes.size() == CATCH_UP_BATCH);
+            if (!productIds.isEmpty()) {
+                apply(productIds);
+            }
+            return productIds.size();
+        });
+        since = now.minusSeconds(settleSeconds);
+        applied.values().removeIf(moment -> moment.isBefore(since));
+        int result = changed == null ? 0 : changed;
+        if (result > 0 && responseCache != null) {
+            responseCache.invalidateAll();
+        }
+        event.finish(version, 0, result, 0);
+        return result;
+    }
+
+    public CatalogSnapshotDTO writeSnapshot() {
+        if (store == null) {
+            throw new BadRequestException("Snapshot do catálogo desativado (catalog.snapshot.enabled=false).");
+        }
+        CatalogSnapshot snapshot;
+        synchronized (this) {
+            CatalogSnapshotEvent event = CatalogSnapshotEvent.start(CatalogSnapshotEvent.WRITE);
+            Instant createdAt = Instant.now();
+            snapshot = readOnly().execute(status -> {
+                long latest = changeRepository.findLatestId();
+                return store.publish(latest, createdAt, loadAll());
+            });
+            reset(snapshot);
+            event.finish(snapshot.getVersion(), snapshot.getProductCount(), 0, snapshot.getSizeBytes());
+            log.info("Snapshot do catálogo versão {} gravado ({} produtos, {} bytes)",
+                    snapshot.getVersion(), snapshot.getProductCount(), snapshot.getSizeBytes());
+        }
+        catchUp();
+        pruneChanges(snapshot.getVersion());
+        return getStatus();
+    }
+
+    public CatalogSnapshotDTO getStatus() {
+        if (store == null || store.getSnapshot() == null) {
+            return new CatalogSnapshotDTO(store != null, null, null, 0, 0, 0L);
+        }
+        CatalogSnapshot snapshot = store.getSnapshot();
+        return new CatalogSnapshotDTO(true, snapshot.getVersion(), snapshot.getCreatedAt(), snapshot.getProductCount(),
+                store.getOverlaySize(), snapshot.getSizeBytes());
+    }
+
+    private void reset(CatalogSnapshot snapshot) {
+        version = snapshot.getVersion();
+        since = snapshot.getCreatedAt().minusSeconds(settleSeconds);
+        applied.clear();
+    }
+
+    private void collect(List<CatalogChange> changes, Set<Long> productIds) {
+        for (CatalogChange change : changes) {
+            if (applied.putIfAbsent(change.getId(), change.getMoment()) == null) {
+                productIds.add(change.getProductId());
+            }
+            version = Math.max(version, change.getId());
+        }
+    }
+
+    private void apply(Set<Long> productIds) {
+        Map<Long, List<Long>> categories = new HashMap<>();
+        for (ProductCategoryProjection link : productRepository.findCategoryLinksByProductIdIn(productIds)) {
+            categories.computeIfAbsent(link.getProductId(), id -> new ArrayList<>()).add(link.getCategoryId());
+        }
+        Set<Long> missing = new LinkedHashSet<>(productIds);
+        for (ProductDTO product : productRepository.findAllDtosByIdIn(productIds)) {
+            store.put(new CatalogEntry(product, toArray(categories.get(product.getId()))));
+            missing.remove(product.getId());
+        }
+        missing.forEach(store::remove);
+    }
+
+    private List<CatalogEntry> loadAll() {
+        Map<Long, List<Long>> categories = new HashMap<>();
+        for (ProductCategoryProjection link : productRepository.findAllCategoryLinks()) {
+            categories.computeIfAbsent(link.getProductId(), id -> new ArrayList<>()).add(link.getCategoryId());
+        }
+        List<ProductDTO> products = productRepository.findAllDtos();
+        List<CatalogEntry> entries = new ArrayList<>(products.size());
+        for (ProductDTO product : products) {
+            entries.add(new CatalogEntry(product, toArray(categories.get(product.getId()))));
+        }
+        return entries;
+    }
+
+    private void pruneChanges(long upTo) {
+        if (retentionDays <= 0) {
+            return;
+        }
+        Instant before = Instant.now().minus(Duration.ofDays(retentionDays));
+        Integer removed = new TransactionTemplate(transactionManager).execute(status ->
+                changeRepository.deleteByMomentBeforeAndIdLessThan(before, upTo));
+        if (removed != null && removed > 0) {
+            log.info("{} alteração(ões) antigas do catálogo removidas", removed);
+        }
+    }
+
+    private TransactionTemplate readOnly() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        return transaction;
+    }
+
+    private void catchUpQuietly() {
+        try {
+            catchUp();
+        } catch (RuntimeException e) {
+            log.warn("Falha ao sincronizar o catálogo com as alterações recentes", e);
+        }
+    }
+
+    private void writeSnapshotQuietly() {
+        try {
+            writeSnapshot();
+        } catch (RuntimeException e) {
+            log.warn("Falha ao gravar o snapshot do catálogo", e);
+        }
+    }
+
+    private static long[] toArray(List<Long> ids) {
+        return ids == null ? NO_CATEGORIES : ids.stream().mapToLong(Long::longValue).toArray();
+    }
+}
@@ -0,0 +1,187 @@
+package com.franciscode.melicommerce.services;
+
+import com.franciscode.melicommerce.dto.OrderArchiveDTO;
+import com.franciscode.melicommerce.entities.Order;
+import com.franciscode.melicommerce.entities.OrderStatus;
+import com.franciscode.melicommerce.repositories.OrderItemRepository;
+import com.franciscode.melicommerce.repositories.OrderRepository;
+import com.franciscode.melicommerce.repositories.archive.ArchivedOrder;
+import com.franciscode.melicommerce.repositories.archive.OrderArchive;
+import com.franciscode.melicommerce.repositories.sharding.ShardedOrder;
+import com.franciscode.melicommerce.repositories.sharding.ShardedOrderRepository;
+import com.franciscode.melicommerce.services.events.OrderLine;
+import com.franciscode.melicommerce.services.exceptions.BadRequestException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class OrderArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderArchiveService.class);
+    private static final Set<OrderStatus> ARCHIVABLE_STATUSES = EnumSet.of(OrderStatus.DELIVERED, OrderStatus.CANCELED);
+
+    @Autowired
+    private OrderRepository repository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired(required = false)
+    private OrderArchive archive;
+
+    @Autowired(required = false)
+    private ShardedOrderRepository shardedRepository;
+
+    @Value("${orders.archive.min-age-days:180}")
+    private int minAgeDays;
+
+    @Value("${orders.archive.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${orders.archive.interval-minutes:60}")
+    private long intervalMinutes;
+
+    private ScheduledExecutorService scheduler;
+
+    @org.springframework.core.annotation.Order(-20)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (archive == null) {
+            return;
+        }
+        int recovered = archive.recover(shardedRepository != null ? shardedRepository::existsById : repository::existsById);
+        if (recovered > 0) {
+            log.info("{} segmento(s) de arquivo pendente(s) publicados na inicialização", recovered);
+        }
+        start();
+    }
+
+    public synchronized void start() {
+        if (archive == null || scheduler != null || intervalMinutes <= 0) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("order-archiver").factory());
+        scheduler.scheduleWithFixedDelay(this::archiveQuietly, intervalMinutes, intervalMinutes, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    public OrderArchiveDTO archive() {
+        if (archive == null) {
+            throw new BadRequestException("Arquivamento de pedidos desativado (orders.archive.enabled=false).");
+        }
+        Instant before = Instant.now().minus(Duration.ofDays(minAgeDays));
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int archived = 0;
+        Integer moved;
+        while ((moved = transaction.execute(status -> archiveBatch(before))) != null && moved > 0) {
+            archived += moved;
+        }
+        return getStatus(archived);
+    }
+
+    public OrderArchiveDTO getStatus() {
+        return getStatus(null);
+    }
+
+    private OrderArchiveDTO getStatus(Integer archived) {
+        if (archive == null) {
+            return new OrderArchiveDTO(false, archived, 0, 0L, 0L);
+        }
+        return new OrderArchiveDTO(true, archived, archive.getSegmentCount(), archive.getOrderCount(), archive.getSizeBytes());
+    }
+
+    private int archiveBatch(Instant before) {
+        List<Long> ids;
+        List<ArchivedOrder> orders;
+        if (shardedRepository != null) {
+            ids = shardedRepository.findIdsByStatusInAndMomentBefore(ARCHIVABLE_STATUSES, before, batchSize);
+            orders = shardedRepository.findAllById(ids).stream().map(OrderArchiveService::toArchived).toList();
+        } else {
+            ids = repository.findIdsByStatusInAndMomentBefore(ARCHIVABLE_STATUSES, before, PageRequest.of(0, batchSize));
+            orders = repository.findAllForExportByIdIn(ids).stream().map(OrderArchiveService::toArchived).toList();
+        }
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        Path pending = archive.write(orders);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if (shardedRepository != null) {
+                    try {
+                        shardedRepository.deleteAll(ids);
+                    } catch (RuntimeException e) {
+                        archive.discard(pending);
+                        throw e;
+                    }
+                }
+                archive.publish(pending);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    archive.discard(pending);
+                }
+            }
+        });
+        orderItemRepository.deleteByOrderIdIn(ids);
+        repository.deletePaymentsByOrderIdIn(ids);
+        repository.deleteAllByIdInBatch(ids);
+        return ids.size();
+    }
+
+    private void archiveQuietly() {
+        try {
+            OrderArchiveDTO result = archive();
+            if (result.getArchived() > 0) {
+                log.info("{} pedido(s) arquivado(s)", result.getArchived());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Falha ao arquivar pedidos", e);
+        }
+    }
+
+    private static ArchivedOrder toArchived(ShardedOrder order) {
+        return new ArchivedOrder(order.id(), order.clientId(), order.moment(), order.status(), order.paymentMoment(),
+                order.lines());
+    }
+
+    private static ArchivedOrder toArchived(Order order) {
+        List<OrderLine> lines = order.getItems().stream().map(OrderLine::from).toList();
+        Instant paymentMoment = order.getPayment() == null ? null : order.getPayment().getMoment();
+        return new ArchivedOrder(order.getId(), order.getClient().getId(), order.getMoment(), order.getStatus(),
+                paymentMoment, lines);
+    }
+}
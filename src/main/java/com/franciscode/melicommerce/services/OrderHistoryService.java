@@ -0,0 +1,147 @@
+package com.franciscode.melicommerce.services;
+
+import com.franciscode.melicommerce.dto.OrderSummaryDTO;
+import com.franciscode.melicommerce.entities.Order;
+import com.franciscode.melicommerce.entities.OrderStatus;
+import com.franciscode.melicommerce.repositories.OrderRepository;
+import com.franciscode.melicommerce.repositories.UserRepository;
+import com.franciscode.melicommerce.repositories.archive.ArchivedOrder;
+import com.franciscode.melicommerce.repositories.archive.OrderArchive;
+import com.franciscode.melicommerce.repositories.sharding.ShardedOrder;
+import com.franciscode.melicommerce.repositories.sharding.ShardedOrderRepository;
+import com.franciscode.melicommerce.services.events.OrderLine;
+import com.franciscode.melicommerce.services.exceptions.BadRequestException;
+import com.franciscode.melicommerce.services.exceptions.ResourceNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+public class OrderHistoryService {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderHistoryService.class);
+    private static final int BACKFILL_BATCH = 500;
+    private static final Comparator<OrderSummaryDTO> MOST_RECENT_FIRST = Comparator
+            .comparing(OrderSummaryDTO::getMoment).thenComparing(OrderSummaryDTO::getId).reversed();
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private OrderRepository repository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired(required = false)
+    private ShardedOrderRepository shardedRepository;
+
+    @Autowired(required = false)
+    private OrderArchive archive;
+
+    @Value("${orders.history.max-limit:100}")
+    private int maxLimit;
+
+    @org.springframework.core.annotation.Order(-10)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        Integer imported = transaction.execute(status -> backfill());
+        if (imported != null && imported > 0) {
+            log.info("{} pedido(s) do banco principal importado(s) para os shards", imported);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public int backfill() {
+        if (shardedRepository == null) {
+            return 0;
+        }
+        int imported = 0;
+        long watermark = shardedRepository.findBackfillWatermark();
+        long after = watermark;
+        List<Long> ids;
+        while (!(ids = repository.findIdsAfter(after, PageRequest.of(0, BACKFILL_BATCH))).isEmpty()) {
+            for (Order order : repository.findAllForExportByIdIn(ids)) {
+                if (shardedRepository.insertIfAbsent(toSharded(order))) {
+                    imported++;
+                }
+            }
+            after = ids.get(ids.size() - 1);
+            shardedRepository.recordBackfillWatermark(after);
+        }
+        if (after > watermark) {
+            shardedRepository.reserveIdsThrough(after);
+        }
+        return imported;
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrderSummaryDTO> findByClient(Long clientId, int limit) {
+        validateLimit(limit);
+        if (!userRepository.existsById(clientId)) {
+            throw new ResourceNotFoundException("Cliente não encontrado");
+        }
+        List<OrderSummaryDTO> live = shardedRepository != null
+                ? shardedRepository.findByClient(clientId, limit)
+                : repository.findSummariesByClientId(clientId, PageRequest.of(0, limit));
+        if (archive == null) {
+            return live;
+        }
+        List<ArchivedOrder> archived = archive.findByClient(clientId);
+        if (archived.isEmpty()) {
+            return live;
+        }
+        List<OrderSummaryDTO> merged = new ArrayList<>(live);
+        Set<Long> seen = new HashSet<>();
+        live.forEach(order -> seen.add(order.getId()));
+        for (ArchivedOrder order : archived) {
+            if (seen.add(order.id())) {
+                merged.add(new OrderSummaryDTO(order.id(), order.clientId(), order.moment(), order.status(),
+                        (long) order.lines().size(), order.total()));
+            }
+        }
+        merged.sort(MOST_RECENT_FIRST);
+        return merged.size() > limit ? merged.subList(0, limit) : merged;
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrderSummaryDTO> findRecent(OrderStatus status, int limit) {
+        validateLimit(limit);
+        Set<OrderStatus> statuses = status == null ? EnumSet.allOf(OrderStatus.class) : EnumSet.of(status);
+        if (shardedRepository != null) {
+            return shardedRepository.findRecent(statuses, limit);
+        }
+        return repository.findRecentSummaries(statuses, PageRequest.of(0, limit));
+    }
+
+    private void validateLimit(int limit) {
+        if (limit < 1 || limit > maxLimit) {
+            throw new BadRequestException("O parâmetro 'limit' deve estar entre 1 e " + maxLimit + ".");
+        }
+    }
+
+    private static ShardedOrder toSharded(Order order) {
+        List<OrderLine> lines = order.getItems().stream().map(OrderLine::from).toList();
+        Instant paymentMoment = order.getPayment() == null ? null : order.getPayment().getMoment();
+        return new ShardedOrder(order.getId(), order.getClient().getId(), order.getMoment(), order.getStatus(),
+                paymentMoment, lines);
+    }
+}
@@ -0,0 +1,115 @@
+package com.franciscode.melicommerce.services;
+
+import com.franciscode.melicommerce.entities.OrderStatus;
+import com.franciscode.melicommerce.projections.OrderStatusProjection;
+import com.franciscode.melicommerce.repositories.OrderRepository;
+import com.franciscode.melicommerce.repositories.sharding.ShardedOrderRepository;
+import com.franciscode.melicommerce.services.events.OrderPlacedEvent;
+import com.franciscode.melicommerce.services.events.OrderStatusChangedEvent;
+import com.franciscode.melicommerce.services.exceptions.BadRequestException;
+import com.franciscode.melicommerce.services.queues.StatusQueue;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class OrderQueueService {
+
+    private static final List<OrderStatus> QUEUED_STATUSES = Arrays.stream(OrderStatus.values())
+            .filter(status -> !status.isFinal())
+            .toList();
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private OrderRepository repository;
+
+    @Autowired(required = false)
+    private ShardedOrderRepository shardedRepository;
+
+    @Value("${orders.queue.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Value("${orders.queue.max-poll:100}")
+    private int maxPoll;
+
+    private final Map<OrderStatus, StatusQueue> queues = new EnumMap<>(OrderStatus.class);
+
+    public OrderQueueService() {
+        for (OrderStatus status : QUEUED_STATUSES) {
+            queues.put(status, new StatusQueue());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        transaction.executeWithoutResult(status -> rebuild());
+    }
+
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        List<OrderStatusProjection> orders = shardedRepository != null
+                ? shardedRepository.findStatuses(QUEUED_STATUSES)
+                : repository.findStatusesByStatusIn(QUEUED_STATUSES);
+        queues.values().forEach(StatusQueue::clear);
+        for (OrderStatusProjection order : orders) {
+            queues.get(order.getStatus()).add(order.getId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        enqueue(event.orderId(), event.status());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        StatusQueue previous = queues.get(event.previous());
+        if (previous != null) {
+            previous.remove(event.orderId());
+        }
+        enqueue(event.orderId(), event.current());
+    }
+
+    public List<Long> poll(OrderStatus status, int limit) {
+        StatusQueue queue = queueOf(status);
+        if (limit < 1 || limit > maxPoll) {
+            throw new BadRequestException("O parâmetro 'limit' deve estar entre 1 e " + maxPoll + ".");
+        }
+        return queue.poll(limit, System.currentTimeMillis(), leaseSeconds * 1000L);
+    }
+
+    public int size(OrderStatus status) {
+        StatusQueue queue = queueOf(status);
+        return queue.readySize() + queue.claimedSize();
+    }
+
+    private void enqueue(long orderId, OrderStatus status) {
+        StatusQueue queue = queues.get(status);
+        if (queue != null) {
+            queue.add(orderId);
+        }
+    }
+
+    private StatusQueue queueOf(OrderStatus status) {
+        StatusQueue queue = queues.get(status);
+        if (queue == null) {
+            throw new BadRequestException("Não há fila para pedidos com status " + status + ".");
+        }
+        return queue;
+    }
+}
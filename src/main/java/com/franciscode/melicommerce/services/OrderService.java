@@ -0,0 +1,215 @@
+package com.franciscode.melicommerce.services;
+
+import com.franciscode.melicommerce.dto.OrderDTO;
+import com.franciscode.melicommerce.dto.OrderItemDTO;
+import com.franciscode.melicommerce.entities.Order;
+import com.franciscode.melicommerce.entities.OrderItem;
+import com.franciscode.melicommerce.entities.OrderStatus;
+import com.franciscode.melicommerce.entities.Payment;
+import com.franciscode.melicommerce.entities.Product;
+import com.franciscode.melicommerce.entities.User;
+import com.franciscode.melicommerce.repositories.OrderItemRepository;
+import com.franciscode.melicommerce.repositories.OrderRepository;
+import com.franciscode.melicommerce.repositories.ProductRepository;
+import com.franciscode.melicommerce.repositories.UserRepository;
+import com.franciscode.melicommerce.repositories.sharding.ShardedOrder;
+import com.franciscode.melicommerce.repositories.sharding.ShardedOrderRepository;
+import com.franciscode.melicommerce.services.events.OrderLine;
+import com.franciscode.melicommerce.services.events.OrderPlacedEvent;
+import com.franciscode.melicommerce.services.events.OrderStatusChangedEvent;
+import com.franciscode.melicommerce.services.exceptions.BadRequestException;
+import com.franciscode.melicommerce.services.exceptions.ResourceNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+public class OrderService {
+
+    @Autowired
+    private OrderRepository repository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired(required = false)
+    private ShardedOrderRepository shardedRepository;
+
+    @Transactional(readOnly = true)
+    public OrderDTO findById(Long id) {
+        if (shardedRepository != null) {
+            return toDTO(findSharded(id));
+        }
+        Order order = repository.findById(id).orElseThrow(
+                () -> new ResourceNotFoundException("Recurso não encontrado"));
+        return new OrderDTO(order);
+    }
+
+    @Transactional
+    public OrderDTO insert(OrderDTO dto) {
+        User client = userRepository.findById(dto.getClientId()).orElseThrow(
+                () -> new ResourceNotFoundException("Cliente não encontrado"));
+
+        Order order = new Order();
+        order.setMoment(Instant.now());
+        order.setStatus(OrderStatus.WAITING_PAYMENT);
+        order.setClient(client);
+
+        Set<Long> productIds = new HashSet<>();
+        for (OrderItemDTO itemDto : dto.getItems()) {
+            if (!productIds.add(itemDto.getProductId())) {
+                throw new BadRequestException("O produto " + itemDto.getProductId() + " aparece mais de uma vez no pedido.");
+            }
+            Product product = productRepository.findById(itemDto.getProductId()).orElseThrow(
+                    () -> new ResourceNotFoundException("Produto não encontrado: " + itemDto.getProductId()));
+            order.getItems().add(new OrderItem(order, product, itemDto.getQuantity(), product.getPrice()));
+        }
+        if (shardedRepository != null) {
+            return insertSharded(order);
+        }
+
+        order = repository.save(order);
+        orderItemRepository.saveAll(order.getItems());
+        eventPublisher.publishEvent(OrderPlacedEvent.from(order));
+        return new OrderDTO(order);
+    }
+
+    @Transactional
+    public OrderDTO updateStatus(Long id, OrderStatus status) {
+        if (shardedRepository != null) {
+            ShardedOrder order = findSharded(id);
+            if (!order.status().canTransitionTo(status)) {
+                throw new BadRequestException("Transição de status inválida: " + order.status() + " -> " + status + ".");
+            }
+            transitionSharded(List.of(order), status);
+            return toDTO(new ShardedOrder(order.id(), order.clientId(), order.moment(), status, order.paymentMoment(),
+                    order.lines()));
+        }
+        Order order = repository.findById(id).orElseThrow(
+                () -> new ResourceNotFoundException("Recurso não encontrado"));
+        if (!order.getStatus().canTransitionTo(status)) {
+            throw new BadRequestException("Transição de status inválida: " + order.getStatus() + " -> " + status + ".");
+        }
+        transition(order, status, Instant.now());
+        return new OrderDTO(order);
+    }
+
+    @Transactional
+    public int updateStatus(Collection<Long> ids, OrderStatus status) {
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        if (shardedRepository != null) {
+            return updateStatusSharded(distinctIds, status);
+        }
+        List<Order> orders = repository.findAllWithItemsByIdIn(distinctIds);
+        if (orders.size() != distinctIds.size()) {
+            Set<Long> missing = new LinkedHashSet<>(distinctIds);
+            orders.forEach(order -> missing.remove(order.getId()));
+            throw new ResourceNotFoundException("Pedidos não encontrados: " + missing);
+        }
+        List<Long> invalid = new ArrayList<>();
+        for (Order order : orders) {
+            if (!order.getStatus().canTransitionTo(status)) {
+                invalid.add(order.getId());
+            }
+        }
+        if (!invalid.isEmpty()) {
+            throw new BadRequestException("Transição para " + status + " inválida para os pedidos: " + invalid);
+        }
+        Instant now = Instant.now();
+        for (Order order : orders) {
+            transition(order, status, now);
+        }
+        return orders.size();
+    }
+
+    private void transition(Order order, OrderStatus status, Instant moment) {
+        OrderStatus previous = order.getStatus();
+        order.setStatus(status);
+        if (status == OrderStatus.PAID && order.getPayment() == null) {
+            order.setPayment(new Payment(null, moment, order));
+        }
+        eventPublisher.publishEvent(OrderStatusChangedEvent.from(order, previous));
+    }
+
+    private OrderDTO insertSharded(Order order) {
+        List<OrderLine> lines = order.getItems().stream().map(OrderLine::from).toList();
+        long clientId = order.getClient().getId();
+        ShardedOrder sharded = new ShardedOrder(shardedRepository.nextId(clientId), clientId, order.getMoment(),
+                order.getStatus(), null, lines);
+        shardedRepository.insert(sharded);
+        eventPublisher.publishEvent(new OrderPlacedEvent(sharded.id(), clientId, sharded.moment(), sharded.status(), lines));
+        return new OrderDTO(sharded.id(), sharded.moment(), sharded.status(), clientId,
+                order.getItems().stream().map(OrderItemDTO::new).toList());
+    }
+
+    private int updateStatusSharded(Set<Long> ids, OrderStatus status) {
+        List<ShardedOrder> orders = shardedRepository.findAllById(ids);
+        if (orders.size() != ids.size()) {
+            Set<Long> missing = new LinkedHashSet<>(ids);
+            orders.forEach(order -> missing.remove(order.id()));
+            throw new ResourceNotFoundException("Pedidos não encontrados: " + missing);
+        }
+        List<Long> invalid = new ArrayList<>();
+        for (ShardedOrder order : orders) {
+            if (!order.status().canTransitionTo(status)) {
+                invalid.add(order.id());
+            }
+        }
+        if (!invalid.isEmpty()) {
+            throw new BadRequestException("Transição para " + status + " inválida para os pedidos: " + invalid);
+        }
+        transitionSharded(orders, status);
+        return orders.size();
+    }
+
+    private ShardedOrder findSharded(Long id) {
+        List<ShardedOrder> found = shardedRepository.findAllById(List.of(id));
+        if (found.isEmpty()) {
+            throw new ResourceNotFoundException("Recurso não encontrado");
+        }
+        return found.get(0);
+    }
+
+    private void transitionSharded(List<ShardedOrder> orders, OrderStatus status) {
+        try {
+            shardedRepository.updateStatus(orders, status, Instant.now());
+        } catch (OptimisticLockingFailureException e) {
+            throw new BadRequestException("O status do pedido mudou durante a atualização; tente novamente.");
+        }
+        for (ShardedOrder order : orders) {
+            eventPublisher.publishEvent(new OrderStatusChangedEvent(order.id(), order.clientId(), order.moment(),
+                    order.status(), status, order.lines()));
+        }
+    }
+
+    private OrderDTO toDTO(ShardedOrder order) {
+        Map<Long, String> names = new HashMap<>();
+        productRepository.findAllById(order.lines().stream().map(OrderLine::productId).toList())
+                .forEach(product -> names.put(product.getId(), product.getName()));
+        List<OrderItemDTO> items = order.lines().stream()
+                .map(line -> new OrderItemDTO(line.productId(), names.get(line.productId()), line.price(), line.quantity()))
+                .toList();
+        return new OrderDTO(order.id(), order.moment(), order.status(), order.clientId(), items);
+    }
+}
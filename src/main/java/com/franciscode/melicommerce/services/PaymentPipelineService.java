@@ -0,0 +1,218 @@
+package com.franciscode.melicommerce.services;
+
+import com.franciscode.melicommerce.entities.OrderStatus;
+import com.franciscode.melicommerce.projections.SaleLineProjection;
+import com.franciscode.melicommerce.repositories.OrderItemRepository;
+import com.franciscode.melicommerce.repositories.sharding.ShardedOrderRepository;
+import com.franciscode.melicommerce.services.events.OrderPlacedEvent;
+import com.franciscode.melicommerce.services.exceptions.BadRequestException;
+import com.franciscode.melicommerce.services.exceptions.ResourceNotFoundException;
+import com.franciscode.melicommerce.services.payments.PaymentProvider;
+import com.franciscode.melicommerce.services.payments.PaymentRequest;
+import com.franciscode.melicommerce.services.payments.PaymentResult;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class PaymentPipelineService {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentPipelineService.class);
+
+    @Autowired(required = false)
+    private PaymentProvider provider;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired(required = false)
+    private ShardedOrderRepository shardedRepository;
+
+    @Value("${payment.pipeline.enabled:true}")
+    private boolean enabled;
+
+    @Value("${payment.pipeline.workers:4}")
+    private int workers;
+
+    @Value("${payment.pipeline.batch-size:50}")
+    private int batchSize;
+
+    @Value("${payment.pipeline.flush-ms:200}")
+    private long flushMs;
+
+    private final BlockingQueue<PaymentRequest> requests = new LinkedBlockingQueue<>();
+    private final BlockingQueue<PaymentResult> results = new LinkedBlockingQueue<>();
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean running;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        start();
+    }
+
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        if (provider == null) {
+            log.warn("Nenhum PaymentProvider configurado; o pipeline de pagamentos fica desligado e os pedidos "
+                    + "permanecem em WAITING_PAYMENT");
+            return;
+        }
+        running = true;
+        for (int i = 0; i < workers; i++) {
+            threads.add(Thread.ofVirtual().name("payment-worker-" + i).start(this::authorizeLoop));
+        }
+        threads.add(Thread.ofVirtual().name("payment-flusher").start(this::flushLoop));
+        enqueuePending();
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        threads.forEach(Thread::interrupt);
+        threads.clear();
+        requests.clear();
+        results.clear();
+        inFlight.clear();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        if (running && event.status() == OrderStatus.WAITING_PAYMENT) {
+            enqueue(PaymentRequest.from(event));
+        }
+    }
+
+    public int pending() {
+        return requests.size() + results.size();
+    }
+
+    private void enqueuePending() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        List<SaleLineProjection> lines = transaction.execute(status -> shardedRepository != null
+                ? shardedRepository.findSaleLines(List.of(OrderStatus.WAITING_PAYMENT))
+                : orderItemRepository.findSaleLinesByStatusIn(List.of(OrderStatus.WAITING_PAYMENT)));
+        Map<Long, Double> amounts = new LinkedHashMap<>();
+        for (SaleLineProjection line : lines) {
+            amounts.merge(line.getOrderId(), line.getPrice() * line.getQuantity(), Double::sum);
+        }
+        amounts.forEach((orderId, amount) -> enqueue(new PaymentRequest(orderId, amount)));
+        if (!amounts.isEmpty()) {
+            log.info("{} pedido(s) em WAITING_PAYMENT recolocados no pipeline de pagamentos", amounts.size());
+        }
+    }
+
+    private void enqueue(PaymentRequest request) {
+        if (inFlight.add(request.orderId())) {
+            requests.add(request);
+        }
+    }
+
+    private void authorizeLoop() {
+        while (running) {
+            PaymentRequest request;
+            try {
+                request = requests.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                results.add(new PaymentResult(request.orderId(), provider.authorize(request.orderId(), request.amount())));
+            } catch (InterruptedException e) {
+                inFlight.remove(request.orderId());
+                return;
+            } catch (RuntimeException e) {
+                inFlight.remove(request.orderId());
+                log.warn("Falha ao autorizar pagamento do pedido {}; ele permanece em WAITING_PAYMENT", request.orderId(), e);
+            }
+        }
+    }
+
+    private void flushLoop() {
+        List<PaymentResult> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                PaymentResult first = results.take();
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushMs);
+                while (batch.size() < batchSize) {
+                    PaymentResult next = results.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                flush(batch);
+            } catch (RuntimeException e) {
+                log.warn("Falha ao aplicar lote de {} resultado(s) de pagamento; os pedidos permanecem em WAITING_PAYMENT",
+                        batch.size(), e);
+            }
+            batch.clear();
+        }
+    }
+
+    void flush(List<PaymentResult> batch) {
+        List<Long> approved = new ArrayList<>();
+        List<Long> declined = new ArrayList<>();
+        for (PaymentResult result : batch) {
+            (result.approved() ? approved : declined).add(result.orderId());
+        }
+        try {
+            apply(approved, OrderStatus.PAID);
+            apply(declined, OrderStatus.CANCELED);
+        } finally {
+            batch.forEach(result -> inFlight.remove(result.orderId()));
+        }
+    }
+
+    private void apply(List<Long> ids, OrderStatus status) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        try {
+            orderService.updateStatus(ids, status);
+        } catch (BadRequestException | ResourceNotFoundException e) {
+            for (Long id : ids) {
+                try {
+                    orderService.updateStatus(id, status);
+                } catch (BadRequestException | ResourceNotFoundException ignored) {
+                } catch (RuntimeException perOrder) {
+                    log.warn("Falha ao aplicar {} para o pedido {}", status, id, perOrder);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Falha ao aplicar {} para os pedidos {}", status, ids, e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.franciscode.melicommerce.services;
+
+import com.franciscode.melicommerce.jfr.IndexRebuildEvent;
+import com.franciscode.melicommerce.jfr.ProductOperationEvent;
+import com.franciscode.melicommerce.projections.ProductCategoryProjection;
+import com.franciscode.melicommerce.repositories.ProductRepository;
+import com.franciscode.melicommerce.repositories.catalog.CatalogStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class ProductCategoryIndex {
+
+    private static final long[] NO_CATEGORIES = new long[0];
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired(required = false)
+    private CatalogStore catalogStore;
+
+    private final Map<Long, long[]> categories = new ConcurrentHashMap<>();
+
+    public void reload() {
+        if (catalogStore != null) {
+            IndexRebuildEvent event = IndexRebuildEvent.start(IndexRebuildEvent.CATEGORIES, ProductOperationEvent.CATALOG);
+            Map<Long, long[]> links = new HashMap<>();
+            catalogStore.forEach(entry -> links.put(entry.product().getId(), entry.categoryIds()));
+            categories.clear();
+            categories.putAll(links);
+            event.finish(links.size());
+            return;
+        }
+        IndexRebuildEvent event = IndexRebuildEvent.start(IndexRebuildEvent.CATEGORIES, ProductOperationEvent.DATABASE);
+        Map<Long, List<Long>> grouped = new HashMap<>();
+        for (ProductCategoryProjection link : productRepository.findAllCategoryLinks()) {
+            grouped.computeIfAbsent(link.getProductId(), id -> new ArrayList<>()).add(link.getCategoryId());
+        }
+        Map<Long, long[]> links = new HashMap<>(grouped.size() * 2);
+        grouped.forEach((productId, ids) -> links.put(productId, toArray(ids)));
+        categories.clear();
+        categories.putAll(links);
+        event.finish(links.size());
+    }
+
+    public long[] categoriesOf(long productId) {
+        return categories.computeIfAbsent(productId,
+                id -> toArray(productRepository.findCategoryIdsByProductId(id)));
+    }
+
+    public void evict(long productId) {
+        categories.remove(productId);
+    }
+
+    private static long[] toArray(List<Long> ids) {
+        return ids.isEmpty() ? NO_CATEGORIES : ids.stream().mapToLong(Long::longValue).toArray();
+    }
+}
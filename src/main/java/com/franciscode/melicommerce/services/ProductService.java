@@ -1,22 +1,42 @@
 package com.franciscode.melicommerce.services;
 
 import com.franciscode.melicommerce.dto.ProductDTO;
+import com.franciscode.melicommerce.dto.ProductField;
+import com.franciscode.melicommerce.dto.ProductSummaryDTO;
+import com.franciscode.melicommerce.dto.SparseProductDTO;
+import com.franciscode.melicommerce.entities.CatalogChange;
 import com.franciscode.melicommerce.entities.Product;
+import com.franciscode.melicommerce.jfr.ProductOperationEvent;
+import com.franciscode.melicommerce.repositories.CatalogChangeRepository;
 import com.franciscode.melicommerce.repositories.ProductRepository;
+import com.franciscode.melicommerce.repositories.catalog.CatalogEntry;
+import com.franciscode.melicommerce.repositories.catalog.CatalogStore;
+import com.franciscode.melicommerce.services.events.ProductChangedEvent;
 import com.franciscode.melicommerce.services.exceptions.BadRequestException;
 import com.franciscode.melicommerce.services.exceptions.DatabaseException;
 import com.franciscode.melicommerce.services.exceptions.ResourceNotFoundException;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 
 @Service
 public class ProductService {
@@ -24,71 +44,240 @@ public class ProductService {
     @Autowired
     private ProductRepository repository;
 
-    @Transactional(readOnly = true)
+    @Autowired
+    private CatalogChangeRepository catalogChangeRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired(required = false)
+    private CatalogStore catalogStore;
+
     public ProductDTO findById(Long id) {
-        Product product = repository.findById(id).orElseThrow(
-                () -> new ResourceNotFoundException("Recurso não encontrado"));
-        return new ProductDTO(product);
+        return find(id, productId -> repository.findById(productId).map(ProductDTO::new));
+    }
+
+    public SparseProductDTO findById(Long id, String fields) {
+        Set<ProductField> selected = parseFields(fields);
+        return new SparseProductDTO(find(id, productId -> repository.findFieldsById(productId, selected)), selected);
+    }
+
+    private ProductDTO find(Long id, Function<Long, Optional<ProductDTO>> loader) {
+        ProductOperationEvent event = ProductOperationEvent.start("find", id);
+        try {
+            if (catalogStore != null) {
+                CatalogEntry entry = catalogStore.find(id);
+                if (entry != null) {
+                    event.source(ProductOperationEvent.CATALOG).completed(id, 1);
+                    return entry.product();
+                }
+            }
+            ProductDTO product = readOnly().execute(status -> loader.apply(id)).orElseThrow(
+                    () -> new ResourceNotFoundException("Recurso não encontrado"));
+            event.source(ProductOperationEvent.DATABASE).completed(id, 1);
+            return product;
+        } finally {
+            event.finish();
+        }
     }
 
     @Transactional(readOnly = true)
-    public Page<ProductDTO> findAll(Pageable pageable) {
-        Page<Product> result = repository.findAll(pageable);
-        return result.map(ProductDTO::new);
+    public Page<ProductSummaryDTO> findAll(Pageable pageable) {
+        ProductOperationEvent event = ProductOperationEvent.start("list", null);
+        try {
+            Page<ProductSummaryDTO> page = repository.findAllSummaries(pageable);
+            event.source(ProductOperationEvent.DATABASE).completed(null, page.getNumberOfElements());
+            return page;
+        } finally {
+            event.finish();
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Page<SparseProductDTO> findAll(Pageable pageable, String fields) {
+        Set<ProductField> selected = parseFields(fields);
+        for (Sort.Order order : pageable.getSort()) {
+            if (ProductField.fromProperty(order.getProperty()) == null) {
+                throw new BadRequestException("Não é possível ordenar por '" + order.getProperty() + "'.");
+            }
+        }
+        ProductOperationEvent event = ProductOperationEvent.start("list", null);
+        try {
+            Page<ProductDTO> page = repository.findAllFields(selected, pageable);
+            event.source(ProductOperationEvent.DATABASE).completed(null, page.getNumberOfElements());
+            return page.map(product -> new SparseProductDTO(product, selected));
+        } finally {
+            event.finish();
+        }
     }
 
     @Transactional
     public ProductDTO insert(ProductDTO dto) {
-        Product entity = new Product();
-        copyDtoToEntity(dto, entity);
-        entity = repository.save(entity);
-        return new ProductDTO(entity);
+        ProductOperationEvent event = ProductOperationEvent.start("insert", null);
+        try {
+            Product entity = new Product();
+            copyDtoToEntity(dto, entity);
+            entity = repository.save(entity);
+            ProductDTO result = new ProductDTO(entity);
+            recordChange(result.getId());
+            eventPublisher.publishEvent(ProductChangedEvent.saved(result));
+            event.source(ProductOperationEvent.DATABASE).completed(result.getId(), 1);
+            return result;
+        } finally {
+            event.finish();
+        }
     }
 
     @Transactional
     public ProductDTO update(Long id, ProductDTO dto) {
+        ProductOperationEvent event = ProductOperationEvent.start("update", id);
         try {
             Product entity = repository.getReferenceById(id);
             copyDtoToEntity(dto, entity);
             entity = repository.save(entity);
-            return new ProductDTO(entity);
+            ProductDTO result = new ProductDTO(entity);
+            recordChange(id);
+            eventPublisher.publishEvent(ProductChangedEvent.saved(result));
+            event.source(ProductOperationEvent.DATABASE).completed(id, 1);
+            return result;
         } catch (EntityNotFoundException e) {
             throw new ResourceNotFoundException("Recurso não encontrado");
+        } finally {
+            event.finish();
         }
     }
 
-    @Transactional(propagation = Propagation.SUPPORTS)
+    @Transactional
     public void delete(Long id) {
-        if (!repository.existsById(id)) {
-            throw new ResourceNotFoundException("Recurso não encontrado");
-        }
+        ProductOperationEvent event = ProductOperationEvent.start("delete", id);
         try {
+            if (!repository.existsById(id)) {
+                throw new ResourceNotFoundException("Recurso não encontrado");
+            }
             repository.deleteById(id);
+            repository.flush();
+            recordChange(id);
+            eventPublisher.publishEvent(ProductChangedEvent.deleted(id));
+            event.source(ProductOperationEvent.DATABASE).completed(id, 1);
         }
         catch (DataIntegrityViolationException e) {
             throw new DatabaseException("Falha de integridade referencial");
+        } finally {
+            event.finish();
         }
     }
 
-    @Transactional(readOnly = true)
     public List<ProductDTO> compareProductsByIds(String ids) {
+        return compare(ids, repository::findAllDtosByIdIn);
+    }
+
+    public List<SparseProductDTO> compareProductsByIds(String ids, String fields) {
+        Set<ProductField> selected = parseFields(fields);
+        return compare(ids, productIds -> repository.findFieldsByIdIn(productIds, withId(selected))).stream()
+                .map(product -> new SparseProductDTO(product, selected))
+                .toList();
+    }
+
+    private List<ProductDTO> compare(String ids, Function<List<Long>, List<ProductDTO>> loader) {
+        ProductOperationEvent event = ProductOperationEvent.start("compare", null).ids(ids);
+        try {
+            List<Long> productIds = parseIds(ids);
+            event.source(ProductOperationEvent.DATABASE);
+            List<ProductDTO> products = inRequestOrder(productIds, catalogStore == null
+                    ? readOnly().execute(status -> loader.apply(productIds))
+                    : findInCatalog(productIds, loader, event));
+            if (products.isEmpty()) {
+                throw new ResourceNotFoundException("Nenhum produto encontrado para os IDs informados.");
+            }
+            event.completed(null, products.size());
+            return products;
+        } finally {
+            event.finish();
+        }
+    }
+
+    private List<ProductDTO> findInCatalog(List<Long> productIds, Function<List<Long>, List<ProductDTO>> loader,
+                                           ProductOperationEvent event) {
+        List<ProductDTO> products = new ArrayList<>(productIds.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long productId : productIds) {
+            CatalogEntry entry = catalogStore.find(productId);
+            if (entry == null) {
+                missing.add(productId);
+            }
+            else {
+                products.add(entry.product());
+            }
+        }
+        if (!missing.isEmpty()) {
+            products.addAll(readOnly().execute(status -> loader.apply(missing)));
+        }
+        event.source(missing.isEmpty() ? ProductOperationEvent.CATALOG : ProductOperationEvent.MIXED);
+        return products;
+    }
+
+    private TransactionTemplate readOnly() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        return transaction;
+    }
+
+    private void recordChange(Long productId) {
+        catalogChangeRepository.save(new CatalogChange(null, productId, Instant.now()));
+    }
+
+    static List<Long> parseIds(String ids) {
         if (ids == null || ids.isBlank()) {
             throw new BadRequestException("O parâmetro 'ids' é obrigatório.");
         }
-        List<Long> productIds;
         try {
-            productIds = Arrays.stream(ids.split(","))
+            return Arrays.stream(ids.split(","))
                     .map(String::trim)
                     .map(Long::parseLong)
+                    .distinct()
                     .toList();
         } catch (NumberFormatException e) {
             throw new BadRequestException("Os IDs devem ser números válidos separados por vírgula.");
         }
-        List<Product> products = repository.findAllById(productIds);
-        if (products.isEmpty()) {
-            throw new ResourceNotFoundException("Nenhum produto encontrado para os IDs informados.");
+    }
+
+    static List<ProductDTO> inRequestOrder(List<Long> productIds, List<ProductDTO> products) {
+        Map<Long, ProductDTO> byId = new HashMap<>();
+        for (ProductDTO product : products) {
+            byId.put(product.getId(), product);
+        }
+        List<ProductDTO> ordered = new ArrayList<>(byId.size());
+        for (Long productId : productIds) {
+            ProductDTO product = byId.get(productId);
+            if (product != null) {
+                ordered.add(product);
+            }
+        }
+        return ordered;
+    }
+
+    static Set<ProductField> withId(Set<ProductField> fields) {
+        Set<ProductField> selected = EnumSet.copyOf(fields);
+        selected.add(ProductField.ID);
+        return selected;
+    }
+
+    static Set<ProductField> parseFields(String fields) {
+        if (fields == null || fields.isBlank()) {
+            throw new BadRequestException("O parâmetro 'fields' não pode ser vazio.");
+        }
+        Set<ProductField> selected = EnumSet.noneOf(ProductField.class);
+        for (String name : fields.split(",")) {
+            ProductField field = ProductField.fromProperty(name.trim());
+            if (field == null) {
+                throw new BadRequestException("Campo desconhecido em 'fields': '" + name.trim() + "'.");
+            }
+            selected.add(field);
         }
-        return products.stream().map(ProductDTO::new).toList();
+        return selected;
     }
 
     private void copyDtoToEntity(ProductDTO dto, Product entity) {
@@ -0,0 +1,225 @@
+package com.franciscode.melicommerce.services;
+
+import com.franciscode.melicommerce.dto.ProductDTO;
+import com.franciscode.melicommerce.entities.Product;
+import com.franciscode.melicommerce.jfr.IndexRebuildEvent;
+import com.franciscode.melicommerce.jfr.ProductOperationEvent;
+import com.franciscode.melicommerce.projections.ProductRatingProjection;
+import com.franciscode.melicommerce.repositories.ProductRepository;
+import com.franciscode.melicommerce.repositories.catalog.CatalogStore;
+import com.franciscode.melicommerce.services.events.OrderLine;
+import com.franciscode.melicommerce.services.events.OrderPlacedEvent;
+import com.franciscode.melicommerce.services.events.OrderStatusChangedEvent;
+import com.franciscode.melicommerce.services.events.ProductChangedEvent;
+import com.franciscode.melicommerce.services.exceptions.BadRequestException;
+import com.franciscode.melicommerce.services.rankings.RankingCriterion;
+import com.franciscode.melicommerce.services.rankings.RankingIndex;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Service
+public class RankingService {
+
+    private static final Logger log = LoggerFactory.getLogger(RankingService.class);
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductCategoryIndex categoryIndex;
+
+    @Autowired
+    private SalesAnalyticsService salesAnalyticsService;
+
+    @Autowired(required = false)
+    private CatalogStore catalogStore;
+
+    @Value("${rankings.max-limit:50}")
+    private int maxLimit;
+
+    @Value("${rankings.capacity-margin:50}")
+    private int capacityMargin;
+
+    private volatile RankingIndex byRating;
+    private volatile RankingIndex bySales;
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean();
+    private final ExecutorService rebuilder =
+            Executors.newSingleThreadExecutor(Thread.ofVirtual().name("ranking-rebuild").factory());
+
+    @PostConstruct
+    void init() {
+        byRating = new RankingIndex(capacity());
+        bySales = new RankingIndex(capacity());
+    }
+
+    @PreDestroy
+    void stop() {
+        rebuilder.shutdownNow();
+    }
+
+    @Order(10)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuildReadOnly();
+    }
+
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        IndexRebuildEvent event = IndexRebuildEvent.start(IndexRebuildEvent.RANKINGS,
+                catalogStore != null ? ProductOperationEvent.CATALOG : ProductOperationEvent.DATABASE);
+        RankingIndex ratings = new RankingIndex(capacity());
+        RankingIndex sales = new RankingIndex(capacity());
+        if (catalogStore != null) {
+            catalogStore.forEach(entry -> index(ratings, sales, entry.product().getId(), entry.categoryIds(),
+                    entry.product().getRating()));
+        }
+        else {
+            for (ProductRatingProjection product : productRepository.findAllRatings()) {
+                index(ratings, sales, product.getId(), categoryIndex.categoriesOf(product.getId()), product.getRating());
+            }
+        }
+        byRating = ratings;
+        bySales = sales;
+        event.finish(ratings.size());
+    }
+
+    @Order(10)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        refreshSales(event.lines());
+    }
+
+    @Order(10)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        refreshSales(event.lines());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        long[] categories = categoryIndex.categoriesOf(event.productId());
+        if (event.isDeleted()) {
+            byRating.remove(event.productId(), categories);
+            bySales.remove(event.productId(), categories);
+            categoryIndex.evict(event.productId());
+        }
+        else if (event.product().getRating() == null) {
+            byRating.remove(event.productId(), categories);
+        }
+        else {
+            byRating.update(event.productId(), categories, event.product().getRating());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProductDTO> findTop(String by, Long categoryId, int limit) {
+        RankingCriterion criterion = parseCriterion(by);
+        if (limit < 1 || limit > maxLimit) {
+            throw new BadRequestException("O parâmetro 'limit' deve estar entre 1 e " + maxLimit + ".");
+        }
+        RankingIndex index = criterion == RankingCriterion.SALES ? bySales : byRating;
+        if (!index.isExact(categoryId, limit)) {
+            requestRebuild();
+        }
+        long[] ids = index.top(categoryId, limit);
+        if (ids.length == 0) {
+            return List.of();
+        }
+        Map<Long, Product> products = new HashMap<>(ids.length * 2);
+        for (Product product : productRepository.findAllById(Arrays.stream(ids).boxed().toList())) {
+            products.put(product.getId(), product);
+        }
+        List<ProductDTO> result = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            Product product = products.get(id);
+            if (product != null) {
+                result.add(new ProductDTO(product));
+            }
+        }
+        return result;
+    }
+
+    private void requestRebuild() {
+        if (!rebuildRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            rebuilder.execute(() -> {
+                rebuildRequested.set(false);
+                try {
+                    rebuildReadOnly();
+                } catch (RuntimeException e) {
+                    log.warn("Falha ao reconstruir os rankings", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rebuildRequested.set(false);
+        }
+    }
+
+    private void rebuildReadOnly() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        transaction.executeWithoutResult(status -> rebuild());
+    }
+
+    private void refreshSales(List<OrderLine> lines) {
+        for (OrderLine line : lines) {
+            long[] categories = categoryIndex.categoriesOf(line.productId());
+            long units = salesAnalyticsService.findByProduct(line.productId()).getUnitsSold();
+            if (units > 0) {
+                bySales.update(line.productId(), categories, units);
+            }
+            else {
+                bySales.remove(line.productId(), categories);
+            }
+        }
+    }
+
+    private void index(RankingIndex ratings, RankingIndex sales, long productId, long[] categories, Double rating) {
+        if (rating != null) {
+            ratings.update(productId, categories, rating);
+        }
+        long units = salesAnalyticsService.findByProduct(productId).getUnitsSold();
+        if (units > 0) {
+            sales.update(productId, categories, units);
+        }
+    }
+
+    private int capacity() {
+        return maxLimit + capacityMargin;
+    }
+
+    private static RankingCriterion parseCriterion(String by) {
+        try {
+            return RankingCriterion.valueOf(by.trim().toUpperCase());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new BadRequestException("O parâmetro 'by' deve ser 'rating' ou 'sales'.");
+        }
+    }
+}
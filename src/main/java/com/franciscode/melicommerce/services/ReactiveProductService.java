@@ -0,0 +1,106 @@
+package com.franciscode.melicommerce.services;
+
+import com.franciscode.melicommerce.dto.ProductDTO;
+import com.franciscode.melicommerce.dto.ProductField;
+import com.franciscode.melicommerce.dto.ProductSummaryDTO;
+import com.franciscode.melicommerce.dto.SparseProductDTO;
+import com.franciscode.melicommerce.repositories.ReactiveProductRepository;
+import com.franciscode.melicommerce.services.exceptions.BadRequestException;
+import com.franciscode.melicommerce.services.exceptions.ResourceNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+
+@Service
+@Profile("reactive")
+public class ReactiveProductService {
+
+    @Autowired
+    private ReactiveProductRepository repository;
+
+    @Autowired
+    private Scheduler catalogScheduler;
+
+    public Mono<ProductDTO> findById(Long id) {
+        return repository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Recurso não encontrado")))
+                .subscribeOn(catalogScheduler);
+    }
+
+    public Mono<SparseProductDTO> findById(Long id, String fields) {
+        Set<ProductField> selected = ProductService.parseFields(fields);
+        return repository.findFieldsById(id, selected)
+                .map(product -> new SparseProductDTO(product, selected))
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Recurso não encontrado")))
+                .subscribeOn(catalogScheduler);
+    }
+
+    public Mono<Page<ProductSummaryDTO>> findAll(Pageable pageable) {
+        String orderBy = orderBy(pageable.getSort());
+        return Mono.zip(repository.findPage(orderBy, pageable.getPageSize(), pageable.getOffset()).collectList(),
+                        repository.count())
+                .<Page<ProductSummaryDTO>>map(result -> new PageImpl<>(result.getT1(), pageable, result.getT2()))
+                .subscribeOn(catalogScheduler);
+    }
+
+    public Mono<Page<SparseProductDTO>> findAll(Pageable pageable, String fields) {
+        Set<ProductField> selected = ProductService.parseFields(fields);
+        String orderBy = orderBy(pageable.getSort());
+        return Mono.zip(repository.findFieldsPage(selected, orderBy, pageable.getPageSize(), pageable.getOffset())
+                                .map(product -> new SparseProductDTO(product, selected))
+                                .collectList(),
+                        repository.count())
+                .<Page<SparseProductDTO>>map(result -> new PageImpl<>(result.getT1(), pageable, result.getT2()))
+                .subscribeOn(catalogScheduler);
+    }
+
+    public Mono<List<ProductDTO>> compareProductsByIds(String ids) {
+        List<Long> productIds = ProductService.parseIds(ids);
+        return repository.findAllById(productIds)
+                .collectList()
+                .map(products -> ProductService.inRequestOrder(productIds, products))
+                .flatMap(products -> products.isEmpty()
+                        ? Mono.error(new ResourceNotFoundException("Nenhum produto encontrado para os IDs informados."))
+                        : Mono.just(products))
+                .subscribeOn(catalogScheduler);
+    }
+
+    public Mono<List<SparseProductDTO>> compareProductsByIds(String ids, String fields) {
+        Set<ProductField> selected = ProductService.parseFields(fields);
+        List<Long> productIds = ProductService.parseIds(ids);
+        return repository.findFieldsByIdIn(productIds, ProductService.withId(selected))
+                .collectList()
+                .map(products -> ProductService.inRequestOrder(productIds, products).stream()
+                        .map(product -> new SparseProductDTO(product, selected))
+                        .toList())
+                .flatMap(products -> products.isEmpty()
+                        ? Mono.error(new ResourceNotFoundException("Nenhum produto encontrado para os IDs informados."))
+                        : Mono.just(products))
+                .subscribeOn(catalogScheduler);
+    }
+
+    private static String orderBy(Sort sort) {
+        if (sort.isUnsorted()) {
+            return "id";
+        }
+        StringJoiner joiner = new StringJoiner(", ");
+        for (Sort.Order order : sort) {
+            ProductField field = ProductField.fromProperty(order.getProperty());
+            if (field == null) {
+                throw new BadRequestException("Não é possível ordenar por '" + order.getProperty() + "'.");
+            }
+            joiner.add(field.getColumn() + (order.isAscending() ? " ASC" : " DESC"));
+        }
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,124 @@
+package com.franciscode.melicommerce.services;
+
+import com.franciscode.melicommerce.dto.RelatedProductDTO;
+import com.franciscode.melicommerce.entities.OrderStatus;
+import com.franciscode.melicommerce.projections.OrderProductProjection;
+import com.franciscode.melicommerce.repositories.OrderItemRepository;
+import com.franciscode.melicommerce.repositories.archive.OrderArchive;
+import com.franciscode.melicommerce.repositories.sharding.ShardedOrderRepository;
+import com.franciscode.melicommerce.services.events.OrderLine;
+import com.franciscode.melicommerce.services.events.OrderPlacedEvent;
+import com.franciscode.melicommerce.services.exceptions.BadRequestException;
+import com.franciscode.melicommerce.services.recommendations.CoOccurrenceMatrix;
+import com.franciscode.melicommerce.services.recommendations.RelatedProducts;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class RecommendationService {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired(required = false)
+    private ShardedOrderRepository shardedRepository;
+
+    @Autowired(required = false)
+    private OrderArchive orderArchive;
+
+    @Value("${recommendations.top-k:10}")
+    private int topK;
+
+    private CoOccurrenceMatrix matrix = new CoOccurrenceMatrix();
+
+    private volatile Map<Long, RelatedProducts> related = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        transaction.executeWithoutResult(status -> rebuild());
+    }
+
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        CoOccurrenceMatrix fresh = new CoOccurrenceMatrix();
+        List<OrderProductProjection> rows = shardedRepository != null
+                ? shardedRepository.findOrderProducts(OrderStatus.CANCELED)
+                : orderItemRepository.findOrderProductsByStatusNot(OrderStatus.CANCELED);
+        long[] basket = new long[8];
+        int size = 0;
+        Long currentOrder = null;
+        for (OrderProductProjection row : rows) {
+            if (!row.getOrderId().equals(currentOrder)) {
+                fresh.addBasket(Arrays.copyOf(basket, size));
+                currentOrder = row.getOrderId();
+                size = 0;
+            }
+            if (size == basket.length) {
+                basket = Arrays.copyOf(basket, size * 2);
+            }
+            basket[size++] = row.getProductId();
+        }
+        fresh.addBasket(Arrays.copyOf(basket, size));
+        if (orderArchive != null) {
+            orderArchive.forEach(order -> {
+                if (order.status() != OrderStatus.CANCELED) {
+                    fresh.addBasket(order.lines().stream().mapToLong(OrderLine::productId).toArray());
+                }
+            });
+        }
+
+        Map<Long, RelatedProducts> snapshot = new ConcurrentHashMap<>();
+        for (long productId : fresh.productIds()) {
+            snapshot.put(productId, fresh.topK(productId, topK));
+        }
+        synchronized (this) {
+            matrix = fresh;
+            related = snapshot;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        long[] basket = event.lines().stream().mapToLong(OrderLine::productId).toArray();
+        if (basket.length < 2) {
+            return;
+        }
+        synchronized (this) {
+            matrix.addBasket(basket);
+            for (long productId : basket) {
+                related.put(productId, matrix.topK(productId, topK));
+            }
+        }
+    }
+
+    public List<RelatedProductDTO> findRelated(Long productId, int limit) {
+        if (limit < 1 || limit > topK) {
+            throw new BadRequestException("O parâmetro 'limit' deve estar entre 1 e " + topK + ".");
+        }
+        RelatedProducts products = related.getOrDefault(productId, RelatedProducts.EMPTY);
+        int size = Math.min(limit, products.size());
+        List<RelatedProductDTO> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(new RelatedProductDTO(products.productIds()[i], products.scores()[i]));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,174 @@
+package com.franciscode.melicommerce.services;
+
+import com.franciscode.melicommerce.dto.DailySalesDTO;
+import com.franciscode.melicommerce.dto.SalesSummaryDTO;
+import com.franciscode.melicommerce.entities.OrderStatus;
+import com.franciscode.melicommerce.projections.SaleLineProjection;
+import com.franciscode.melicommerce.repositories.OrderItemRepository;
+import com.franciscode.melicommerce.repositories.archive.OrderArchive;
+import com.franciscode.melicommerce.repositories.sharding.ShardedOrderRepository;
+import com.franciscode.melicommerce.services.analytics.SalesAggregator;
+import com.franciscode.melicommerce.services.events.OrderLine;
+import com.franciscode.melicommerce.services.events.OrderPlacedEvent;
+import com.franciscode.melicommerce.services.events.OrderStatusChangedEvent;
+import com.franciscode.melicommerce.services.exceptions.BadRequestException;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+public class SalesAnalyticsService {
+
+    private static final Set<OrderStatus> SALE_STATUSES = EnumSet.of(OrderStatus.PAID, OrderStatus.SHIPPED, OrderStatus.DELIVERED);
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private ProductCategoryIndex categoryIndex;
+
+    @Autowired(required = false)
+    private ShardedOrderRepository shardedOrderRepository;
+
+    @Autowired(required = false)
+    private OrderArchive orderArchive;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${analytics.window-days:90}")
+    private int windowDays;
+
+    private volatile SalesAggregator aggregator;
+
+    @PostConstruct
+    void init() {
+        aggregator = new SalesAggregator(windowDays);
+    }
+
+    @Order(0)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        transaction.executeWithoutResult(status -> rebuild());
+    }
+
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        categoryIndex.reload();
+        SalesAggregator fresh = new SalesAggregator(windowDays);
+        List<SaleLineProjection> lines = shardedOrderRepository != null
+                ? shardedOrderRepository.findSaleLines(SALE_STATUSES)
+                : orderItemRepository.findSaleLinesByStatusIn(SALE_STATUSES);
+        for (SaleLineProjection line : lines) {
+            fresh.add(line.getProductId(), categoryIndex.categoriesOf(line.getProductId()), epochDay(line.getMoment()),
+                    line.getQuantity(), toCents(line.getPrice(), line.getQuantity()));
+        }
+        if (orderArchive != null) {
+            orderArchive.forEach(order -> {
+                if (SALE_STATUSES.contains(order.status())) {
+                    long day = epochDay(order.moment());
+                    for (OrderLine line : order.lines()) {
+                        fresh.add(line.productId(), categoryIndex.categoriesOf(line.productId()), day, line.quantity(),
+                                toCents(line.price(), line.quantity()));
+                    }
+                }
+            });
+        }
+        aggregator = fresh;
+    }
+
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        if (SALE_STATUSES.contains(event.status())) {
+            apply(event.moment(), event.lines(), 1);
+        }
+    }
+
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        boolean wasSale = SALE_STATUSES.contains(event.previous());
+        boolean isSale = SALE_STATUSES.contains(event.current());
+        if (wasSale != isSale) {
+            apply(event.moment(), event.lines(), isSale ? 1 : -1);
+        }
+    }
+
+    public SalesSummaryDTO findByProduct(Long productId) {
+        SalesAggregator current = aggregator;
+        return new SalesSummaryDTO(productId, current.productUnits(productId), fromCents(current.productRevenue(productId)));
+    }
+
+    public SalesSummaryDTO findByCategory(Long categoryId) {
+        SalesAggregator current = aggregator;
+        return new SalesSummaryDTO(categoryId, current.categoryUnits(categoryId), fromCents(current.categoryRevenue(categoryId)));
+    }
+
+    public List<DailySalesDTO> findDaily(int days) {
+        SalesAggregator current = aggregator;
+        long today = validateDays(days, current);
+        List<DailySalesDTO> result = new ArrayList<>(days);
+        for (long day = today - days + 1; day <= today; day++) {
+            result.add(new DailySalesDTO(LocalDate.ofEpochDay(day), current.dailyUnits(day), fromCents(current.dailyRevenue(day))));
+        }
+        return result;
+    }
+
+    public List<DailySalesDTO> findDailyByCategory(Long categoryId, int days) {
+        SalesAggregator current = aggregator;
+        long today = validateDays(days, current);
+        List<DailySalesDTO> result = new ArrayList<>(days);
+        for (long day = today - days + 1; day <= today; day++) {
+            result.add(new DailySalesDTO(LocalDate.ofEpochDay(day), current.categoryDailyUnits(categoryId, day),
+                    fromCents(current.categoryDailyRevenue(categoryId, day))));
+        }
+        return result;
+    }
+
+    private void apply(Instant moment, List<OrderLine> lines, int sign) {
+        SalesAggregator current = aggregator;
+        long day = epochDay(moment);
+        for (OrderLine line : lines) {
+            current.add(line.productId(), categoryIndex.categoriesOf(line.productId()), day,
+                    (long) sign * line.quantity(), sign * toCents(line.price(), line.quantity()));
+        }
+    }
+
+    private long validateDays(int days, SalesAggregator current) {
+        if (days < 1 || days > current.getWindowDays()) {
+            throw new BadRequestException("O parâmetro 'days' deve estar entre 1 e " + current.getWindowDays() + ".");
+        }
+        return LocalDate.now(ZoneOffset.UTC).toEpochDay();
+    }
+
+    private static long epochDay(Instant moment) {
+        return LocalDate.ofInstant(moment, ZoneOffset.UTC).toEpochDay();
+    }
+
+    private static long toCents(double price, int quantity) {
+        return Math.round(price * 100.0) * quantity;
+    }
+
+    private static double fromCents(long cents) {
+        return cents / 100.0;
+    }
+}
@@ -0,0 +1,61 @@
+package com.franciscode.melicommerce.services;
+
+import com.franciscode.melicommerce.config.SqlStatistics;
+import com.franciscode.melicommerce.dto.SqlStatementStatisticsDTO;
+import com.franciscode.melicommerce.dto.SqlStatisticsDTO;
+import com.franciscode.melicommerce.services.exceptions.BadRequestException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+
+@Service
+public class SqlStatisticsService {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    @Autowired(required = false)
+    private SqlStatistics statistics;
+
+    public SqlStatisticsDTO getStatistics(String sortBy, int limit) {
+        if (statistics == null) {
+            return new SqlStatisticsDTO(false, 0L, 0L, List.of());
+        }
+        List<SqlStatistics.Entry> entries = statistics.getEntries();
+        List<SqlStatementStatisticsDTO> statements = entries.stream()
+                .sorted(comparator(sortBy).reversed())
+                .limit(Math.max(0, limit))
+                .map(SqlStatisticsService::toDto)
+                .toList();
+        long executions = entries.stream().mapToLong(SqlStatistics.Entry::getCount).sum();
+        return new SqlStatisticsDTO(true, executions, statistics.getSlowStatements(), statements);
+    }
+
+    public void clear() {
+        if (statistics == null) {
+            throw new BadRequestException("Estatísticas de SQL desativadas (sql.statistics.enabled=false).");
+        }
+        statistics.clear();
+    }
+
+    private static Comparator<SqlStatistics.Entry> comparator(String sortBy) {
+        return switch (sortBy) {
+            case "total" -> Comparator.comparingLong(SqlStatistics.Entry::getTotalNanos);
+            case "count" -> Comparator.comparingLong(SqlStatistics.Entry::getCount);
+            case "max" -> Comparator.comparingLong(SqlStatistics.Entry::getMaxNanos);
+            case "rows" -> Comparator.comparingLong(SqlStatistics.Entry::getRows);
+            case "n-plus-one" -> Comparator.comparingLong(SqlStatistics.Entry::getSuspectedNPlusOne);
+            default -> throw new BadRequestException("Ordenação inválida: " + sortBy
+                    + ". Use total, count, max, rows ou n-plus-one.");
+        };
+    }
+
+    private static SqlStatementStatisticsDTO toDto(SqlStatistics.Entry entry) {
+        long count = entry.getCount();
+        double totalMs = entry.getTotalNanos() / NANOS_PER_MILLI;
+        return new SqlStatementStatisticsDTO(entry.getShape(), count, entry.getErrors(), totalMs,
+                count == 0 ? 0.0 : totalMs / count, entry.getMaxNanos() / NANOS_PER_MILLI, entry.getRows(),
+                entry.getSuspectedNPlusOne());
+    }
+}
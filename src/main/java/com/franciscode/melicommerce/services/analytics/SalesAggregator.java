@@ -0,0 +1,155 @@
+package com.franciscode.melicommerce.services.analytics;
+
+import com.franciscode.melicommerce.util.LongIntHashMap;
+
+import java.util.Arrays;
+
+public class SalesAggregator {
+
+    private static final long EMPTY_DAY = Long.MIN_VALUE;
+
+    private final int windowDays;
+
+    private final LongIntHashMap productSlots = new LongIntHashMap();
+    private long[] productUnits = new long[16];
+    private long[] productRevenue = new long[16];
+
+    private final LongIntHashMap categorySlots = new LongIntHashMap();
+    private long[] categoryUnits = new long[4];
+    private long[] categoryRevenue = new long[4];
+    private long[] categoryDailyUnits;
+    private long[] categoryDailyRevenue;
+
+    private final long[] bucketDays;
+    private final long[] dailyUnits;
+    private final long[] dailyRevenue;
+
+    public SalesAggregator(int windowDays) {
+        if (windowDays <= 0) {
+            throw new IllegalArgumentException("windowDays must be positive");
+        }
+        this.windowDays = windowDays;
+        bucketDays = new long[windowDays];
+        Arrays.fill(bucketDays, EMPTY_DAY);
+        dailyUnits = new long[windowDays];
+        dailyRevenue = new long[windowDays];
+        categoryDailyUnits = new long[categoryUnits.length * windowDays];
+        categoryDailyRevenue = new long[categoryUnits.length * windowDays];
+    }
+
+    public int getWindowDays() {
+        return windowDays;
+    }
+
+    public synchronized void add(long productId, long[] categoryIds, long epochDay, long units, long revenueCents) {
+        int p = productSlot(productId);
+        productUnits[p] += units;
+        productRevenue[p] += revenueCents;
+
+        int bucket = bucketFor(epochDay);
+        if (bucket >= 0) {
+            dailyUnits[bucket] += units;
+            dailyRevenue[bucket] += revenueCents;
+        }
+        for (long categoryId : categoryIds) {
+            int c = categorySlot(categoryId);
+            categoryUnits[c] += units;
+            categoryRevenue[c] += revenueCents;
+            if (bucket >= 0) {
+                categoryDailyUnits[c * windowDays + bucket] += units;
+                categoryDailyRevenue[c * windowDays + bucket] += revenueCents;
+            }
+        }
+    }
+
+    public synchronized long productUnits(long productId) {
+        int p = productSlots.get(productId, -1);
+        return p < 0 ? 0L : productUnits[p];
+    }
+
+    public synchronized long productRevenue(long productId) {
+        int p = productSlots.get(productId, -1);
+        return p < 0 ? 0L : productRevenue[p];
+    }
+
+    public synchronized long categoryUnits(long categoryId) {
+        int c = categorySlots.get(categoryId, -1);
+        return c < 0 ? 0L : categoryUnits[c];
+    }
+
+    public synchronized long categoryRevenue(long categoryId) {
+        int c = categorySlots.get(categoryId, -1);
+        return c < 0 ? 0L : categoryRevenue[c];
+    }
+
+    public synchronized long dailyUnits(long epochDay) {
+        int bucket = Math.floorMod(epochDay, windowDays);
+        return bucketDays[bucket] == epochDay ? dailyUnits[bucket] : 0L;
+    }
+
+    public synchronized long dailyRevenue(long epochDay) {
+        int bucket = Math.floorMod(epochDay, windowDays);
+        return bucketDays[bucket] == epochDay ? dailyRevenue[bucket] : 0L;
+    }
+
+    public synchronized long categoryDailyUnits(long categoryId, long epochDay) {
+        int c = categorySlots.get(categoryId, -1);
+        int bucket = Math.floorMod(epochDay, windowDays);
+        return c < 0 || bucketDays[bucket] != epochDay ? 0L : categoryDailyUnits[c * windowDays + bucket];
+    }
+
+    public synchronized long categoryDailyRevenue(long categoryId, long epochDay) {
+        int c = categorySlots.get(categoryId, -1);
+        int bucket = Math.floorMod(epochDay, windowDays);
+        return c < 0 || bucketDays[bucket] != epochDay ? 0L : categoryDailyRevenue[c * windowDays + bucket];
+    }
+
+    private int bucketFor(long epochDay) {
+        int bucket = Math.floorMod(epochDay, windowDays);
+        long current = bucketDays[bucket];
+        if (current == epochDay) {
+            return bucket;
+        }
+        if (current != EMPTY_DAY && current > epochDay) {
+            return -1;
+        }
+        bucketDays[bucket] = epochDay;
+        dailyUnits[bucket] = 0L;
+        dailyRevenue[bucket] = 0L;
+        for (int c = 0; c < categorySlots.size(); c++) {
+            categoryDailyUnits[c * windowDays + bucket] = 0L;
+            categoryDailyRevenue[c * windowDays + bucket] = 0L;
+        }
+        return bucket;
+    }
+
+    private int productSlot(long productId) {
+        int p = productSlots.get(productId, -1);
+        if (p >= 0) {
+            return p;
+        }
+        p = productSlots.size();
+        productSlots.put(productId, p);
+        if (p == productUnits.length) {
+            productUnits = Arrays.copyOf(productUnits, p * 2);
+            productRevenue = Arrays.copyOf(productRevenue, p * 2);
+        }
+        return p;
+    }
+
+    private int categorySlot(long categoryId) {
+        int c = categorySlots.get(categoryId, -1);
+        if (c >= 0) {
+            return c;
+        }
+        c = categorySlots.size();
+        categorySlots.put(categoryId, c);
+        if (c == categoryUnits.length) {
+            categoryUnits = Arrays.copyOf(categoryUnits, c * 2);
+            categoryRevenue = Arrays.copyOf(categoryRevenue, c * 2);
+            categoryDailyUnits = Arrays.copyOf(categoryDailyUnits, c * 2 * windowDays);
+            categoryDailyRevenue = Arrays.copyOf(categoryDailyRevenue, c * 2 * windowDays);
+        }
+        return c;
+    }
+}
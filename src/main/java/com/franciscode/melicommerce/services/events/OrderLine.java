@@ -0,0 +1,10 @@
+package com.franciscode.melicommerce.services.events;
+
+import com.franciscode.melicommerce.entities.OrderItem;
+
+public record OrderLine(long productId, int quantity, double price) {
+
+    public static OrderLine from(OrderItem item) {
+        return new OrderLine(item.getProduct().getId(), item.getQuantity(), item.getPrice());
+    }
+}
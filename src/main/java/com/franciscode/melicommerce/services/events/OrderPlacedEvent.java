@@ -0,0 +1,15 @@
+package com.franciscode.melicommerce.services.events;
+
+import com.franciscode.melicommerce.entities.Order;
+import com.franciscode.melicommerce.entities.OrderStatus;
+
+import java.time.Instant;
+import java.util.List;
+
+public record OrderPlacedEvent(long orderId, long clientId, Instant moment, OrderStatus status, List<OrderLine> lines) {
+
+    public static OrderPlacedEvent from(Order order) {
+        List<OrderLine> lines = order.getItems().stream().map(OrderLine::from).toList();
+        return new OrderPlacedEvent(order.getId(), order.getClient().getId(), order.getMoment(), order.getStatus(), lines);
+    }
+}
@@ -0,0 +1,17 @@
+package com.franciscode.melicommerce.services.events;
+
+import com.franciscode.melicommerce.entities.Order;
+import com.franciscode.melicommerce.entities.OrderStatus;
+
+import java.time.Instant;
+import java.util.List;
+
+public record OrderStatusChangedEvent(long orderId, long clientId, Instant moment, OrderStatus previous,
+                                      OrderStatus current, List<OrderLine> lines) {
+
+    public static OrderStatusChangedEvent from(Order order, OrderStatus previous) {
+        List<OrderLine> lines = order.getItems().stream().map(OrderLine::from).toList();
+        return new OrderStatusChangedEvent(order.getId(), order.getClient().getId(), order.getMoment(), previous,
+                order.getStatus(), lines);
+    }
+}
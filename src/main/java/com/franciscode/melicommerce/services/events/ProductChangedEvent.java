@@ -0,0 +1,18 @@
+package com.franciscode.melicommerce.services.events;
+
+import com.franciscode.melicommerce.dto.ProductDTO;
+
+public record ProductChangedEvent(long productId, ProductDTO product) {
+
+    public static ProductChangedEvent saved(ProductDTO product) {
+        return new ProductChangedEvent(product.getId(), product);
+    }
+
+    public static ProductChangedEvent deleted(long productId) {
+        return new ProductChangedEvent(productId, null);
+    }
+
+    public boolean isDeleted() {
+        return product == null;
+    }
+}
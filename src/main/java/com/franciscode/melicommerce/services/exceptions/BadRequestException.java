@@ -1,6 +1,6 @@
 package com.franciscode.melicommerce.services.exceptions;
 
-public class BadRequestException extends RuntimeException {
+public class BadRequestException extends DomainException {
 
     public BadRequestException(String msg) {
         super(msg);
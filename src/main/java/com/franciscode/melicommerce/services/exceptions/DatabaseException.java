@@ -1,6 +1,6 @@
 package com.franciscode.melicommerce.services.exceptions;
 
-public class DatabaseException extends RuntimeException {
+public class DatabaseException extends DomainException {
 
     public DatabaseException(String msg) {
         super(msg);
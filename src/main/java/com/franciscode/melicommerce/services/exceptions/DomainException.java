@@ -0,0 +1,8 @@
+package com.franciscode.melicommerce.services.exceptions;
+
+public abstract class DomainException extends RuntimeException {
+
+    protected DomainException(String msg) {
+        super(msg, null, false, false);
+    }
+}
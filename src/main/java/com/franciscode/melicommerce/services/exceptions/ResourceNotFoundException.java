@@ -1,6 +1,6 @@
 package com.franciscode.melicommerce.services.exceptions;
 
-public class ResourceNotFoundException extends RuntimeException {
+public class ResourceNotFoundException extends DomainException {
 
     public ResourceNotFoundException(String msg) {
         super(msg);
@@ -0,0 +1,6 @@
+package com.franciscode.melicommerce.services.payments;
+
+public interface PaymentProvider {
+
+    boolean authorize(long orderId, double amount) throws InterruptedException;
+}
@@ -0,0 +1,15 @@
+package com.franciscode.melicommerce.services.payments;
+
+import com.franciscode.melicommerce.services.events.OrderLine;
+import com.franciscode.melicommerce.services.events.OrderPlacedEvent;
+
+public record PaymentRequest(long orderId, double amount) {
+
+    public static PaymentRequest from(OrderPlacedEvent event) {
+        double amount = 0.0;
+        for (OrderLine line : event.lines()) {
+            amount += line.price() * line.quantity();
+        }
+        return new PaymentRequest(event.orderId(), amount);
+    }
+}
@@ -0,0 +1,4 @@
+package com.franciscode.melicommerce.services.payments;
+
+public record PaymentResult(long orderId, boolean approved) {
+}
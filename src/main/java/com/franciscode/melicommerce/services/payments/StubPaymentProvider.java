@@ -0,0 +1,21 @@
+package com.franciscode.melicommerce.services.payments;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "payment.provider", havingValue = "stub")
+public class StubPaymentProvider implements PaymentProvider {
+
+    @Value("${payment.stub.latency-ms:0}")
+    private long latencyMs;
+
+    @Override
+    public boolean authorize(long orderId, double amount) throws InterruptedException {
+        if (latencyMs > 0) {
+            Thread.sleep(latencyMs);
+        }
+        return amount > 0.0;
+    }
+}
@@ -0,0 +1,60 @@
+package com.franciscode.melicommerce.services.queues;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+public class StatusQueue {
+
+    private final TreeSet<Long> ready = new TreeSet<>();
+    private final Map<Long, Long> leases = new HashMap<>();
+
+    public synchronized void add(long orderId) {
+        if (!leases.containsKey(orderId)) {
+            ready.add(orderId);
+        }
+    }
+
+    public synchronized void remove(long orderId) {
+        ready.remove(orderId);
+        leases.remove(orderId);
+    }
+
+    public synchronized List<Long> poll(int limit, long nowMillis, long leaseMillis) {
+        requeueExpired(nowMillis);
+        List<Long> claimed = new ArrayList<>(Math.min(limit, ready.size()));
+        while (claimed.size() < limit && !ready.isEmpty()) {
+            Long orderId = ready.pollFirst();
+            leases.put(orderId, nowMillis + leaseMillis);
+            claimed.add(orderId);
+        }
+        return claimed;
+    }
+
+    public synchronized int readySize() {
+        return ready.size();
+    }
+
+    public synchronized int claimedSize() {
+        return leases.size();
+    }
+
+    public synchronized void clear() {
+        ready.clear();
+        leases.clear();
+    }
+
+    private void requeueExpired(long nowMillis) {
+        Iterator<Map.Entry<Long, Long>> it = leases.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Long, Long> lease = it.next();
+            if (lease.getValue() <= nowMillis) {
+                ready.add(lease.getKey());
+                it.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.franciscode.melicommerce.services.rankings;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+public class Leaderboard {
+
+    private static final Comparator<Entry> ORDER = Comparator.comparingDouble(Entry::score).reversed()
+            .thenComparingLong(Entry::productId);
+
+    private final int capacity;
+    private final ConcurrentSkipListSet<Entry> entries = new ConcurrentSkipListSet<>(ORDER);
+    private final Map<Long, Entry> byProduct = new ConcurrentHashMap<>();
+    private volatile Entry bestDropped;
+
+    public Leaderboard(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public synchronized void update(long productId, double score) {
+        Entry entry = new Entry(productId, score);
+        Entry previous = byProduct.remove(productId);
+        if (previous != null) {
+            entries.remove(previous);
+        }
+        if (entries.size() >= capacity && ORDER.compare(entry, entries.last()) > 0) {
+            drop(entry);
+            return;
+        }
+        entries.add(entry);
+        byProduct.put(productId, entry);
+        if (entries.size() > capacity) {
+            Entry evicted = entries.pollLast();
+            byProduct.remove(evicted.productId());
+            drop(evicted);
+        }
+    }
+
+    public synchronized void remove(long productId) {
+        Entry previous = byProduct.remove(productId);
+        if (previous != null) {
+            entries.remove(previous);
+        }
+    }
+
+    public long[] top(int k) {
+        long[] result = new long[k];
+        int n = 0;
+        Iterator<Entry> it = entries.iterator();
+        while (n < k && it.hasNext()) {
+            result[n++] = it.next().productId();
+        }
+        return n == k ? result : Arrays.copyOf(result, n);
+    }
+
+    public boolean isExact(int k) {
+        Entry dropped = bestDropped;
+        if (dropped == null) {
+            return true;
+        }
+        Iterator<Entry> it = entries.iterator();
+        Entry last = null;
+        int n = 0;
+        while (n < k && it.hasNext()) {
+            last = it.next();
+            n++;
+        }
+        return n == k && ORDER.compare(last, dropped) < 0;
+    }
+
+    public int size() {
+        return byProduct.size();
+    }
+
+    private void drop(Entry entry) {
+        if (bestDropped == null || ORDER.compare(entry, bestDropped) < 0) {
+            bestDropped = entry;
+        }
+    }
+
+    private record Entry(long productId, double score) {
+    }
+}
@@ -0,0 +1,6 @@
+package com.franciscode.melicommerce.services.rankings;
+
+public enum RankingCriterion {
+
+    RATING, SALES;
+}
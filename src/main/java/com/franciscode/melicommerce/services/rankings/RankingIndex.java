@@ -0,0 +1,53 @@
+package com.franciscode.melicommerce.services.rankings;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class RankingIndex {
+
+    private final int capacity;
+    private final Leaderboard global;
+    private final Map<Long, Leaderboard> byCategory = new ConcurrentHashMap<>();
+
+    public RankingIndex(int capacity) {
+        this.capacity = capacity;
+        this.global = new Leaderboard(capacity);
+    }
+
+    public void update(long productId, long[] categoryIds, double score) {
+        global.update(productId, score);
+        for (long categoryId : categoryIds) {
+            byCategory.computeIfAbsent(categoryId, id -> new Leaderboard(capacity)).update(productId, score);
+        }
+    }
+
+    public void remove(long productId, long[] categoryIds) {
+        global.remove(productId);
+        for (long categoryId : categoryIds) {
+            Leaderboard leaderboard = byCategory.get(categoryId);
+            if (leaderboard != null) {
+                leaderboard.remove(productId);
+            }
+        }
+    }
+
+    public int size() {
+        return global.size();
+    }
+
+    public long[] top(Long categoryId, int k) {
+        if (categoryId == null) {
+            return global.top(k);
+        }
+        Leaderboard leaderboard = byCategory.get(categoryId);
+        return leaderboard == null ? new long[0] : leaderboard.top(k);
+    }
+
+    public boolean isExact(Long categoryId, int k) {
+        if (categoryId == null) {
+            return global.isExact(k);
+        }
+        Leaderboard leaderboard = byCategory.get(categoryId);
+        return leaderboard == null || leaderboard.isExact(k);
+    }
+}
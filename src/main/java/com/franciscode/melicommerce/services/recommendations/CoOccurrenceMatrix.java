@@ -0,0 +1,76 @@
+package com.franciscode.melicommerce.services.recommendations;
+
+import com.franciscode.melicommerce.util.LongIntHashMap;
+
+import java.util.Arrays;
+
+public class CoOccurrenceMatrix {
+
+    private final LongIntHashMap rowSlots = new LongIntHashMap();
+    private LongIntHashMap[] rows = new LongIntHashMap[16];
+
+    public void addBasket(long[] productIds) {
+        for (int i = 0; i < productIds.length; i++) {
+            for (int j = i + 1; j < productIds.length; j++) {
+                if (productIds[i] != productIds[j]) {
+                    row(productIds[i]).addTo(productIds[j], 1);
+                    row(productIds[j]).addTo(productIds[i], 1);
+                }
+            }
+        }
+    }
+
+    public int count(long productId, long otherId) {
+        int slot = rowSlots.get(productId, -1);
+        return slot < 0 ? 0 : rows[slot].get(otherId, 0);
+    }
+
+    public long[] productIds() {
+        return rowSlots.keys();
+    }
+
+    public RelatedProducts topK(long productId, int k) {
+        int slot = rowSlots.get(productId, -1);
+        if (slot < 0 || k <= 0) {
+            return RelatedProducts.EMPTY;
+        }
+        long[] ids = new long[k];
+        int[] scores = new int[k];
+        int[] size = {0};
+        rows[slot].forEach((otherId, score) -> {
+            int n = size[0];
+            if (score <= 0 || (n == k && !ranksBefore(score, otherId, scores[k - 1], ids[k - 1]))) {
+                return;
+            }
+            int pos = n == k ? k - 1 : n;
+            while (pos > 0 && ranksBefore(score, otherId, scores[pos - 1], ids[pos - 1])) {
+                ids[pos] = ids[pos - 1];
+                scores[pos] = scores[pos - 1];
+                pos--;
+            }
+            ids[pos] = otherId;
+            scores[pos] = score;
+            if (n < k) {
+                size[0] = n + 1;
+            }
+        });
+        return new RelatedProducts(Arrays.copyOf(ids, size[0]), Arrays.copyOf(scores, size[0]));
+    }
+
+    private static boolean ranksBefore(int score, long id, int otherScore, long otherId) {
+        return score > otherScore || (score == otherScore && id < otherId);
+    }
+
+    private LongIntHashMap row(long productId) {
+        int slot = rowSlots.get(productId, -1);
+        if (slot < 0) {
+            slot = rowSlots.size();
+            rowSlots.put(productId, slot);
+            if (slot == rows.length) {
+                rows = Arrays.copyOf(rows, slot * 2);
+            }
+            rows[slot] = new LongIntHashMap(8);
+        }
+        return rows[slot];
+    }
+}
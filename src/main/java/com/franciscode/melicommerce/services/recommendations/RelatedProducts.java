@@ -0,0 +1,10 @@
+package com.franciscode.melicommerce.services.recommendations;
+
+public record RelatedProducts(long[] productIds, int[] scores) {
+
+    public static final RelatedProducts EMPTY = new RelatedProducts(new long[0], new int[0]);
+
+    public int size() {
+        return productIds.length;
+    }
+}
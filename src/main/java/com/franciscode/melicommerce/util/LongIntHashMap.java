@@ -0,0 +1,132 @@
+package com.franciscode.melicommerce.util;
+
+public class LongIntHashMap {
+
+    private static final long FREE = 0L;
+
+    private long[] keys;
+    private int[] values;
+    private boolean hasFreeKey;
+    private int freeValue;
+    private int size;
+    private int mask;
+    private int threshold;
+
+    public LongIntHashMap() {
+        this(16);
+    }
+
+    public LongIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+        allocate(capacity);
+    }
+
+    public int get(long key, int defaultValue) {
+        if (key == FREE) {
+            return hasFreeKey ? freeValue : defaultValue;
+        }
+        int index = indexOf(key);
+        return keys[index] == key ? values[index] : defaultValue;
+    }
+
+    public boolean containsKey(long key) {
+        if (key == FREE) {
+            return hasFreeKey;
+        }
+        return keys[indexOf(key)] == key;
+    }
+
+    public void put(long key, int value) {
+        if (key == FREE) {
+            if (!hasFreeKey) {
+                hasFreeKey = true;
+                size++;
+            }
+            freeValue = value;
+            return;
+        }
+        int index = indexOf(key);
+        if (keys[index] == key) {
+            values[index] = value;
+            return;
+        }
+        keys[index] = key;
+        values[index] = value;
+        if (++size > threshold) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    public int addTo(long key, int delta) {
+        int value = get(key, 0) + delta;
+        put(key, value);
+        return value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long[] keys() {
+        long[] result = new long[size];
+        int n = 0;
+        if (hasFreeKey) {
+            result[n++] = FREE;
+        }
+        for (long key : keys) {
+            if (key != FREE) {
+                result[n++] = key;
+            }
+        }
+        return result;
+    }
+
+    public void forEach(Consumer consumer) {
+        if (hasFreeKey) {
+            consumer.accept(FREE, freeValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    private int indexOf(long key) {
+        int index = mix(key) & mask;
+        while (keys[index] != FREE && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        threshold = (int) (capacity * 0.75f);
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE) {
+                int index = indexOf(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    @FunctionalInterface
+    public interface Consumer {
+        void accept(long key, int value);
+    }
+}
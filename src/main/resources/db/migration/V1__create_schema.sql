@@ -0,0 +1,54 @@
+CREATE TABLE tb_category (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE tb_product (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name VARCHAR(255),
+    description TEXT,
+    price FLOAT(53),
+    img_url VARCHAR(255),
+    rating FLOAT(53),
+    specifications VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE tb_product_category (
+    product_id BIGINT NOT NULL,
+    category_id BIGINT NOT NULL,
+    PRIMARY KEY (product_id, category_id)
+);
+
+CREATE TABLE tb_user (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name VARCHAR(255),
+    email VARCHAR(255) UNIQUE,
+    phone VARCHAR(255),
+    birth_date DATE,
+    password VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE tb_order (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    moment TIMESTAMP(6) WITH TIME ZONE,
+    status TINYINT CHECK (status BETWEEN 0 AND 4),
+    client_id BIGINT,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE tb_order_item (
+    order_id BIGINT NOT NULL,
+    product_id BIGINT NOT NULL,
+    quantity INTEGER,
+    price FLOAT(53),
+    PRIMARY KEY (order_id, product_id)
+);
+
+CREATE TABLE tb_payment (
+    order_id BIGINT NOT NULL,
+    moment TIMESTAMP(6) WITH TIME ZONE,
+    PRIMARY KEY (order_id)
+);
@@ -0,0 +1,10 @@
+CREATE INDEX idx_product_name ON tb_product (name);
+CREATE INDEX idx_product_price ON tb_product (price);
+CREATE INDEX idx_product_rating ON tb_product (rating);
+
+CREATE INDEX idx_product_category_category ON tb_product_category (category_id);
+
+CREATE INDEX idx_order_client_moment ON tb_order (client_id, moment);
+CREATE INDEX idx_order_status ON tb_order (status);
+
+CREATE INDEX idx_order_item_product ON tb_order_item (product_id);
@@ -0,0 +1,9 @@
+ALTER TABLE tb_product_category ADD CONSTRAINT fk_product_category_product FOREIGN KEY (product_id) REFERENCES tb_product (id);
+ALTER TABLE tb_product_category ADD CONSTRAINT fk_product_category_category FOREIGN KEY (category_id) REFERENCES tb_category (id);
+
+ALTER TABLE tb_order ADD CONSTRAINT fk_order_client FOREIGN KEY (client_id) REFERENCES tb_user (id);
+
+ALTER TABLE tb_order_item ADD CONSTRAINT fk_order_item_order FOREIGN KEY (order_id) REFERENCES tb_order (id);
+ALTER TABLE tb_order_item ADD CONSTRAINT fk_order_item_product FOREIGN KEY (product_id) REFERENCES tb_product (id);
+
+ALTER TABLE tb_payment ADD CONSTRAINT fk_payment_order FOREIGN KEY (order_id) REFERENCES tb_order (id);
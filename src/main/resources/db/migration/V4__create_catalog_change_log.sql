@@ -0,0 +1,8 @@
+CREATE TABLE tb_catalog_change (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    product_id BIGINT NOT NULL,
+    moment TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_catalog_change_moment ON tb_catalog_change (moment);
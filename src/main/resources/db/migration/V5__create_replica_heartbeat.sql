@@ -0,0 +1,5 @@
+CREATE TABLE tb_replica_heartbeat (
+    id INTEGER NOT NULL,
+    beat_at BIGINT NOT NULL,
+    PRIMARY KEY (id)
+);
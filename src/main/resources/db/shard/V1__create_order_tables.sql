@@ -0,0 +1,27 @@
+CREATE TABLE tb_order (
+    id BIGINT NOT NULL,
+    client_id BIGINT NOT NULL,
+    moment TIMESTAMP WITH TIME ZONE,
+    status TINYINT CHECK (status BETWEEN 0 AND 4),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE tb_order_item (
+    order_id BIGINT NOT NULL,
+    product_id BIGINT NOT NULL,
+    quantity INTEGER,
+    price FLOAT(53),
+    PRIMARY KEY (order_id, product_id)
+);
+
+CREATE TABLE tb_payment (
+    order_id BIGINT NOT NULL,
+    moment TIMESTAMP WITH TIME ZONE,
+    PRIMARY KEY (order_id)
+);
+
+CREATE INDEX idx_order_client_moment ON tb_order (client_id, moment);
+CREATE INDEX idx_order_status_moment ON tb_order (status, moment);
+
+ALTER TABLE tb_order_item ADD CONSTRAINT fk_order_item_order FOREIGN KEY (order_id) REFERENCES tb_order (id);
+ALTER TABLE tb_payment ADD CONSTRAINT fk_payment_order FOREIGN KEY (order_id) REFERENCES tb_order (id);
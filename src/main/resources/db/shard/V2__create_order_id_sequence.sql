@@ -0,0 +1 @@
+CREATE SEQUENCE seq_order_id START WITH 1;
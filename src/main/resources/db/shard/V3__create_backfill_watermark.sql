@@ -0,0 +1,7 @@
+CREATE TABLE tb_backfill_watermark (
+    id INTEGER NOT NULL,
+    last_order_id BIGINT NOT NULL,
+    PRIMARY KEY (id)
+);
+
+INSERT INTO tb_backfill_watermark (id, last_order_id) VALUES (1, 0);
@@ -0,0 +1,64 @@
+package com.franciscode.melicommerce.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkheadDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    @Test
+    void getConnection_shouldHoldPermitUntilClose() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+        BulkheadDataSource dataSource = new BulkheadDataSource(target, 2, 10);
+
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+        assertEquals(0, dataSource.getAvailablePermits());
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+
+        first.close();
+        first.close();
+        assertEquals(1, dataSource.getAvailablePermits());
+        verify(connection, times(2)).close();
+
+        second.close();
+        assertEquals(2, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    void getConnection_shouldDelegateCallsToTarget() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(false);
+        BulkheadDataSource dataSource = new BulkheadDataSource(target, 1, 10);
+
+        try (Connection proxy = dataSource.getConnection()) {
+            assertFalse(proxy.getAutoCommit());
+        }
+        assertEquals(1, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    void getConnection_whenTargetFails_shouldReleasePermit() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("pool esgotado"));
+        BulkheadDataSource dataSource = new BulkheadDataSource(target, 1, 10);
+
+        assertThrows(SQLException.class, dataSource::getConnection);
+        assertEquals(1, dataSource.getAvailablePermits());
+    }
+}
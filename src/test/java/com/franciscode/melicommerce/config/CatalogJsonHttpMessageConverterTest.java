@@ -0,0 +1,48 @@
+package com.franciscode.melicommerce.config;
+
+import com.franciscode.melicommerce.dto.CatalogProductDTO;
+import com.franciscode.melicommerce.dto.ProductDTO;
+import com.franciscode.melicommerce.repositories.catalog.CatalogEntry;
+import com.franciscode.melicommerce.repositories.catalog.CatalogSnapshot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogJsonHttpMessageConverterTest {
+
+    @TempDir
+    Path dir;
+
+    private final CatalogJsonHttpMessageConverter converter = new CatalogJsonHttpMessageConverter();
+
+    @Test
+    void canWrite_shouldOnlyAcceptCatalogProductsAsJson() {
+        assertTrue(converter.canWrite(CatalogProductDTO.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(ProductDTO.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(CatalogProductDTO.class, MediaType.APPLICATION_XML));
+        assertFalse(converter.canRead(CatalogProductDTO.class, MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void write_shouldCopyProductFromSnapshot() throws IOException {
+        Path file = dir.resolve("catalog.snap");
+        CatalogSnapshot.write(file, 1L, Instant.now(),
+                List.of(new CatalogEntry(new ProductDTO(3L, "Cadeira", "Estofada", 150.0, "img3", 4.5, "s"), new long[0])));
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+
+        converter.write((CatalogProductDTO) CatalogSnapshot.open(file).find(3L).product(), MediaType.APPLICATION_JSON, message);
+
+        assertEquals(MediaType.APPLICATION_JSON, message.getHeaders().getContentType());
+        assertEquals("{\"description\":\"Estofada\",\"id\":3,\"imgUrl\":\"img3\",\"name\":\"Cadeira\",\"price\":150.0,"
+                + "\"rating\":4.5,\"specifications\":\"s\"}", message.getBodyAsString(StandardCharsets.UTF_8));
+    }
+}
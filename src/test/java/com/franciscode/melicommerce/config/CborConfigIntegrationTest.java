@@ -0,0 +1,55 @@
+package com.franciscode.melicommerce.config;
+
+import com.franciscode.melicommerce.dto.ProductDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class CborConfigIntegrationTest {
+
+    @Autowired
+    private RequestMappingHandlerAdapter handlerAdapter;
+
+    @Autowired
+    private CBORMapper cborMapper;
+
+    @Test
+    void converters_shouldKeepJsonAsDefaultAndOfferCbor() {
+        List<HttpMessageConverter<?>> converters = handlerAdapter.getMessageConverters();
+        int json = indexOf(converters, MediaType.APPLICATION_JSON);
+        int cbor = indexOf(converters, MediaType.APPLICATION_CBOR);
+
+        assertTrue(json >= 0);
+        assertTrue(cbor > json);
+        assertInstanceOf(JacksonCborHttpMessageConverter.class, converters.get(cbor));
+    }
+
+    @Test
+    void cborMapper_shouldWriteDoublesInTheSmallestLosslessForm() {
+        ProductDTO product = new ProductDTO(1L, "Cadeira", "Estofada", 4.5, "img", 4.5, "s");
+        byte[] compact = cborMapper.writeValueAsBytes(product);
+        byte[] plain = new CBORMapper().writeValueAsBytes(product);
+
+        assertEquals(plain.length - 8, compact.length);
+        assertEquals(4.5, new CBORMapper().readValue(compact, ProductDTO.class).getPrice());
+    }
+
+    private static int indexOf(List<HttpMessageConverter<?>> converters, MediaType mediaType) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i).canWrite(ProductDTO.class, mediaType)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,164 @@
+package com.franciscode.melicommerce.config;
+
+import com.franciscode.melicommerce.services.events.ProductChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressedResponseCacheFilterTest {
+
+    private static final String BODY = "{\"content\":[" + "{\"id\":1,\"name\":\"Produto\"},".repeat(50) + "{}]}";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicLong nanos = new AtomicLong();
+    private final CompressedResponseCache cache = new CompressedResponseCache(1024 * 1024, Duration.ofSeconds(60), registry,
+            nanos::get);
+    private final CompressedResponseCacheFilter filter = new CompressedResponseCacheFilter(cache);
+    private final AtomicInteger renders = new AtomicInteger();
+
+    @Test
+    void doFilter_afterExpireAfterWrite_shouldRenderAgain() throws Exception {
+        perform(get("/products?page=0&size=50"), json());
+        nanos.addAndGet(Duration.ofSeconds(59).toNanos());
+        MockHttpServletResponse hit = perform(get("/products?page=0&size=50"), json());
+        nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+        MockHttpServletResponse expired = perform(get("/products?page=0&size=50"), json());
+
+        assertEquals("HIT", hit.getHeader(CompressedResponseCacheFilter.CACHE_HEADER));
+        assertEquals("MISS", expired.getHeader(CompressedResponseCacheFilter.CACHE_HEADER));
+        assertEquals(2, renders.get());
+    }
+
+    @Test
+    void doFilter_shouldServeRepeatHitsFromPrecompressedBytes() throws Exception {
+        MockHttpServletResponse miss = perform(get("/products?page=0&size=50"), json());
+        MockHttpServletResponse hit = perform(get("/products?page=0&size=50"), json());
+
+        assertEquals(1, renders.get());
+        assertEquals("MISS", miss.getHeader(CompressedResponseCacheFilter.CACHE_HEADER));
+        assertEquals("HIT", hit.getHeader(CompressedResponseCacheFilter.CACHE_HEADER));
+        assertEquals("gzip", hit.getHeader("Content-Encoding"));
+        assertEquals("Accept, Accept-Encoding", miss.getHeader("Vary"));
+        assertEquals("Accept, Accept-Encoding", hit.getHeader("Vary"));
+        assertEquals("application/json", hit.getContentType());
+        assertEquals(BODY, gunzip(miss.getContentAsByteArray()));
+        assertArrayEquals(miss.getContentAsByteArray(), hit.getContentAsByteArray());
+        assertTrue(hit.getContentAsByteArray().length < BODY.length() / 4);
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", CompressedResponseCache.METRIC).tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    void doFilter_shouldKeepSeparateEntriesPerQueryAndAccept() throws Exception {
+        perform(get("/products/1"), json());
+        perform(get("/products/2"), json());
+        MockHttpServletRequest cbor = get("/products/1");
+        cbor.addHeader("Accept", "application/cbor");
+        perform(cbor, (req, res) -> {
+            renders.incrementAndGet();
+            res.setContentType("application/cbor");
+            res.getOutputStream().write(new byte[]{(byte) 0xA0});
+        });
+
+        assertEquals(3, renders.get());
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    void onProductChanged_shouldDropCachedResponses() throws Exception {
+        perform(get("/products/compare?ids=1,2"), json());
+
+        cache.onProductChanged(ProductChangedEvent.deleted(1L));
+        MockHttpServletResponse response = perform(get("/products/compare?ids=1,2"), json());
+
+        assertEquals(2, renders.get());
+        assertEquals("MISS", response.getHeader(CompressedResponseCacheFilter.CACHE_HEADER));
+    }
+
+    @Test
+    void doFilter_whenProductChangesDuringRender_shouldNotStoreStaleBytes() throws Exception {
+        perform(get("/products/3"), (req, res) -> {
+            cache.invalidateAll();
+            json().doFilter(req, res);
+        });
+        MockHttpServletResponse response = perform(get("/products/3"), json());
+
+        assertEquals("MISS", response.getHeader(CompressedResponseCacheFilter.CACHE_HEADER));
+        assertEquals(BODY, gunzip(response.getContentAsByteArray()));
+    }
+
+    @Test
+    void doFilter_shouldPassThroughErrorsOtherPathsAndClientsWithoutGzip() throws Exception {
+        MockHttpServletResponse notFound = perform(get("/products/99"), (req, res) -> {
+            renders.incrementAndGet();
+            ((HttpServletResponse) res).setStatus(404);
+            res.setContentType("application/json");
+            res.getWriter().write("{\"error\":\"Recurso não encontrado\"}");
+        });
+        MockHttpServletRequest identity = get("/products/1");
+        identity.removeHeader("Accept-Encoding");
+        identity.addHeader("Accept-Encoding", "gzip;q=0, identity");
+        MockHttpServletResponse plain = perform(identity, json());
+        perform(get("/products/top"), json());
+        perform(get("/products/1/related"), json());
+
+        assertEquals(404, notFound.getStatus());
+        assertNull(notFound.getHeader("Content-Encoding"));
+        assertNull(plain.getHeader("Content-Encoding"));
+        assertEquals(BODY, plain.getContentAsString());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void acceptsGzip_shouldHonourQualityValues() {
+        assertTrue(CompressedResponseCacheFilter.acceptsGzip("gzip, deflate, br"));
+        assertTrue(CompressedResponseCacheFilter.acceptsGzip("br;q=1.0, GZIP;q=0.5"));
+        assertTrue(CompressedResponseCacheFilter.acceptsGzip("*"));
+        assertFalse(CompressedResponseCacheFilter.acceptsGzip("gzip;q=0"));
+        assertFalse(CompressedResponseCacheFilter.acceptsGzip("br, identity"));
+        assertFalse(CompressedResponseCacheFilter.acceptsGzip(null));
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private FilterChain json() {
+        return (req, res) -> {
+            renders.incrementAndGet();
+            res.setContentType("application/json");
+            res.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private static MockHttpServletRequest get(String uri) {
+        int query = uri.indexOf('?');
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", query < 0 ? uri : uri.substring(0, query));
+        if (query >= 0) {
+            request.setQueryString(uri.substring(query + 1));
+        }
+        request.addHeader("Accept-Encoding", "gzip, deflate, br");
+        return request;
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.franciscode.melicommerce.config;
+
+import com.franciscode.melicommerce.dto.OrderDTO;
+import com.franciscode.melicommerce.dto.OrderItemDTO;
+import com.franciscode.melicommerce.dto.OrderSummaryDTO;
+import com.franciscode.melicommerce.entities.OrderStatus;
+import com.franciscode.melicommerce.repositories.OrderRepository;
+import com.franciscode.melicommerce.repositories.sharding.ShardedOrderRepository;
+import com.franciscode.melicommerce.services.OrderHistoryService;
+import com.franciscode.melicommerce.services.OrderService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {"orders.sharding.enabled=true", "payment.pipeline.enabled=false",
+        "orders.sharding.urls=jdbc:h2:mem:it-orders0;DB_CLOSE_DELAY=-1,jdbc:h2:mem:it-orders1;DB_CLOSE_DELAY=-1,"
+                + "jdbc:h2:mem:it-orders2;DB_CLOSE_DELAY=-1"})
+class OrderShardingIntegrationTest {
+
+    @Autowired
+    private ShardedOrderRepository shardedOrderRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderHistoryService orderHistoryService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Test
+    void startup_shouldImportSeededOrdersIntoShards() {
+        assertEquals(3, shardedOrderRepository.getShardCount());
+        for (long clientId = 1; clientId <= 2; clientId++) {
+            List<Long> fromShard = ids(shardedOrderRepository.findByClient(clientId, 100));
+            List<Long> fromPrimary = ids(orderRepository.findSummariesByClientId(clientId, PageRequest.of(0, 100)));
+            assertTrue(fromShard.containsAll(fromPrimary));
+        }
+    }
+
+    @Test
+    void placedAndPaidOrder_shouldBeStoredOnlyInTheClientShard() {
+        long primaryOrders = orderRepository.count();
+        OrderDTO placed = orderService.insert(new OrderDTO(null, null, null, 1L,
+                List.of(new OrderItemDTO(1L, null, null, 2))));
+        orderService.updateStatus(placed.getId(), OrderStatus.PAID);
+
+        assertEquals(primaryOrders, orderRepository.count());
+        assertTrue(placed.getId() > primaryOrders);
+        assertEquals(OrderStatus.PAID, orderService.findById(placed.getId()).getStatus());
+
+        OrderSummaryDTO latest = orderHistoryService.findByClient(1L, 1).get(0);
+        assertEquals(placed.getId(), latest.getId());
+        assertEquals(OrderStatus.PAID, latest.getStatus());
+        assertEquals(placed.getId(), orderHistoryService.findRecent(OrderStatus.PAID, 1).get(0).getId());
+    }
+
+    private static List<Long> ids(List<OrderSummaryDTO> orders) {
+        return orders.stream().map(OrderSummaryDTO::getId).toList();
+    }
+}
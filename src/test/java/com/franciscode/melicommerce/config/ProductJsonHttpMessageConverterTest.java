@@ -0,0 +1,62 @@
+package com.franciscode.melicommerce.config;
+
+import com.franciscode.melicommerce.dto.CustomError;
+import com.franciscode.melicommerce.dto.ProductDTO;
+import com.franciscode.melicommerce.dto.ProductPageDTO;
+import com.franciscode.melicommerce.dto.ProductSummaryDTO;
+import com.franciscode.melicommerce.dto.RelatedProductDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductJsonHttpMessageConverterTest {
+
+    private final ProductJsonHttpMessageConverter converter = new ProductJsonHttpMessageConverter(2);
+
+    @Test
+    void canWrite_shouldAcceptProductTypesAndListsOfThemAsJson() {
+        Type products = ResolvableType.forClassWithGenerics(List.class, ProductDTO.class).getType();
+        Type related = ResolvableType.forClassWithGenerics(List.class, RelatedProductDTO.class).getType();
+
+        assertTrue(converter.canWrite(ProductDTO.class, ProductDTO.class, MediaType.APPLICATION_JSON));
+        assertTrue(converter.canWrite(ProductPageDTO.class, ProductPageDTO.class, MediaType.APPLICATION_JSON));
+        assertTrue(converter.canWrite(products, List.class, MediaType.APPLICATION_JSON));
+        assertTrue(converter.canWrite(CustomError.class, CustomError.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(related, List.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(List.class, List.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(ProductDTO.class, ProductDTO.class, MediaType.APPLICATION_XML));
+        assertFalse(converter.canRead(ProductDTO.class, null, MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void write_shouldSerializeListOfSummaries() throws IOException {
+        Type summaries = ResolvableType.forClassWithGenerics(List.class, ProductSummaryDTO.class).getType();
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+
+        converter.write(List.of(new ProductSummaryDTO(1L, "P1", 10.0, "url1", 4.0)), summaries,
+                MediaType.APPLICATION_JSON, message);
+
+        assertEquals(MediaType.APPLICATION_JSON, message.getHeaders().getContentType());
+        assertEquals("[{\"id\":1,\"name\":\"P1\",\"price\":10.0,\"imgUrl\":\"url1\",\"rating\":4.0}]",
+                message.getBodyAsString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void write_shouldSerializeSingleProduct() throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+
+        converter.write(new ProductDTO(3L, "Cadeira", "Estofada", 150.0, "img3", 4.5, "s"), ProductDTO.class,
+                MediaType.APPLICATION_JSON, message);
+
+        assertEquals("{\"description\":\"Estofada\",\"id\":3,\"imgUrl\":\"img3\",\"name\":\"Cadeira\",\"price\":150.0,"
+                + "\"rating\":4.5,\"specifications\":\"s\"}", message.getBodyAsString(StandardCharsets.UTF_8));
+    }
+}
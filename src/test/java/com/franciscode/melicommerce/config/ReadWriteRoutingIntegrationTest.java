@@ -0,0 +1,82 @@
+package com.franciscode.melicommerce.config;
+
+import com.franciscode.melicommerce.services.ProductService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(properties = "datasource.routing.enabled=true")
+class ReadWriteRoutingIntegrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaMonitor replicaMonitor;
+
+    @Autowired
+    private ProductService productService;
+
+    @MockitoSpyBean(name = "replicaDataSource")
+    private HikariDataSource replicaDataSource;
+
+    @Test
+    void readOnlyTransactions_shouldGoToReplicaAndWritesToPrimary() {
+        replicaMonitor.check();
+        assertTrue(replicaMonitor.isAvailable());
+
+        assertEquals("REPLICA", databaseName(true));
+        assertEquals("TESTDB", databaseName(false));
+    }
+
+    @Test
+    void replica_shouldSeeRowsWrittenOnPrimary() {
+        assertEquals(1, write("INSERT INTO tb_category(name) VALUES ('Replicada')"));
+
+        TransactionTemplate read = new TransactionTemplate(transactionManager);
+        read.setReadOnly(true);
+        Integer count = read.execute(status -> new JdbcTemplate(dataSource)
+                .queryForObject("SELECT COUNT(*) FROM tb_category WHERE name = 'Replicada'", Integer.class));
+
+        assertEquals(1, count);
+        assertEquals(1, write("DELETE FROM tb_category WHERE name = 'Replicada'"));
+    }
+
+    @Test
+    void productReads_shouldGoToReplica() throws Exception {
+        replicaMonitor.check();
+        clearInvocations(replicaDataSource);
+
+        assertEquals(1L, productService.findById(1L).getId());
+        assertNotNull(productService.findById(1L, "id,name"));
+        assertEquals(2, productService.compareProductsByIds("1,2").size());
+        assertEquals(2, productService.compareProductsByIds("1,2", "id").size());
+
+        verify(replicaDataSource, times(4)).getConnection();
+    }
+
+    private int write(String sql) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        Integer updated = template.execute(status -> new JdbcTemplate(dataSource).update(sql));
+        return updated == null ? 0 : updated;
+    }
+
+    private String databaseName(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> new JdbcTemplate(dataSource).queryForObject("SELECT DATABASE()", String.class));
+    }
+}
@@ -0,0 +1,60 @@
+package com.franciscode.melicommerce.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaMonitorTest {
+
+    @Mock
+    private JdbcTemplate primary;
+
+    @Mock
+    private JdbcTemplate replica;
+
+    @Test
+    void check_whenReplicaCaughtUp_shouldBeAvailable() {
+        ReplicaMonitor monitor = new ReplicaMonitor(primary, replica, 500, 1000, () -> 10_000L);
+        when(replica.queryForObject(anyString(), eq(Long.class))).thenReturn(9_800L);
+
+        monitor.check();
+
+        assertTrue(monitor.isAvailable());
+        assertEquals(200L, monitor.getLagMs());
+    }
+
+    @Test
+    void check_whenReplicaLagsBehind_shouldFallBackToPrimary() {
+        ReplicaMonitor monitor = new ReplicaMonitor(primary, replica, 500, 1000, () -> 10_000L);
+        when(replica.queryForObject(anyString(), eq(Long.class))).thenReturn(8_000L);
+
+        monitor.check();
+
+        assertFalse(monitor.isAvailable());
+        assertEquals(2_000L, monitor.getLagMs());
+    }
+
+    @Test
+    void check_whenReplicaUnreachable_shouldBeUnavailable() {
+        ReplicaMonitor monitor = new ReplicaMonitor(primary, replica, 500, 1000, () -> 10_000L);
+        when(replica.queryForObject(anyString(), eq(Long.class)))
+                .thenReturn(10_000L)
+                .thenThrow(new DataAccessResourceFailureException("replica fora do ar"));
+
+        monitor.check();
+        assertTrue(monitor.isAvailable());
+
+        monitor.check();
+        assertFalse(monitor.isAvailable());
+        assertEquals(-1L, monitor.getLagMs());
+    }
+}
@@ -0,0 +1,58 @@
+package com.franciscode.melicommerce.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestTimingFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void doFilter_shouldWriteServerTimingHeaderAndRecordPhasesPerEndpoint() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/products/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new RequestTimingFilter(registry, true).doFilter(request, response, (req, res) -> {
+            RequestTiming timing = RequestTiming.current();
+            timing.begin(RequestTiming.Phase.HANDLER);
+            timing.add(RequestTiming.Phase.REPOSITORY, TimeUnit.MILLISECONDS.toNanos(2));
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/products/{id}");
+        });
+
+        assertNull(RequestTiming.current());
+        String header = response.getHeader(RequestTiming.HEADER);
+        assertNotNull(header);
+        assertTrue(header.startsWith("handler;dur="), header);
+        assertTrue(header.contains("repository;dur=2.000"), header);
+
+        Timer repository = registry.get(RequestTimingFilter.METRIC)
+                .tags("uri", "/products/{id}", "status", "200", "method", "GET", "phase", "repository")
+                .timer();
+        assertEquals(1, repository.count());
+        assertEquals(2.0, repository.totalTime(TimeUnit.MILLISECONDS), 0.001);
+        assertEquals(1, registry.get(RequestTimingFilter.METRIC).tag("phase", "handler").timer().count());
+        assertNull(registry.find(RequestTimingFilter.METRIC).tag("phase", "service").timer());
+    }
+
+    @Test
+    void doFilter_shouldSkipHeaderWhenDisabledAndTagUnmatchedNotFound() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/missing");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new RequestTimingFilter(registry, false).doFilter(request, response, (req, res) -> {
+            RequestTiming.current().add(RequestTiming.Phase.SERIALIZATION, 1000);
+            ((MockHttpServletResponse) res).setStatus(404);
+        });
+
+        assertNull(response.getHeader(RequestTiming.HEADER));
+        assertEquals(1, registry.get(RequestTimingFilter.METRIC).tags("uri", "NOT_FOUND", "status", "404").timer().count());
+    }
+}
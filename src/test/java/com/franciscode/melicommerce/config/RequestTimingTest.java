@@ -0,0 +1,55 @@
+package com.franciscode.melicommerce.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestTimingTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestTiming.clear();
+    }
+
+    @Test
+    void start_shouldBindTimingToCurrentThreadUntilCleared() {
+        assertNull(RequestTiming.current());
+
+        RequestTiming timing = RequestTiming.start();
+        assertSame(timing, RequestTiming.current());
+
+        RequestTiming.clear();
+        assertNull(RequestTiming.current());
+    }
+
+    @Test
+    void begin_shouldCountOnlyOutermostCallOfNestedPhase() {
+        RequestTiming timing = RequestTiming.start();
+
+        timing.begin(RequestTiming.Phase.SERVICE);
+        timing.begin(RequestTiming.Phase.SERVICE);
+        timing.end(RequestTiming.Phase.SERVICE);
+        assertEquals(0, timing.getCount(RequestTiming.Phase.SERVICE));
+        timing.end(RequestTiming.Phase.SERVICE);
+        timing.end(RequestTiming.Phase.SERVICE);
+
+        assertEquals(1, timing.getCount(RequestTiming.Phase.SERVICE));
+        assertTrue(timing.getNanos(RequestTiming.Phase.SERVICE) >= 0);
+        assertEquals(0, timing.getCount(RequestTiming.Phase.HANDLER));
+    }
+
+    @Test
+    void toHeader_shouldListRecordedPhasesAndTotal() {
+        RequestTiming timing = RequestTiming.start();
+        timing.add(RequestTiming.Phase.REPOSITORY, 1_500_000);
+        timing.add(RequestTiming.Phase.REPOSITORY, 500_000);
+        timing.add(RequestTiming.Phase.SERVICE, 3_250_000);
+
+        String header = timing.toHeader();
+
+        assertTrue(header.startsWith("service;dur=3.250, repository;dur=2.000;desc=\"2 chamada(s)\", total;dur="), header);
+        assertFalse(header.contains("handler"));
+        assertFalse(header.contains("serialization"));
+    }
+}
@@ -0,0 +1,68 @@
+package com.franciscode.melicommerce.config;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlStatisticsDataSourceTest {
+
+    private final SqlStatistics statistics = new SqlStatistics(0, 0, 100);
+    private SqlStatisticsDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource target = new JdbcDataSource();
+        target.setURL("jdbc:h2:mem:sql-statistics;DB_CLOSE_DELAY=-1");
+        dataSource = new SqlStatisticsDataSource(target, statistics);
+    }
+
+    @Test
+    void executions_shouldRecordCountsRowsAndErrorsPerShape() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE IF NOT EXISTS tb_sample (id BIGINT PRIMARY KEY, name VARCHAR(20))");
+                statement.execute("DELETE FROM tb_sample");
+            }
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO tb_sample (id, name) VALUES (?, ?)")) {
+                for (long id = 1; id <= 3; id++) {
+                    insert.setLong(1, id);
+                    insert.setString(2, "item " + id);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+            for (long id = 1; id <= 2; id++) {
+                try (PreparedStatement select = connection.prepareStatement("SELECT name FROM tb_sample WHERE id >= ?")) {
+                    select.setLong(1, id);
+                    try (ResultSet rows = select.executeQuery()) {
+                        while (rows.next()) {
+                            assertNotNull(rows.getString(1));
+                        }
+                    }
+                }
+            }
+            try (Statement statement = connection.createStatement()) {
+                assertThrows(SQLException.class, () -> statement.executeQuery("SELECT missing FROM tb_sample"));
+            }
+        }
+
+        Map<String, SqlStatistics.Entry> entries = statistics.getEntries().stream()
+                .collect(Collectors.toMap(SqlStatistics.Entry::getShape, Function.identity()));
+        SqlStatistics.Entry select = entries.get("SELECT name FROM tb_sample WHERE id >= ?");
+        assertEquals(2, select.getCount());
+        assertEquals(5, select.getRows());
+        assertEquals(1, entries.get("INSERT INTO tb_sample (id, name) VALUES (?, ?)").getCount());
+        assertEquals(1, entries.get("SELECT missing FROM tb_sample").getErrors());
+    }
+}
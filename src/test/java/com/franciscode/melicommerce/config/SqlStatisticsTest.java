@@ -0,0 +1,85 @@
+package com.franciscode.melicommerce.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlStatisticsTest {
+
+    @Test
+    void shape_shouldReplaceLiteralsAndCollapseInLists() {
+        assertEquals("select * from tb_product p1_0 where p1_0.id in (?...) and p1_0.name = ? and p1_0.price > ?",
+                SqlStatistics.shape("select *\n  from tb_product p1_0\n where p1_0.id in (?, ?,?) and p1_0.name = 'O''Neil' and p1_0.price > 10.5"));
+        assertEquals("select p1_0.id from tb_product p1_0 where p1_0.id in (?...)",
+                SqlStatistics.shape("select p1_0.id from tb_product p1_0 where p1_0.id in (1, 2, 3)"));
+    }
+
+    @Test
+    void entry_shouldGroupStatementsBySameShape() {
+        SqlStatistics statistics = new SqlStatistics(0, 0, 10);
+
+        SqlStatistics.Entry first = statistics.entry("select * from tb_product where id = 1");
+        SqlStatistics.Entry second = statistics.entry("select * from tb_product  where id = 2");
+        statistics.record(first, "select * from tb_product where id = 1", 2_000_000, false);
+        statistics.record(second, "select * from tb_product  where id = 2", 1_000_000, true);
+        first.addRow();
+
+        assertSame(first, second);
+        assertEquals(1, statistics.getEntries().size());
+        assertEquals(2, first.getCount());
+        assertEquals(1, first.getErrors());
+        assertEquals(1, first.getRows());
+        assertEquals(3_000_000, first.getTotalNanos());
+        assertEquals(2_000_000, first.getMaxNanos());
+        assertEquals(0, statistics.getSlowStatements());
+    }
+
+    @Test
+    void entry_whenStatementLimitReached_shouldGroupNewShapesUnderOthers() {
+        SqlStatistics statistics = new SqlStatistics(0, 0, 1);
+
+        statistics.entry("select 1 from tb_user");
+        SqlStatistics.Entry overflow = statistics.entry("select 1 from tb_order");
+
+        assertEquals("(outros)", overflow.getShape());
+    }
+
+    @Test
+    void record_shouldCountStatementsAboveSlowThreshold() {
+        SqlStatistics statistics = new SqlStatistics(5, 0, 10);
+        SqlStatistics.Entry entry = statistics.entry("update tb_product set price = 1");
+
+        statistics.record(entry, "update tb_product set price = 1", 4_000_000, false);
+        statistics.record(entry, "update tb_product set price = 1", 6_000_000, false);
+
+        assertEquals(1, statistics.getSlowStatements());
+
+        statistics.clear();
+        assertEquals(0, statistics.getSlowStatements());
+        assertTrue(statistics.getEntries().isEmpty());
+    }
+
+    @Test
+    void endRequest_shouldFlagSelectRepeatedWithinSameRequest() {
+        SqlStatistics statistics = new SqlStatistics(0, 3, 10);
+        SqlStatistics.Entry select = statistics.entry("select * from tb_category where id = ?");
+        SqlStatistics.Entry insert = statistics.entry("insert into tb_order_item values (?, ?)");
+
+        statistics.beginRequest();
+        for (int i = 0; i < 3; i++) {
+            statistics.record(select, "select * from tb_category where id = ?", 1000, false);
+            statistics.record(insert, "insert into tb_order_item values (?, ?)", 1000, false);
+        }
+        statistics.endRequest("GET /products");
+
+        statistics.beginRequest();
+        statistics.record(select, "select * from tb_category where id = ?", 1000, false);
+        statistics.endRequest("GET /products");
+
+        statistics.record(select, "select * from tb_category where id = ?", 1000, false);
+
+        assertEquals(1, select.getSuspectedNPlusOne());
+        assertEquals(0, insert.getSuspectedNPlusOne());
+        assertEquals(5, select.getCount());
+    }
+}
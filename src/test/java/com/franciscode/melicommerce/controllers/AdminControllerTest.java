@@ -0,0 +1,141 @@
+package com.franciscode.melicommerce.controllers;
+
+import com.franciscode.melicommerce.dto.CacheRegionStatisticsDTO;
+import com.franciscode.melicommerce.dto.CacheStatisticsDTO;
+import com.franciscode.melicommerce.dto.CatalogSnapshotDTO;
+import com.franciscode.melicommerce.dto.OrderArchiveDTO;
+import com.franciscode.melicommerce.dto.OrderSummaryDTO;
+import com.franciscode.melicommerce.dto.SqlStatementStatisticsDTO;
+import com.franciscode.melicommerce.dto.SqlStatisticsDTO;
+import com.franciscode.melicommerce.entities.OrderStatus;
+import com.franciscode.melicommerce.services.CacheStatisticsService;
+import com.franciscode.melicommerce.services.CatalogSnapshotService;
+import com.franciscode.melicommerce.services.OrderArchiveService;
+import com.franciscode.melicommerce.services.OrderHistoryService;
+import com.franciscode.melicommerce.services.SqlStatisticsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class AdminControllerTest {
+
+    @Mock
+    private CacheStatisticsService cacheStatisticsService;
+
+    @Mock
+    private OrderHistoryService orderHistoryService;
+
+    @Mock
+    private OrderArchiveService orderArchiveService;
+
+    @Mock
+    private CatalogSnapshotService catalogSnapshotService;
+
+    @Mock
+    private SqlStatisticsService sqlStatisticsService;
+
+    @InjectMocks
+    private AdminController controller;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void getCacheStatistics_shouldReturnRegions() throws Exception {
+        when(cacheStatisticsService.getStatistics()).thenReturn(new CacheStatisticsDTO(3L, 1L, 1L,
+                List.of(new CacheRegionStatisticsDTO("product", 5L, 2L, 2L, null))));
+
+        mockMvc.perform(get("/admin/cache"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.queryCacheHitCount").value(3))
+                .andExpect(jsonPath("$.regions[0].region").value("product"))
+                .andExpect(jsonPath("$.regions[0].hitCount").value(5));
+    }
+
+    @Test
+    void clearCacheStatistics_shouldReturnNoContent() throws Exception {
+        mockMvc.perform(delete("/admin/cache/statistics"))
+                .andExpect(status().isNoContent());
+
+        verify(cacheStatisticsService, times(1)).clear();
+    }
+
+    @Test
+    void getSqlStatistics_shouldReturnStatementsSortedByRequestedKey() throws Exception {
+        when(sqlStatisticsService.getStatistics("count", 5)).thenReturn(new SqlStatisticsDTO(true, 12L, 1L,
+                List.of(new SqlStatementStatisticsDTO("select * from tb_product where id = ?", 10L, 0L, 5.0, 0.5, 2.0, 10L, 1L))));
+
+        mockMvc.perform(get("/admin/sql").param("sort", "count").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.executions").value(12))
+                .andExpect(jsonPath("$.statements[0].sql").value("select * from tb_product where id = ?"))
+                .andExpect(jsonPath("$.statements[0].suspectedNPlusOne").value(1));
+    }
+
+    @Test
+    void clearSqlStatistics_shouldReturnNoContent() throws Exception {
+        mockMvc.perform(delete("/admin/sql/statistics"))
+                .andExpect(status().isNoContent());
+
+        verify(sqlStatisticsService, times(1)).clear();
+    }
+
+    @Test
+    void getReplicaStatus_whenRoutingDisabled_shouldReportPrimaryOnly() throws Exception {
+        mockMvc.perform(get("/admin/datasource"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.routingEnabled").value(false))
+                .andExpect(jsonPath("$.replicaAvailable").value(false));
+    }
+
+    @Test
+    void findRecentOrders_shouldPassStatusAndLimit() throws Exception {
+        when(orderHistoryService.findRecent(OrderStatus.PAID, 10)).thenReturn(List.of(
+                new OrderSummaryDTO(4L, 2L, Instant.parse("2024-01-01T10:00:00Z"), OrderStatus.PAID, 1L, 90.5)));
+
+        mockMvc.perform(get("/admin/orders").param("status", "PAID").param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(4))
+                .andExpect(jsonPath("$[0].clientId").value(2));
+    }
+
+    @Test
+    void archiveOrders_shouldReturnRunResult() throws Exception {
+        when(orderArchiveService.archive()).thenReturn(new OrderArchiveDTO(true, 12, 3, 40L, 2048L));
+
+        mockMvc.perform(post("/admin/orders/archive"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.archived").value(12))
+                .andExpect(jsonPath("$.segments").value(3));
+    }
+
+    @Test
+    void getCatalogSnapshot_shouldReturnStatus() throws Exception {
+        when(catalogSnapshotService.getStatus()).thenReturn(new CatalogSnapshotDTO(true, 42L, null, 1000, 3, 65536L));
+
+        mockMvc.perform(get("/admin/catalog/snapshot"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(42))
+                .andExpect(jsonPath("$.products").value(1000))
+                .andExpect(jsonPath("$.pendingChanges").value(3));
+    }
+}
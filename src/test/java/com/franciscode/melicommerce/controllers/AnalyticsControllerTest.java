@@ -0,0 +1,68 @@
+package com.franciscode.melicommerce.controllers;
+
+import com.franciscode.melicommerce.dto.DailySalesDTO;
+import com.franciscode.melicommerce.dto.SalesSummaryDTO;
+import com.franciscode.melicommerce.services.SalesAnalyticsService;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class AnalyticsControllerTest {
+
+    @Mock
+    private SalesAnalyticsService service;
+
+    @InjectMocks
+    private AnalyticsController controller;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void findByProduct_shouldReturnSummary() throws Exception {
+        when(service.findByProduct(3L)).thenReturn(new SalesSummaryDTO(3L, 2L, 2500.0));
+
+        mockMvc.perform(get("/analytics/products/{id}", 3L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.unitsSold").value(2))
+                .andExpect(jsonPath("$.revenue").value(2500.0));
+    }
+
+    @Test
+    void findDaily_shouldUseDaysParameter() throws Exception {
+        when(service.findDaily(7)).thenReturn(List.of(new DailySalesDTO(LocalDate.of(2025, 1, 1), 1L, 10.0)));
+
+        mockMvc.perform(get("/analytics/daily").param("days", "7"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", Matchers.hasSize(1)));
+
+        verify(service, times(1)).findDaily(7);
+    }
+
+    @Test
+    void rebuild_shouldReturnNoContent() throws Exception {
+        mockMvc.perform(post("/analytics/rebuild"))
+                .andExpect(status().isNoContent());
+
+        verify(service, times(1)).rebuild();
+    }
+}
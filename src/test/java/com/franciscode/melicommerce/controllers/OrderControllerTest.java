@@ -0,0 +1,121 @@
+package com.franciscode.melicommerce.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.franciscode.melicommerce.dto.OrderDTO;
+import com.franciscode.melicommerce.dto.OrderItemDTO;
+import com.franciscode.melicommerce.dto.OrderStatusBatchDTO;
+import com.franciscode.melicommerce.dto.OrderStatusDTO;
+import com.franciscode.melicommerce.entities.OrderStatus;
+import com.franciscode.melicommerce.services.OrderQueueService;
+import com.franciscode.melicommerce.services.OrderService;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderControllerTest {
+
+    @Mock
+    private OrderService service;
+
+    @Mock
+    private OrderQueueService queueService;
+
+    @InjectMocks
+    private OrderController controller;
+
+    private MockMvc mockMvc;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() {
+        LocalValidatorFactoryBean validator = new LocalValidatorFactoryBean();
+        validator.afterPropertiesSet();
+
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setValidator(validator)
+                .build();
+    }
+
+    @Test
+    void insert_shouldReturnCreatedWithLocation() throws Exception {
+        OrderDTO input = new OrderDTO(null, null, null, 1L, List.of(new OrderItemDTO(3L, null, null, 2)));
+        OrderDTO created = new OrderDTO(4L, Instant.parse("2025-01-01T10:00:00Z"), OrderStatus.WAITING_PAYMENT, 1L,
+                List.of(new OrderItemDTO(3L, "Macbook Pro", 1250.0, 2)));
+
+        when(service.insert(any(OrderDTO.class))).thenReturn(created);
+
+        mockMvc.perform(post("/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(input)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Location", Matchers.containsString("/orders/4")))
+                .andExpect(jsonPath("$.status").value("WAITING_PAYMENT"))
+                .andExpect(jsonPath("$.total").value(2500.0));
+    }
+
+    @Test
+    void insert_withoutItems_shouldReturn400() throws Exception {
+        OrderDTO invalid = new OrderDTO(null, null, null, 1L, List.of());
+
+        mockMvc.perform(post("/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(invalid)))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(service);
+    }
+
+    @Test
+    void updateStatus_shouldReturnUpdatedOrder() throws Exception {
+        OrderDTO updated = new OrderDTO(1L, Instant.parse("2025-01-01T10:00:00Z"), OrderStatus.SHIPPED, 1L, List.of());
+        when(service.updateStatus(1L, OrderStatus.SHIPPED)).thenReturn(updated);
+
+        mockMvc.perform(put("/orders/{id}/status", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new OrderStatusDTO(OrderStatus.SHIPPED))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("SHIPPED"));
+    }
+
+    @Test
+    void updateStatusBatch_shouldReturnNoContent() throws Exception {
+        OrderStatusBatchDTO batch = new OrderStatusBatchDTO(List.of(1L, 2L), OrderStatus.SHIPPED);
+
+        mockMvc.perform(post("/orders/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isNoContent());
+
+        verify(service, times(1)).updateStatus(eq(List.of(1L, 2L)), eq(OrderStatus.SHIPPED));
+    }
+
+    @Test
+    void poll_shouldReturnClaimedOrderIds() throws Exception {
+        when(queueService.poll(OrderStatus.PAID, 2)).thenReturn(List.of(1L, 3L));
+
+        mockMvc.perform(post("/orders/queues/{status}/poll", "PAID").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", Matchers.hasSize(2)))
+                .andExpect(jsonPath("$[1]").value(3));
+    }
+}
@@ -2,7 +2,10 @@ package com.franciscode.melicommerce.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.franciscode.melicommerce.dto.ProductDTO;
+import com.franciscode.melicommerce.dto.RelatedProductDTO;
 import com.franciscode.melicommerce.services.ProductService;
+import com.franciscode.melicommerce.services.RankingService;
+import com.franciscode.melicommerce.services.RecommendationService;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,17 +13,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import tools.jackson.dataformat.cbor.CBORMapper;
 
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -34,6 +36,12 @@ class ProductControllerTest {
     @Mock
     private ProductService service;
 
+    @Mock
+    private RecommendationService recommendationService;
+
+    @Mock
+    private RankingService rankingService;
+
     @InjectMocks
     private ProductController controller;
 
@@ -56,66 +64,6 @@ class ProductControllerTest {
                 .build();
     }
 
-    @Test
-    void compareProducts_shouldReturnListAndStatus200() throws Exception {
-        List<ProductDTO> expected = List.of(
-                new ProductDTO(1L, "A", "Desc A long enough", 10.0, "http://img/a", 4.5, "specs"),
-                new ProductDTO(2L, "B", "Desc B long enough", 20.0, "http://img/b", 4.0, "specs")
-        );
-
-        when(service.compareProductsByIds("1,2")).thenReturn(expected);
-
-        mockMvc.perform(get("/products/compare").param("ids", "1,2"))
-                .andDo(print())
-                .andExpect(status().isOk())
-                .andExpect(content().json(objectMapper.writeValueAsString(expected)));
-
-        verify(service, times(1)).compareProductsByIds("1,2");
-        verifyNoMoreInteractions(service);
-    }
-
-    @Test
-    void findById_shouldReturnProductAndStatus200() throws Exception {
-        ProductDTO dto = new ProductDTO(3L, "Macbook Pro", "Description long enough", 1250.0,
-                "http://img/3", 4.8, "Apple M1");
-
-        when(service.findById(3L)).thenReturn(dto);
-
-        mockMvc.perform(get("/products/{id}", 3L))
-                .andDo(print())
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id").value(3))
-                .andExpect(jsonPath("$.name").value("Macbook Pro"))
-                .andExpect(jsonPath("$.price").value(1250.0));
-
-        verify(service, times(1)).findById(3L);
-        verifyNoMoreInteractions(service);
-    }
-
-    @Test
-    void findAll_shouldReturnPageAndStatus200() throws Exception {
-        ProductDTO p1 = new ProductDTO(1L, "P1", "Desc1 long enough", 10.0, "url1", 4.0, "s1");
-        ProductDTO p2 = new ProductDTO(2L, "P2", "Desc2 long enough", 20.0, "url2", 4.1, "s2");
-
-        Pageable pageable = PageRequest.of(0, 2);
-        PageImpl<ProductDTO> page = new PageImpl<>(List.of(p1, p2), pageable, 2L);
-
-        when(service.findAll(any(Pageable.class))).thenReturn(page);
-
-        mockMvc.perform(get("/products")
-                        .param("page", "0")
-                        .param("size", "2")
-                        .param("sort", "price,asc"))
-                .andDo(print())
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$.content", Matchers.hasSize(2)))
-                .andExpect(jsonPath("$.content[0].name").value("P1"))
-                .andExpect(jsonPath("$.content[1].name").value("P2"));
-
-        verify(service, times(1)).findAll(any(Pageable.class));
-        verifyNoMoreInteractions(service);
-    }
-
     @Test
     void insert_shouldReturnCreated_withLocation_andBody() throws Exception {
         ProductDTO input = new ProductDTO(null, "New Product", "Description long enough", 199.99,
@@ -138,6 +86,31 @@ class ProductControllerTest {
         verifyNoMoreInteractions(service);
     }
 
+    @Test
+    void insert_withCborPayload_shouldAnswerInCbor() throws Exception {
+        CBORMapper cborMapper = new CBORMapper();
+        ProductDTO input = new ProductDTO(null, "New Product", "Description long enough", 199.99,
+                "http://img/new", 4.2, "specs");
+        ProductDTO created = new ProductDTO(10L, input.getName(), input.getDescription(), input.getPrice(),
+                input.getImgUrl(), input.getRating(), input.getSpecifications());
+
+        when(service.insert(any(ProductDTO.class))).thenReturn(created);
+
+        byte[] body = mockMvc.perform(post("/products")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cborMapper.writeValueAsBytes(input)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        ProductDTO result = cborMapper.readValue(body, ProductDTO.class);
+        assertEquals(10L, result.getId());
+        assertEquals("New Product", result.getName());
+        assertEquals(199.99, result.getPrice());
+        verify(service, times(1)).insert(any(ProductDTO.class));
+    }
+
     @Test
     void insert_withInvalidPayload_shouldReturn400() throws Exception {
         ProductDTO invalid = new ProductDTO(null, "A", "short", -5.0, null, null, null);
@@ -183,4 +156,39 @@ class ProductControllerTest {
         verify(service, times(1)).delete(7L);
         verifyNoMoreInteractions(service);
     }
-}
\ No newline at end of file
+
+    @Test
+    void findRelated_shouldReturnRelatedProductsAndStatus200() throws Exception {
+        when(recommendationService.findRelated(1L, 2)).thenReturn(List.of(
+                new RelatedProductDTO(3L, 5), new RelatedProductDTO(4L, 2)));
+
+        mockMvc.perform(get("/products/{id}/related", 1L).param("limit", "2"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", Matchers.hasSize(2)))
+                .andExpect(jsonPath("$[0].productId").value(3))
+                .andExpect(jsonPath("$[0].score").value(5));
+
+        verify(recommendationService, times(1)).findRelated(1L, 2);
+        verifyNoInteractions(service);
+    }
+
+    @Test
+    void findTop_shouldPassCriterionCategoryAndLimit() throws Exception {
+        ProductDTO p1 = new ProductDTO(25L, "PC Gamer Foo", "Desc long enough", 4170.0, "url", 5.0, "s");
+
+        when(rankingService.findTop("rating", 3L, 1)).thenReturn(List.of(p1));
+
+        mockMvc.perform(get("/products/top")
+                        .param("by", "rating")
+                        .param("category", "3")
+                        .param("limit", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", Matchers.hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(25));
+
+        verify(rankingService, times(1)).findTop("rating", 3L, 1);
+        verifyNoInteractions(service);
+    }
+}
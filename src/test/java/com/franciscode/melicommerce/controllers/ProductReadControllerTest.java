@@ -0,0 +1,212 @@
+package com.franciscode.melicommerce.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.franciscode.melicommerce.config.ProductJsonHttpMessageConverter;
+import com.franciscode.melicommerce.dto.ProductDTO;
+import com.franciscode.melicommerce.dto.ProductField;
+import com.franciscode.melicommerce.dto.ProductSummaryDTO;
+import com.franciscode.melicommerce.dto.SparseProductDTO;
+import com.franciscode.melicommerce.services.ProductService;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductReadControllerTest {
+
+    @Mock
+    private ProductService service;
+
+    @InjectMocks
+    private ProductReadController controller;
+
+    private MockMvc mockMvc;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() {
+        PageableHandlerMethodArgumentResolver pageableResolver = new PageableHandlerMethodArgumentResolver();
+
+        objectMapper.findAndRegisterModules();
+
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setCustomArgumentResolvers(pageableResolver)
+                .setMessageConverters(new ProductJsonHttpMessageConverter(1), new JacksonJsonHttpMessageConverter(),
+                        new JacksonCborHttpMessageConverter())
+                .build();
+    }
+
+    @Test
+    void compareProducts_shouldReturnListAndStatus200() throws Exception {
+        List<ProductDTO> expected = List.of(
+                new ProductDTO(1L, "A", "Desc A long enough", 10.0, "http://img/a", 4.5, "specs"),
+                new ProductDTO(2L, "B", "Desc B long enough", 20.0, "http://img/b", 4.0, "specs")
+        );
+
+        when(service.compareProductsByIds("1,2")).thenReturn(expected);
+
+        mockMvc.perform(get("/products/compare").param("ids", "1,2"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(expected)));
+
+        verify(service, times(1)).compareProductsByIds("1,2");
+        verifyNoMoreInteractions(service);
+    }
+
+    @Test
+    void compareProducts_withCborAccept_shouldReturnSameProductsInCbor() throws Exception {
+        List<ProductDTO> expected = List.of(
+                new ProductDTO(1L, "A", "Desc A long enough", 10.0, "http://img/a", 4.5, "specs"),
+                new ProductDTO(2L, "B", "Desc B long enough", 20.0, "http://img/b", 4.0, "specs")
+        );
+
+        when(service.compareProductsByIds("1,2")).thenReturn(expected);
+
+        byte[] body = mockMvc.perform(get("/products/compare").param("ids", "1,2").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        List<ProductDTO> products = new CBORMapper().readValue(body, new TypeReference<List<ProductDTO>>() {
+        });
+        assertEquals(2, products.size());
+        assertEquals("B", products.get(1).getName());
+        assertEquals(20.0, products.get(1).getPrice());
+    }
+
+    @Test
+    void findAll_withoutAccept_shouldKeepJson() throws Exception {
+        when(service.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 2), 0L));
+
+        mockMvc.perform(get("/products"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.page.totalElements").value(0));
+    }
+
+    @Test
+    void findById_shouldReturnProductAndStatus200() throws Exception {
+        ProductDTO dto = new ProductDTO(3L, "Macbook Pro", "Description long enough", 1250.0,
+                "http://img/3", 4.8, "Apple M1");
+
+        when(service.findById(3L)).thenReturn(dto);
+
+        mockMvc.perform(get("/products/{id}", 3L))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(3))
+                .andExpect(jsonPath("$.name").value("Macbook Pro"))
+                .andExpect(jsonPath("$.price").value(1250.0));
+
+        verify(service, times(1)).findById(3L);
+        verifyNoMoreInteractions(service);
+    }
+
+    @Test
+    void findAll_shouldReturnPageAndStatus200() throws Exception {
+        ProductSummaryDTO p1 = new ProductSummaryDTO(1L, "P1", 10.0, "url1", 4.0);
+        ProductSummaryDTO p2 = new ProductSummaryDTO(2L, "P2", 20.0, "url2", 4.1);
+
+        Pageable pageable = PageRequest.of(0, 2);
+        PageImpl<ProductSummaryDTO> page = new PageImpl<>(List.of(p1, p2), pageable, 2L);
+
+        when(service.findAll(any(Pageable.class))).thenReturn(page);
+
+        mockMvc.perform(get("/products")
+                        .param("page", "0")
+                        .param("size", "2")
+                        .param("sort", "price,asc"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", Matchers.hasSize(2)))
+                .andExpect(jsonPath("$.content[0].name").value("P1"))
+                .andExpect(jsonPath("$.content[1].name").value("P2"))
+                .andExpect(jsonPath("$.content[0].description").doesNotExist())
+                .andExpect(jsonPath("$.page.number").value(0))
+                .andExpect(jsonPath("$.page.size").value(2))
+                .andExpect(jsonPath("$.page.totalElements").value(2))
+                .andExpect(jsonPath("$.page.totalPages").value(1))
+                .andExpect(jsonPath("$.pageable").doesNotExist())
+                .andExpect(jsonPath("$.sort").doesNotExist());
+
+        verify(service, times(1)).findAll(any(Pageable.class));
+        verifyNoMoreInteractions(service);
+    }
+
+    @Test
+    void findById_withFields_shouldWriteOnlyRequestedFields() throws Exception {
+        ProductDTO dto = new ProductDTO(3L, "Macbook Pro", null, 1250.0, null, null, null);
+        when(service.findById(3L, "id,name,price"))
+                .thenReturn(new SparseProductDTO(dto, EnumSet.of(ProductField.ID, ProductField.NAME, ProductField.PRICE)));
+
+        mockMvc.perform(get("/products/{id}", 3L).param("fields", "id,name,price"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("{\"id\":3,\"name\":\"Macbook Pro\",\"price\":1250.0}"));
+
+        verify(service, times(1)).findById(3L, "id,name,price");
+        verifyNoMoreInteractions(service);
+    }
+
+    @Test
+    void findAll_withFields_shouldReturnSparsePage() throws Exception {
+        Pageable pageable = PageRequest.of(0, 2);
+        SparseProductDTO p1 = new SparseProductDTO(new ProductDTO(1L, null, null, null, "url1", null, null),
+                EnumSet.of(ProductField.ID, ProductField.IMG_URL));
+        when(service.findAll(any(Pageable.class), eq("id,imgUrl")))
+                .thenReturn(new PageImpl<>(List.of(p1), pageable, 1L));
+
+        mockMvc.perform(get("/products").param("fields", "id,imgUrl"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.content[0].imgUrl").value("url1"))
+                .andExpect(jsonPath("$.content[0].name").doesNotExist())
+                .andExpect(jsonPath("$.page.totalElements").value(1));
+
+        verify(service, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void compareProducts_withFieldsAndCborAccept_shouldReturnSparseCbor() throws Exception {
+        SparseProductDTO p1 = new SparseProductDTO(new ProductDTO(null, "A", null, 10.0, null, null, null),
+                EnumSet.of(ProductField.NAME, ProductField.PRICE));
+        when(service.compareProductsByIds("1", "name,price")).thenReturn(List.of(p1));
+
+        byte[] body = mockMvc.perform(get("/products/compare").param("ids", "1").param("fields", "name,price")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        List<Map<String, Object>> products = new CBORMapper().readValue(body, new TypeReference<List<Map<String, Object>>>() {
+        });
+        assertEquals(List.of(Map.of("name", "A", "price", 10.0)), products);
+    }
+}
@@ -0,0 +1,129 @@
+package com.franciscode.melicommerce.controllers;
+
+import com.franciscode.melicommerce.controllers.handlers.ControllerExceptionHandler;
+import com.franciscode.melicommerce.dto.ProductDTO;
+import com.franciscode.melicommerce.dto.ProductField;
+import com.franciscode.melicommerce.dto.ProductSummaryDTO;
+import com.franciscode.melicommerce.dto.SparseProductDTO;
+import com.franciscode.melicommerce.services.ReactiveProductService;
+import com.franciscode.melicommerce.services.exceptions.ResourceNotFoundException;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveProductReadControllerTest {
+
+    @Mock
+    private ReactiveProductService service;
+
+    @InjectMocks
+    private ReactiveProductReadController controller;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new ControllerExceptionHandler())
+                .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
+                .build();
+    }
+
+    @Test
+    void findById_shouldReturnProductAsynchronously() throws Exception {
+        ProductDTO dto = new ProductDTO(3L, "Macbook Pro", "Description long enough", 1250.0,
+                "http://img/3", 4.8, "Apple M1");
+        when(service.findById(3L)).thenReturn(Mono.just(dto));
+
+        MvcResult result = mockMvc.perform(get("/products/{id}", 3L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(3))
+                .andExpect(jsonPath("$.name").value("Macbook Pro"));
+    }
+
+    @Test
+    void findById_withFields_shouldReturnOnlyRequestedFields() throws Exception {
+        ProductDTO dto = new ProductDTO(3L, null, null, 1250.0, null, null, null);
+        when(service.findById(3L, "id,price"))
+                .thenReturn(Mono.just(new SparseProductDTO(dto, EnumSet.of(ProductField.ID, ProductField.PRICE))));
+
+        MvcResult result = mockMvc.perform(get("/products/{id}", 3L).param("fields", "id,price"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(3))
+                .andExpect(jsonPath("$.price").value(1250.0))
+                .andExpect(jsonPath("$.name").doesNotExist());
+    }
+
+    @Test
+    void findById_whenMissing_shouldReturn404() throws Exception {
+        when(service.findById(99L)).thenReturn(Mono.error(new ResourceNotFoundException("Recurso não encontrado")));
+
+        MvcResult result = mockMvc.perform(get("/products/{id}", 99L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Recurso não encontrado"));
+    }
+
+    @Test
+    void findAll_shouldReturnPage() throws Exception {
+        ProductSummaryDTO p1 = new ProductSummaryDTO(1L, "P1", 10.0, "url1", 4.0);
+        when(service.findAll(any(Pageable.class)))
+                .thenReturn(Mono.just(new PageImpl<>(List.of(p1), PageRequest.of(0, 1), 25L)));
+
+        MvcResult result = mockMvc.perform(get("/products").param("size", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", Matchers.hasSize(1)))
+                .andExpect(jsonPath("$.content[0].name").value("P1"));
+    }
+
+    @Test
+    void compareProducts_shouldReturnList() throws Exception {
+        ProductDTO p1 = new ProductDTO(1L, "A", "Desc A long enough", 10.0, "http://img/a", 4.5, "specs");
+        when(service.compareProductsByIds("1,2")).thenReturn(Mono.just(List.of(p1)));
+
+        MvcResult result = mockMvc.perform(get("/products/compare").param("ids", "1,2"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1));
+    }
+}
@@ -0,0 +1,61 @@
+package com.franciscode.melicommerce.controllers;
+
+import com.franciscode.melicommerce.controllers.handlers.ControllerExceptionHandler;
+import com.franciscode.melicommerce.dto.OrderSummaryDTO;
+import com.franciscode.melicommerce.entities.OrderStatus;
+import com.franciscode.melicommerce.services.OrderHistoryService;
+import com.franciscode.melicommerce.services.exceptions.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserControllerTest {
+
+    @Mock
+    private OrderHistoryService orderHistoryService;
+
+    @InjectMocks
+    private UserController controller;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new ControllerExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void findOrders_shouldReturnClientOrders() throws Exception {
+        when(orderHistoryService.findByClient(7L, 5)).thenReturn(List.of(
+                new OrderSummaryDTO(3L, 7L, Instant.parse("2024-01-01T10:00:00Z"), OrderStatus.PAID, 2L, 35.0)));
+
+        mockMvc.perform(get("/users/7/orders").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(3))
+                .andExpect(jsonPath("$[0].status").value("PAID"))
+                .andExpect(jsonPath("$[0].total").value(35.0));
+    }
+
+    @Test
+    void findOrders_unknownClient_shouldReturnNotFound() throws Exception {
+        when(orderHistoryService.findByClient(99L, 20)).thenThrow(new ResourceNotFoundException("Cliente não encontrado"));
+
+        mockMvc.perform(get("/users/99/orders"))
+                .andExpect(status().isNotFound());
+    }
+}
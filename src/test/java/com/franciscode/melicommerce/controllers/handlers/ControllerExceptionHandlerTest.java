@@ -1,5 +1,6 @@
 package com.franciscode.melicommerce.controllers.handlers;
 
+import com.franciscode.melicommerce.controllers.OrderController;
 import com.franciscode.melicommerce.dto.CustomError;
 import com.franciscode.melicommerce.services.exceptions.BadRequestException;
 import com.franciscode.melicommerce.services.exceptions.DatabaseException;
@@ -10,7 +11,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.core.MethodParameter;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.time.Instant;
 
@@ -114,4 +119,42 @@ class ControllerExceptionHandlerTest {
         assertFalse(body.getTimestamp().isBefore(before));
         assertFalse(body.getTimestamp().isAfter(after));
     }
-}
\ No newline at end of file
+
+    @Test
+    void argumentTypeMismatch_shouldReturn400AndCountTheError() throws NoSuchMethodException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ReflectionTestUtils.setField(handler, "meterRegistry", registry);
+        when(request.getRequestURI()).thenReturn("/orders/abc");
+        MethodParameter parameter = new MethodParameter(OrderController.class.getMethod("findById", Long.class), 0);
+        MethodArgumentTypeMismatchException ex = new MethodArgumentTypeMismatchException("abc", Long.class, "id", parameter,
+                new NumberFormatException("For input string: \"abc\""));
+
+        ResponseEntity<CustomError> response = handler.argumentTypeMismatch(ex, request);
+
+        assertEquals(400, response.getStatusCode().value());
+        CustomError body = response.getBody();
+        assertNotNull(body);
+        assertEquals(400, body.getStatus());
+        assertEquals("Valor inválido para o parâmetro 'id': 'abc'.", body.getError());
+        assertEquals("/orders/abc", body.getPath());
+        assertEquals(1, registry.get(ControllerExceptionHandler.METRIC)
+                .tags("exception", "MethodArgumentTypeMismatchException", "status", "400").counter().count());
+    }
+
+    @Test
+    void handlers_shouldCountErrorsPerExceptionType() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ReflectionTestUtils.setField(handler, "meterRegistry", registry);
+        when(request.getRequestURI()).thenReturn("/products/999");
+
+        handler.resourceNotFound(new ResourceNotFoundException("Recurso não encontrado"), request);
+        handler.resourceNotFound(new ResourceNotFoundException("Recurso não encontrado"), request);
+        handler.badRequest(new BadRequestException("ID inválido"), request);
+
+        assertEquals(2, registry.get(ControllerExceptionHandler.METRIC)
+                .tags("exception", "ResourceNotFoundException", "status", "404").counter().count());
+        assertEquals(1, registry.get(ControllerExceptionHandler.METRIC)
+                .tags("exception", "BadRequestException", "status", "400").counter().count());
+        assertNull(registry.find(ControllerExceptionHandler.METRIC).tag("exception", "DatabaseException").counter());
+    }
+}
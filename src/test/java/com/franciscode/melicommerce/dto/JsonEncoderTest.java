@@ -0,0 +1,62 @@
+package com.franciscode.melicommerce.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonEncoderTest {
+
+    private final JsonEncoder json = new JsonEncoder(JsonEncoder.MIN_CAPACITY);
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    @Test
+    void writeUtf8String_shouldEscapeLikeWriteStringAcrossBufferBoundaries() throws IOException {
+        String value = "início \"citação\" \\ " + "ç".repeat(40) + "\n\t\u0001 fim";
+
+        String fromString = encode(() -> json.writeString(value));
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        String fromUtf8 = encode(() -> json.writeUtf8String(ByteBuffer.wrap(utf8), 0, utf8.length));
+
+        assertEquals(fromString, fromUtf8);
+        assertTrue(fromUtf8.startsWith("\"início \\\"citação\\\" \\\\ "));
+        assertTrue(fromUtf8.endsWith("\\n\\t\\u0001 fim\""));
+    }
+
+    @Test
+    void writeDouble_shouldUsePlainFormatForCentsAndQuoteNonFiniteValues() throws IOException {
+        assertEquals("10.0,0.1,-3.25,1.0E7,\"NaN\",null", encode(() -> {
+            json.writeDouble(10.0);
+            json.writeByte(',');
+            json.writeDouble(0.1);
+            json.writeByte(',');
+            json.writeDouble(-3.25);
+            json.writeByte(',');
+            json.writeDouble(1.0E7);
+            json.writeByte(',');
+            json.writeDouble(Double.NaN);
+            json.writeByte(',');
+            json.writeDouble(null);
+        }));
+    }
+
+    private String encode(Body body) throws IOException {
+        out.reset();
+        json.attach(out);
+        try {
+            body.write();
+            json.flush();
+        } finally {
+            json.detach();
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private interface Body {
+        void write() throws IOException;
+    }
+}
@@ -0,0 +1,140 @@
+package com.franciscode.melicommerce.dto;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductJsonWriterTest {
+
+    private final JsonMapper mapper = JsonMapper.builder().build();
+    private final ProductJsonWriter writer = new ProductJsonWriter();
+
+    @Test
+    void writeProduct_shouldMatchJacksonOutput() throws IOException {
+        ProductDTO product = new ProductDTO(7L, "Cadeira \"Gamer\" ação 🎮", "Linha 1\nLinha 2\t\\ fim\u0001",
+                1250.0, null, 4.75, "Peso: 12kg; Ø 60cm");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        writer.write(product, out);
+
+        assertEquals(mapper.writeValueAsString(product), out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void writeProducts_shouldMatchJacksonForNumbersAndNulls() throws IOException {
+        List<ProductDTO> products = List.of(
+                new ProductDTO(1L, "A", "d", -3.0, "i", 0.0, null),
+                new ProductDTO(2L, "B", "d", 0.1, "i", -0.0, "s"),
+                new ProductDTO(3L, "C", "d", 1.0E7, "i", 123456.789, "s"),
+                new ProductDTO(4L, "D", "d", 20.55, "i", -0.5, "s"),
+                new ProductDTO(5L, "E", "d", 9999999.99, "i", 0.01, "s"),
+                new ProductDTO(6L, "F", "d", 0.001, "i", Double.NaN, "s"),
+                new ProductDTO(null, null, null, null, null, null, null));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        writer.write(products, out);
+
+        assertEquals(mapper.writeValueAsString(products), out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void writeProduct_shouldMatchJacksonForRandomPrices() throws IOException {
+        Random random = new Random(42);
+        for (int i = 0; i < 5_000; i++) {
+            double cents = Math.round(random.nextDouble() * 1e9) / 100.0;
+            ProductDTO product = new ProductDTO((long) i, "P", "d", cents, "i", random.nextDouble() * 5, "s");
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            writer.write(product, out);
+
+            assertEquals(mapper.writeValueAsString(product), out.toString(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void writePage_shouldWriteContentAndPageMetadataOnly() throws IOException {
+        List<ProductSummaryDTO> content = List.of(
+                new ProductSummaryDTO(1L, "P1", 10.0, "url1", 4.0),
+                new ProductSummaryDTO(2L, "P2", 20.5, "url2", null));
+        ProductPageDTO<ProductSummaryDTO> page = new ProductPageDTO<>(new PageImpl<>(content, PageRequest.of(1, 2), 5L));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        writer.write(page, out);
+
+        String json = out.toString(StandardCharsets.UTF_8);
+        assertEquals(mapper.writeValueAsString(page), json);
+        assertEquals("{\"content\":[{\"id\":1,\"name\":\"P1\",\"price\":10.0,\"imgUrl\":\"url1\",\"rating\":4.0},"
+                + "{\"id\":2,\"name\":\"P2\",\"price\":20.5,\"imgUrl\":\"url2\",\"rating\":null}],"
+                + "\"page\":{\"number\":1,\"size\":2,\"totalElements\":5,\"totalPages\":3}}", json);
+    }
+
+    @Test
+    void writeSparse_shouldMatchJacksonAndKeepOnlySelectedFields() throws IOException {
+        ProductDTO product = new ProductDTO(7L, "Cadeira \"Gamer\"", "Descrição", 1250.5, null, 4.75, "s");
+        List<SparseProductDTO> products = List.of(
+                new SparseProductDTO(product, EnumSet.of(ProductField.ID, ProductField.IMG_URL, ProductField.PRICE)),
+                new SparseProductDTO(product, EnumSet.of(ProductField.NAME)),
+                new SparseProductDTO(product, EnumSet.allOf(ProductField.class)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        writer.write(products, out);
+
+        String json = out.toString(StandardCharsets.UTF_8);
+        assertEquals(mapper.writeValueAsString(products), json);
+        assertTrue(json.startsWith("[{\"id\":7,\"imgUrl\":null,\"price\":1250.5},{\"name\":\"Cadeira \\\"Gamer\\\"\"},"));
+        assertEquals(mapper.writeValueAsString(product), mapper.writeValueAsString(products.get(2)));
+    }
+
+    @Test
+    void writeError_shouldMatchJacksonOutput() throws IOException {
+        List<CustomError> errors = List.of(
+                new CustomError(Instant.parse("2026-10-18T23:56:22.255161664Z"), 404, "Recurso não encontrado", "/products/9"),
+                new CustomError(Instant.parse("2026-10-18T23:56:22Z"), 400, "Campo desconhecido em 'fields': '\"x'.", "/products"),
+                new CustomError(null, null, null, null));
+
+        for (CustomError error : errors) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            writer.write(error, out);
+
+            assertEquals(mapper.writeValueAsString(error), out.toString(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void writeProducts_whenLargerThanBuffer_shouldStreamInChunks() throws IOException {
+        List<ProductDTO> products = new ArrayList<>();
+        for (long id = 1; id <= 200; id++) {
+            products.add(new ProductDTO(id, "Produto " + id, "Descrição ".repeat(20), 10.0 + id, "img" + id, 4.5, "s"));
+        }
+        CountingOutputStream out = new CountingOutputStream();
+
+        writer.write(products, out);
+
+        assertEquals(mapper.writeValueAsString(products), out.toString(StandardCharsets.UTF_8));
+        assertTrue(out.writes > 1);
+    }
+
+    private static class CountingOutputStream extends ByteArrayOutputStream {
+
+        private int writes;
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            writes++;
+            super.write(b, off, len);
+        }
+    }
+}
@@ -153,6 +153,23 @@ class EntitiesTest {
         assertEquals("PAID", OrderStatus.PAID.name());
     }
 
+    @Test
+    void orderStatus_transitions() {
+        assertTrue(OrderStatus.WAITING_PAYMENT.canTransitionTo(OrderStatus.PAID));
+        assertTrue(OrderStatus.WAITING_PAYMENT.canTransitionTo(OrderStatus.CANCELED));
+        assertTrue(OrderStatus.PAID.canTransitionTo(OrderStatus.SHIPPED));
+        assertTrue(OrderStatus.SHIPPED.canTransitionTo(OrderStatus.DELIVERED));
+
+        assertFalse(OrderStatus.WAITING_PAYMENT.canTransitionTo(OrderStatus.SHIPPED));
+        assertFalse(OrderStatus.SHIPPED.canTransitionTo(OrderStatus.CANCELED));
+        for (OrderStatus target : OrderStatus.values()) {
+            assertFalse(OrderStatus.DELIVERED.canTransitionTo(target));
+            assertFalse(OrderStatus.CANCELED.canTransitionTo(target));
+        }
+        assertTrue(OrderStatus.CANCELED.isFinal());
+        assertFalse(OrderStatus.PAID.isFinal());
+    }
+
     @Test
     void payment_getters_setters_equals_hashCode() {
         Order order = new Order(3L, Instant.now(), OrderStatus.DELIVERED, null, null);
@@ -0,0 +1,79 @@
+package com.franciscode.melicommerce.jfr;
+
+import com.franciscode.melicommerce.entities.Product;
+import com.franciscode.melicommerce.repositories.ProductRepository;
+import com.franciscode.melicommerce.services.ProductService;
+import com.franciscode.melicommerce.services.exceptions.ResourceNotFoundException;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CatalogEventsTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void productService_shouldEmitOperationEventsWithIdsSizesAndOutcome() throws IOException {
+        ProductRepository repository = mock(ProductRepository.class);
+        ProductService service = new ProductService();
+        ReflectionTestUtils.setField(service, "repository", repository);
+        ReflectionTestUtils.setField(service, "transactionManager", mock(PlatformTransactionManager.class));
+        when(repository.findById(1L)).thenReturn(Optional.of(new Product(1L, "P1", "D1", 10.0, "url1", 4.0, "s1")));
+        when(repository.findById(99L)).thenReturn(Optional.empty());
+
+        List<RecordedEvent> events = record(List.of("melicommerce.ProductOperation"), () -> {
+            service.findById(1L);
+            assertThrows(ResourceNotFoundException.class, () -> service.findById(99L));
+        });
+
+        assertEquals(2, events.size());
+        RecordedEvent found = events.stream().filter(event -> event.getLong("productId") == 1L).findFirst().orElseThrow();
+        assertEquals("find", found.getString("operation"));
+        assertEquals(1, found.getInt("resultSize"));
+        assertEquals(ProductOperationEvent.DATABASE, found.getString("source"));
+        assertFalse(found.getBoolean("failed"));
+        assertFalse(found.getDuration().isNegative());
+        RecordedEvent missing = events.stream().filter(event -> event.getLong("productId") == 99L).findFirst().orElseThrow();
+        assertTrue(missing.getBoolean("failed"));
+    }
+
+    @Test
+    void catalogLookup_shouldOnlyBeRecordedWhenExplicitlyEnabled() throws IOException {
+        List<RecordedEvent> disabled = record(List.of(), () -> CatalogLookupEvent.start(7L).finish(true, false));
+        List<RecordedEvent> enabled = record(List.of("melicommerce.CatalogLookup"),
+                () -> CatalogLookupEvent.start(7L).finish(true, true));
+
+        assertTrue(disabled.isEmpty());
+        assertEquals(1, enabled.size());
+        assertEquals(7L, enabled.get(0).getLong("productId"));
+        assertTrue(enabled.get(0).getBoolean("hit"));
+        assertTrue(enabled.get(0).getBoolean("overlay"));
+    }
+
+    private List<RecordedEvent> record(List<String> enabledEvents, Runnable action) throws IOException {
+        Path file = dir.resolve("recording-" + System.nanoTime() + ".jfr");
+        try (Recording recording = new Recording()) {
+            enabledEvents.forEach(name -> recording.enable(name).withoutThreshold());
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().startsWith("melicommerce."))
+                .toList();
+    }
+}
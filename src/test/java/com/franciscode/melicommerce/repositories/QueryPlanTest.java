@@ -0,0 +1,63 @@
+package com.franciscode.melicommerce.repositories;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryPlanTest {
+
+    private static JdbcTemplate jdbc;
+
+    @BeforeAll
+    static void migrate() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:plans;DB_CLOSE_DELAY=-1", "sa", "");
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration", "classpath:db/seed")
+                .load()
+                .migrate();
+        jdbc = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    void productListing_sortedByNameOrPrice_shouldReadIndexInOrder() {
+        assertIndexUsed("SELECT id, name FROM tb_product ORDER BY name LIMIT 20", "IDX_PRODUCT_NAME");
+        assertIndexUsed("SELECT id, price FROM tb_product ORDER BY price DESC LIMIT 20", "IDX_PRODUCT_PRICE");
+        assertTrue(explain("SELECT id, name FROM tb_product ORDER BY name LIMIT 20").contains("index sorted"));
+    }
+
+    @Test
+    void ordersByClient_shouldUseClientMomentIndex() {
+        assertIndexUsed("SELECT id FROM tb_order WHERE client_id = 1 ORDER BY moment DESC", "IDX_ORDER_CLIENT_MOMENT");
+    }
+
+    @Test
+    void ordersByStatus_shouldUseStatusIndex() {
+        assertIndexUsed("SELECT id FROM tb_order WHERE status IN (1, 2, 3)", "IDX_ORDER_STATUS");
+    }
+
+    @Test
+    void orderItemsByProduct_shouldUseProductIndex() {
+        assertIndexUsed("SELECT order_id, quantity FROM tb_order_item WHERE product_id = 3", "IDX_ORDER_ITEM_PRODUCT");
+    }
+
+    @Test
+    void productCategoryLinks_shouldBeIndexedInBothDirections() {
+        assertIndexUsed("SELECT product_id FROM tb_product_category WHERE category_id = 2", "IDX_PRODUCT_CATEGORY_CATEGORY");
+        assertIndexUsed("SELECT category_id FROM tb_product_category WHERE product_id = 2", "PRIMARY_KEY");
+    }
+
+    private static void assertIndexUsed(String sql, String index) {
+        String plan = explain(sql);
+        assertTrue(plan.contains("PUBLIC." + index), () -> "Plano sem o índice " + index + ": " + plan);
+        assertFalse(plan.contains("tableScan"), () -> "Plano com table scan: " + plan);
+    }
+
+    private static String explain(String sql) {
+        return jdbc.queryForObject("EXPLAIN " + sql, String.class);
+    }
+}
@@ -0,0 +1,85 @@
+package com.franciscode.melicommerce.repositories.archive;
+
+import com.franciscode.melicommerce.entities.OrderStatus;
+import com.franciscode.melicommerce.services.events.OrderLine;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArchiveSegmentTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void write_thenOpen_shouldRoundTripEveryColumn() {
+        Instant moment = Instant.parse("2022-07-29T15:50:00.123456Z");
+        ArchivedOrder order = new ArchivedOrder(2L, 9L, moment, OrderStatus.DELIVERED, moment.plusSeconds(60),
+                List.of(new OrderLine(3L, 1, 1250.0), new OrderLine(1L, 4, 90.5)));
+        Path file = dir.resolve("one.arc");
+
+        ArchiveSegment.write(file, List.of(order), 16);
+        ArchiveSegment segment = ArchiveSegment.open(file);
+
+        assertEquals(1, segment.getOrderCount());
+        assertEquals(List.of(order), segment.findByClient(9L));
+        assertEquals(1612.0, segment.findByClient(9L).get(0).total(), 0.001);
+        assertEquals(2L, segment.firstOrderId());
+    }
+
+    @Test
+    void findByClient_shouldReturnMostRecentFirstAcrossRowGroups() {
+        List<ArchivedOrder> orders = new ArrayList<>();
+        for (long id = 1; id <= 200; id++) {
+            orders.add(order(id, id % 7, Instant.parse("2022-01-01T00:00:00Z").plusSeconds(id * 60)));
+        }
+        Path file = dir.resolve("many.arc");
+
+        ArchiveSegment.write(file, orders, 8);
+        ArchiveSegment segment = ArchiveSegment.open(file);
+
+        List<ArchivedOrder> client3 = segment.findByClient(3L);
+        assertEquals(orders.stream().filter(o -> o.clientId() == 3L).count(), client3.size());
+        for (int i = 1; i < client3.size(); i++) {
+            assertTrue(client3.get(i - 1).moment().isAfter(client3.get(i).moment()));
+        }
+        assertTrue(segment.findByClient(99L).isEmpty());
+
+        List<Long> scanned = new ArrayList<>();
+        segment.forEach(order -> scanned.add(order.id()));
+        assertEquals(200, scanned.size());
+    }
+
+    @Test
+    void write_shouldCompressRepetitiveColumns() {
+        List<ArchivedOrder> orders = new ArrayList<>();
+        for (long id = 1; id <= 5_000; id++) {
+            orders.add(order(id, id % 100, Instant.parse("2022-01-01T00:00:00Z").plusSeconds(id)));
+        }
+        Path file = dir.resolve("big.arc");
+
+        ArchiveSegment.write(file, orders, 1024);
+
+        long raw = 5_000L * (8 + 8 + 8 + 1 + 8 + 4 + 8 + 4 + 8);
+        assertTrue(ArchiveSegment.open(file).getSizeBytes() < raw / 2);
+    }
+
+    @Test
+    void open_shouldRejectFilesThatAreNotSegments() throws IOException {
+        Path file = Files.write(dir.resolve("junk.arc"), new byte[64]);
+
+        assertThrows(IllegalStateException.class, () -> ArchiveSegment.open(file));
+    }
+
+    private static ArchivedOrder order(long id, long clientId, Instant moment) {
+        return new ArchivedOrder(id, clientId, moment, OrderStatus.DELIVERED, null, List.of(new OrderLine(id % 10, 1, 10.0)));
+    }
+}
@@ -0,0 +1,75 @@
+package com.franciscode.melicommerce.repositories.archive;
+
+import com.franciscode.melicommerce.entities.OrderStatus;
+import com.franciscode.melicommerce.services.events.OrderLine;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderArchiveTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void write_shouldOnlyBeVisibleAfterPublish() {
+        OrderArchive archive = new OrderArchive(dir, 64);
+
+        Path pending = archive.write(List.of(order(1L, 5L)));
+        assertTrue(archive.findByClient(5L).isEmpty());
+
+        archive.publish(pending);
+        assertEquals(1, archive.findByClient(5L).size());
+        assertEquals(1, archive.getSegmentCount());
+        assertEquals(1L, archive.getOrderCount());
+    }
+
+    @Test
+    void discard_shouldRemovePendingSegment() {
+        OrderArchive archive = new OrderArchive(dir, 64);
+
+        Path pending = archive.write(List.of(order(1L, 5L)));
+        archive.discard(pending);
+
+        assertFalse(Files.exists(pending));
+        assertEquals(0, archive.getSegmentCount());
+    }
+
+    @Test
+    void reopen_shouldLoadPublishedSegmentsAndKeepSequence() {
+        OrderArchive first = new OrderArchive(dir, 64);
+        first.publish(first.write(List.of(order(1L, 5L))));
+        first.publish(first.write(List.of(order(2L, 5L))));
+
+        OrderArchive reopened = new OrderArchive(dir, 64);
+        reopened.publish(reopened.write(List.of(order(3L, 5L))));
+
+        assertEquals(3, reopened.getSegmentCount());
+        assertEquals(List.of(1L, 2L, 3L), reopened.findByClient(5L).stream().map(ArchivedOrder::id).sorted().toList());
+    }
+
+    @Test
+    void recover_shouldPublishCommittedAndDiscardRolledBackSegments() {
+        OrderArchive crashed = new OrderArchive(dir, 64);
+        crashed.write(List.of(order(1L, 5L)));
+        crashed.write(List.of(order(2L, 6L)));
+
+        OrderArchive restarted = new OrderArchive(dir, 64);
+        int published = restarted.recover(orderId -> orderId == 2L);
+
+        assertEquals(1, published);
+        assertEquals(1, restarted.findByClient(5L).size());
+        assertTrue(restarted.findByClient(6L).isEmpty());
+    }
+
+    private static ArchivedOrder order(long id, long clientId) {
+        return new ArchivedOrder(id, clientId, Instant.parse("2022-01-01T00:00:00Z").plusSeconds(id), OrderStatus.DELIVERED,
+                null, List.of(new OrderLine(1L, 1, 10.0)));
+    }
+}
@@ -0,0 +1,129 @@
+package com.franciscode.melicommerce.repositories.catalog;
+
+import com.franciscode.melicommerce.dto.CatalogProductDTO;
+import com.franciscode.melicommerce.dto.ProductDTO;
+import com.franciscode.melicommerce.dto.ProductJsonWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogSnapshotTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void write_thenOpen_shouldRoundTripProductsAndCategories() {
+        Path file = dir.resolve("catalog.snap");
+        Instant createdAt = Instant.parse("2026-01-10T12:00:00Z");
+        CatalogSnapshot.write(file, 17L, createdAt, List.of(
+                entry(new ProductDTO(9L, "Câmera", "Lente 50mm", 1200.5, "img9", 4.8, "spec"), 1L, 3L),
+                entry(new ProductDTO(2L, "Livro", null, null, null, null, null))));
+
+        CatalogSnapshot snapshot = CatalogSnapshot.open(file);
+
+        assertEquals(17L, snapshot.getVersion());
+        assertEquals(createdAt, snapshot.getCreatedAt());
+        assertEquals(2, snapshot.getProductCount());
+        CatalogEntry camera = snapshot.find(9L);
+        assertEquals("Câmera", camera.product().getName());
+        assertEquals(1200.5, camera.product().getPrice());
+        assertEquals(4.8, camera.product().getRating());
+        assertArrayEquals(new long[]{1L, 3L}, camera.categoryIds());
+        CatalogEntry book = snapshot.find(2L);
+        assertNull(book.product().getDescription());
+        assertNull(book.product().getPrice());
+        assertNull(book.product().getRating());
+        assertEquals(0, book.categoryIds().length);
+        assertNull(snapshot.find(5L));
+    }
+
+    @Test
+    void forEach_shouldVisitProductsInIdOrder() {
+        Path file = dir.resolve("catalog.snap");
+        List<CatalogEntry> entries = new ArrayList<>();
+        for (long id = 300; id > 0; id--) {
+            entries.add(entry(new ProductDTO(id, "P" + id, "D", (double) id, "img", 4.0, "s"), id % 7));
+        }
+        CatalogSnapshot.write(file, 1L, Instant.now(), entries);
+
+        List<Long> ids = new ArrayList<>();
+        CatalogSnapshot.open(file).forEach(entry -> ids.add(entry.product().getId()));
+
+        assertEquals(300, ids.size());
+        assertEquals(1L, ids.get(0));
+        assertEquals(300L, ids.get(299));
+        assertEquals("P150", CatalogSnapshot.open(file).find(150L).product().getName());
+    }
+
+    @Test
+    void find_shouldDecodeColumnsLazily() {
+        Path file = dir.resolve("catalog.snap");
+        CatalogSnapshot.write(file, 1L, Instant.now(), List.of(
+                entry(new ProductDTO(4L, "Mesa", "Madeira maciça", 300.0, "img4", null, null), 2L)));
+
+        ProductDTO product = CatalogSnapshot.open(file).find(4L).product();
+
+        assertInstanceOf(CatalogProductDTO.class, product);
+        assertEquals(4L, product.getId());
+        assertEquals("Madeira maciça", product.getDescription());
+        assertNull(product.getRating());
+        assertNull(product.getSpecifications());
+    }
+
+    @Test
+    void writeJson_shouldMatchJacksonOutput() throws IOException {
+        Path file = dir.resolve("catalog.snap");
+        ProductDTO product = new ProductDTO(7L, "Fone \"Pro\"", "Linha 1\nLinha 2\t\u0001 \\ ç", 99.9, null, 1.0E10, "");
+        CatalogSnapshot.write(file, 1L, Instant.now(), List.of(entry(product)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ((CatalogProductDTO) CatalogSnapshot.open(file).find(7L).product()).writeJson(out);
+
+        assertEquals(JsonMapper.builder().build().writeValueAsString(product), out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void productJsonWriter_shouldEncodeCatalogProductsLikePlainProducts() throws IOException {
+        Path file = dir.resolve("catalog.snap");
+        ProductDTO product = new ProductDTO(7L, "Cadeira \"Gamer\" ação 🎮", "x".repeat(20_000) + "\n\u0001",
+                1250.0, "img", 4.75, null);
+        CatalogSnapshot.write(file, 1L, Instant.now(), List.of(entry(product)));
+        ProductJsonWriter writer = new ProductJsonWriter();
+        ByteArrayOutputStream plain = new ByteArrayOutputStream();
+        ByteArrayOutputStream catalog = new ByteArrayOutputStream();
+
+        writer.write(List.of(product), plain);
+        writer.write(List.of(CatalogSnapshot.open(file).find(7L).product()), catalog);
+
+        assertEquals(plain.toString(StandardCharsets.UTF_8), catalog.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void open_whenFileIsCorrupt_shouldFail() throws IOException {
+        Path file = dir.resolve("catalog.snap");
+        CatalogSnapshot.write(file, 1L, Instant.now(), List.of(entry(new ProductDTO(1L, "P", "D", 1.0, "i", 4.0, "s"))));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{42}), 60);
+        }
+
+        assertThrows(IllegalStateException.class, () -> CatalogSnapshot.open(file));
+    }
+
+    private static CatalogEntry entry(ProductDTO product, long... categories) {
+        return new CatalogEntry(product, categories);
+    }
+}
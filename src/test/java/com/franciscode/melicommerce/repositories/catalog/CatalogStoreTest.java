@@ -0,0 +1,84 @@
+package com.franciscode.melicommerce.repositories.catalog;
+
+import com.franciscode.melicommerce.dto.ProductDTO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogStoreTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void find_shouldPreferOverlayOverSnapshot() {
+        CatalogStore store = new CatalogStore(dir, 2);
+        store.publish(3L, Instant.now(), List.of(entry(1L, "A"), entry(2L, "B")));
+
+        store.put(entry(2L, "B2"));
+        store.put(entry(4L, "D"));
+        store.remove(1L);
+
+        assertNull(store.find(1L));
+        assertEquals("B2", store.find(2L).product().getName());
+        assertEquals("D", store.find(4L).product().getName());
+        List<String> names = new ArrayList<>();
+        store.forEach(entry -> names.add(entry.product().getName()));
+        assertEquals(List.of("B2", "D"), names);
+        assertEquals(3, store.getOverlaySize());
+    }
+
+    @Test
+    void publish_shouldReplaceOverlayAndBeLoadedOnRestart() {
+        CatalogStore store = new CatalogStore(dir, 2);
+        store.publish(3L, Instant.now(), List.of(entry(1L, "A")));
+        store.put(entry(2L, "B"));
+        store.publish(5L, Instant.now(), List.of(entry(1L, "A"), entry(2L, "B")));
+
+        assertEquals(0, store.getOverlaySize());
+        CatalogStore restarted = new CatalogStore(dir, 2);
+        assertEquals(5L, restarted.getSnapshot().getVersion());
+        assertEquals("B", restarted.find(2L).product().getName());
+    }
+
+    @Test
+    void publish_shouldKeepOnlyLatestSnapshots() throws IOException {
+        CatalogStore store = new CatalogStore(dir, 2);
+        for (long version = 1; version <= 4; version++) {
+            store.publish(version, Instant.now(), List.of(entry(1L, "A" + version)));
+        }
+
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(2, files.count());
+        }
+        assertEquals("A4", store.find(1L).product().getName());
+    }
+
+    @Test
+    void open_whenLatestSnapshotIsCorrupt_shouldFallBackToPreviousOne() throws IOException {
+        CatalogStore store = new CatalogStore(dir, 2);
+        store.publish(1L, Instant.now(), List.of(entry(1L, "old")));
+        Path latest = store.publish(2L, Instant.now(), List.of(entry(1L, "new"))).getFile();
+        Files.write(latest, new byte[]{1, 2, 3});
+        Files.write(dir.resolve(latest.getFileName() + ".tmp"), new byte[]{1});
+
+        CatalogStore restarted = new CatalogStore(dir, 2);
+
+        assertEquals(1L, restarted.getSnapshot().getVersion());
+        assertEquals("old", restarted.find(1L).product().getName());
+        assertFalse(Files.exists(dir.resolve(latest.getFileName() + ".tmp")));
+    }
+
+    private static CatalogEntry entry(long id, String name) {
+        return new CatalogEntry(new ProductDTO(id, name, "desc", 10.0, "img", 4.0, "spec"), new long[]{1L});
+    }
+}
@@ -0,0 +1,56 @@
+package com.franciscode.melicommerce.repositories.sharding;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardRouterTest {
+
+    @Test
+    void shardFor_shouldBeDeterministicAndInRange() {
+        ShardRouter router = new ShardRouter(4, 64);
+        ShardRouter same = new ShardRouter(4, 64);
+
+        for (long clientId = 1; clientId <= 1_000; clientId++) {
+            int shard = router.shardFor(clientId);
+            assertTrue(shard >= 0 && shard < 4);
+            assertEquals(shard, same.shardFor(clientId));
+        }
+    }
+
+    @Test
+    void shardFor_shouldSpreadClientsAcrossShards() {
+        ShardRouter router = new ShardRouter(4, 64);
+        int[] counts = new int[4];
+        for (long clientId = 1; clientId <= 10_000; clientId++) {
+            counts[router.shardFor(clientId)]++;
+        }
+
+        for (int count : counts) {
+            assertTrue(count > 1_500 && count < 3_500, "distribuição desbalanceada: " + count);
+        }
+    }
+
+    @Test
+    void addingShard_shouldOnlyMoveClientsToTheNewShard() {
+        ShardRouter four = new ShardRouter(4, 64);
+        ShardRouter five = new ShardRouter(5, 64);
+        int moved = 0;
+        for (long clientId = 1; clientId <= 10_000; clientId++) {
+            int before = four.shardFor(clientId);
+            int after = five.shardFor(clientId);
+            if (before != after) {
+                assertEquals(4, after);
+                moved++;
+            }
+        }
+
+        assertTrue(moved > 1_000 && moved < 3_000, "clientes movidos: " + moved);
+    }
+
+    @Test
+    void constructor_shouldRejectNonPositiveSizes() {
+        assertThrows(IllegalArgumentException.class, () -> new ShardRouter(0, 64));
+        assertThrows(IllegalArgumentException.class, () -> new ShardRouter(2, 0));
+    }
+}
@@ -0,0 +1,223 @@
+package com.franciscode.melicommerce.repositories.sharding;
+
+import com.franciscode.melicommerce.dto.OrderSummaryDTO;
+import com.franciscode.melicommerce.entities.OrderStatus;
+import com.franciscode.melicommerce.projections.SaleLineProjection;
+import com.franciscode.melicommerce.services.events.OrderLine;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardedOrderRepositoryTest {
+
+    private final List<DataSource> dataSources = new ArrayList<>();
+    private ShardRouter router;
+    private ShardedOrderRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 3; i++) {
+            DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:shard-test-" + i + ";DB_CLOSE_DELAY=-1", "sa", "");
+            Flyway.configure().dataSource(dataSource).locations("classpath:db/shard").cleanDisabled(false).load().clean();
+            Flyway.configure().dataSource(dataSource).locations("classpath:db/shard").load().migrate();
+            dataSources.add(dataSource);
+        }
+        router = new ShardRouter(3, 32);
+        repository = new ShardedOrderRepository(dataSources, router, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        repository.close();
+    }
+
+    @Test
+    void insert_shouldStoreOrderOnlyInTheClientShard() {
+        repository.insert(order(1L, 7L, "2024-01-01T10:00:00Z", OrderStatus.WAITING_PAYMENT));
+
+        int shard = router.shardFor(7L);
+        for (int i = 0; i < dataSources.size(); i++) {
+            Long count = new JdbcTemplate(dataSources.get(i)).queryForObject("SELECT COUNT(*) FROM tb_order", Long.class);
+            assertEquals(i == shard ? 1L : 0L, count);
+        }
+        assertEquals(1L, repository.countByShard().get(shard));
+    }
+
+    @Test
+    void findByClient_shouldReturnMostRecentFirstWithTotals() {
+        repository.insert(order(1L, 7L, "2024-01-01T10:00:00Z", OrderStatus.PAID));
+        repository.insert(order(2L, 7L, "2024-01-02T10:00:00Z", OrderStatus.WAITING_PAYMENT));
+        repository.insert(order(3L, 8L, "2024-01-03T10:00:00Z", OrderStatus.PAID));
+
+        List<OrderSummaryDTO> result = repository.findByClient(7L, 10);
+
+        assertEquals(List.of(2L, 1L), result.stream().map(OrderSummaryDTO::getId).toList());
+        assertEquals(2L, result.get(0).getItems());
+        assertEquals(35.0, result.get(0).getTotal(), 0.001);
+        assertEquals(Instant.parse("2024-01-02T10:00:00Z"), result.get(0).getMoment());
+        assertEquals(1, repository.findByClient(7L, 1).size());
+    }
+
+    @Test
+    void findRecent_shouldMergeAllShardsByMoment() {
+        for (long id = 1; id <= 12; id++) {
+            repository.insert(order(id, 100L + id, "2024-01-01T00:00:00Z", OrderStatus.PAID, id));
+        }
+        repository.insert(order(13L, 200L, "2024-02-01T00:00:00Z", OrderStatus.CANCELED));
+
+        List<OrderSummaryDTO> paid = repository.findRecent(EnumSet.of(OrderStatus.PAID), 5);
+
+        assertEquals(List.of(12L, 11L, 10L, 9L, 8L), paid.stream().map(OrderSummaryDTO::getId).toList());
+        assertEquals(13L, repository.findRecent(EnumSet.allOf(OrderStatus.class), 1).get(0).getId());
+        assertEquals(13L, repository.countByShard().stream().mapToLong(Long::longValue).sum());
+    }
+
+    @Test
+    void updateStatus_toPaid_shouldRecordPaymentInTheClientShard() {
+        ShardedOrder order = order(1L, 7L, "2024-01-01T10:00:00Z", OrderStatus.WAITING_PAYMENT);
+        repository.insert(order);
+
+        assertEquals(1, repository.updateStatus(List.of(order), OrderStatus.PAID, Instant.parse("2024-01-01T11:00:00Z")));
+
+        ShardedOrder paid = repository.findAllById(List.of(1L)).get(0);
+        assertEquals(OrderStatus.PAID, paid.status());
+        assertEquals(Instant.parse("2024-01-01T11:00:00Z"), paid.paymentMoment());
+        assertEquals(order.lines(), paid.lines());
+    }
+
+    @Test
+    void updateStatus_whenOrderChangedConcurrently_shouldRollBackTheShard() {
+        ShardedOrder first = order(1L, 7L, "2024-01-01T10:00:00Z", OrderStatus.WAITING_PAYMENT);
+        ShardedOrder second = order(2L, 7L, "2024-01-01T10:00:00Z", OrderStatus.WAITING_PAYMENT);
+        repository.insert(first);
+        repository.insert(second);
+        repository.updateStatus(List.of(second), OrderStatus.CANCELED, Instant.now());
+
+        assertThrows(OptimisticLockingFailureException.class,
+                () -> repository.updateStatus(List.of(first, second), OrderStatus.PAID, Instant.now()));
+
+        JdbcTemplate jdbc = new JdbcTemplate(dataSources.get(router.shardFor(7L)));
+        assertEquals(0L, jdbc.queryForObject("SELECT COUNT(*) FROM tb_payment", Long.class));
+        assertEquals(OrderStatus.WAITING_PAYMENT, repository.findAllById(List.of(1L)).get(0).status());
+    }
+
+    @Test
+    void updateStatus_whenOneShardIsStale_shouldLeaveEveryShardUnchanged() {
+        long firstClient = clientOnShard(0);
+        long lastClient = clientOnShard(2);
+        ShardedOrder first = order(1L, firstClient, "2024-01-01T10:00:00Z", OrderStatus.WAITING_PAYMENT);
+        ShardedOrder last = order(2L, lastClient, "2024-01-01T10:00:00Z", OrderStatus.WAITING_PAYMENT);
+        repository.insert(first);
+        repository.insert(last);
+        repository.updateStatus(List.of(last), OrderStatus.CANCELED, Instant.now());
+
+        assertThrows(OptimisticLockingFailureException.class,
+                () -> repository.updateStatus(List.of(first, last), OrderStatus.PAID, Instant.now()));
+
+        assertEquals(OrderStatus.WAITING_PAYMENT, repository.findAllById(List.of(1L)).get(0).status());
+        assertEquals(0L, new JdbcTemplate(dataSources.get(0)).queryForObject("SELECT COUNT(*) FROM tb_payment", Long.class));
+    }
+
+    @Test
+    void deleteAll_whenOneShardFails_shouldKeepOrdersOnEveryShard() {
+        repository.insert(order(1L, clientOnShard(0), "2024-01-01T10:00:00Z", OrderStatus.DELIVERED));
+        repository.insert(order(2L, clientOnShard(2), "2024-01-01T10:00:00Z", OrderStatus.DELIVERED));
+        new JdbcTemplate(dataSources.get(2)).execute("ALTER TABLE tb_order_item RENAME TO tb_order_item_offline");
+
+        assertThrows(RuntimeException.class, () -> repository.deleteAll(List.of(1L, 2L)));
+
+        assertTrue(repository.existsById(1L));
+        assertTrue(repository.existsById(2L));
+        assertEquals(2L, new JdbcTemplate(dataSources.get(0)).queryForObject("SELECT COUNT(*) FROM tb_order_item", Long.class));
+    }
+
+    @Test
+    void deleteAll_shouldRemoveOrdersFromEveryShard() {
+        repository.insert(order(1L, clientOnShard(0), "2024-01-01T10:00:00Z", OrderStatus.PAID));
+        repository.insert(order(2L, clientOnShard(2), "2024-01-01T10:00:00Z", OrderStatus.DELIVERED));
+
+        repository.deleteAll(List.of(1L, 2L));
+
+        assertEquals(List.of(0L, 0L, 0L), repository.countByShard());
+    }
+
+    @Test
+    void nextId_shouldBeUniqueAcrossShardsAndSkipReservedIds() {
+        repository.reserveIdsThrough(100L);
+
+        Set<Long> ids = new HashSet<>();
+        for (long clientId = 1; clientId <= 30; clientId++) {
+            long id = repository.nextId(clientId);
+            assertTrue(id > 100L);
+            assertEquals(router.shardFor(clientId), id % 3);
+            assertTrue(ids.add(id));
+        }
+    }
+
+    @Test
+    void recordBackfillWatermark_shouldOnlyMoveForward() {
+        assertEquals(0L, repository.findBackfillWatermark());
+
+        repository.recordBackfillWatermark(500L);
+        repository.recordBackfillWatermark(200L);
+
+        assertEquals(500L, repository.findBackfillWatermark());
+    }
+
+    @Test
+    void insertIfAbsent_shouldNotOverwriteExistingOrder() {
+        repository.insert(order(1L, 7L, "2024-01-01T10:00:00Z", OrderStatus.SHIPPED));
+
+        assertFalse(repository.insertIfAbsent(order(1L, 7L, "2024-01-01T10:00:00Z", OrderStatus.WAITING_PAYMENT)));
+        assertTrue(repository.insertIfAbsent(order(2L, 7L, "2024-01-01T10:00:00Z", OrderStatus.WAITING_PAYMENT)));
+
+        assertEquals(OrderStatus.SHIPPED, repository.findAllById(List.of(1L)).get(0).status());
+        assertTrue(repository.existsById(2L));
+        assertFalse(repository.existsById(3L));
+    }
+
+    @Test
+    void findSaleLines_shouldCollectLinesFromEveryShard() {
+        repository.insert(order(1L, 7L, "2024-01-01T10:00:00Z", OrderStatus.PAID));
+        repository.insert(order(2L, 8L, "2024-01-01T10:00:00Z", OrderStatus.DELIVERED));
+        repository.insert(order(3L, 9L, "2024-01-01T10:00:00Z", OrderStatus.CANCELED));
+
+        List<SaleLineProjection> lines = repository.findSaleLines(EnumSet.of(OrderStatus.PAID, OrderStatus.DELIVERED));
+
+        assertEquals(4, lines.size());
+        assertTrue(lines.stream().allMatch(line -> line.getOrderId() == 1L || line.getOrderId() == 2L));
+    }
+
+    private long clientOnShard(int shard) {
+        long clientId = 1;
+        while (router.shardFor(clientId) != shard) {
+            clientId++;
+        }
+        return clientId;
+    }
+
+    private static ShardedOrder order(long id, long clientId, String moment, OrderStatus status) {
+        return new ShardedOrder(id, clientId, Instant.parse(moment), status, null,
+                List.of(new OrderLine(1L, 1, 15.0), new OrderLine(2L, 2, 10.0)));
+    }
+
+    private static ShardedOrder order(long id, long clientId, String moment, OrderStatus status, long plusSeconds) {
+        return new ShardedOrder(id, clientId, Instant.parse(moment).plusSeconds(plusSeconds), status, null,
+                List.of(new OrderLine(1L, 1, 15.0)));
+    }
+}
@@ -0,0 +1,128 @@
+package com.franciscode.melicommerce.services;
+
+import com.franciscode.melicommerce.config.CompressedResponseCache;
+import com.franciscode.melicommerce.dto.CatalogProductDTO;
+import com.franciscode.melicommerce.dto.CatalogSnapshotDTO;
+import com.franciscode.melicommerce.dto.ProductDTO;
+import com.franciscode.melicommerce.entities.CatalogChange;
+import com.franciscode.melicommerce.entities.Product;
+import com.franciscode.melicommerce.repositories.CatalogChangeRepository;
+import com.franciscode.melicommerce.repositories.ProductRepository;
+import com.franciscode.melicommerce.repositories.catalog.CatalogStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {"catalog.snapshot.enabled=true", "catalog.snapshot.poll-ms=0",
+        "catalog.snapshot.interval-minutes=0", "spring.datasource.url=jdbc:h2:mem:catalog-it",
+        "payment.pipeline.enabled=false"})
+class CatalogSnapshotIntegrationTest {
+
+    private static final Path SNAPSHOT_DIR = createSnapshotDir();
+
+    @DynamicPropertySource
+    static void snapshotDir(DynamicPropertyRegistry registry) {
+        registry.add("catalog.snapshot.dir", SNAPSHOT_DIR::toString);
+    }
+
+    @Autowired
+    private CatalogSnapshotService snapshotService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductCategoryIndex categoryIndex;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CatalogChangeRepository changeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Autowired
+    private CompressedResponseCache responseCache;
+
+    @Test
+    void snapshot_shouldServeCatalogAndCatchUpWithChanges() throws InterruptedException {
+        CatalogSnapshotDTO boot = snapshotService.getStatus();
+        assertTrue(boot.getEnabled());
+        assertEquals(productRepository.count(), boot.getProducts().longValue());
+        assertArrayEquals(productRepository.findCategoryIdsByProductId(1L).stream().mapToLong(Long::longValue).toArray(),
+                categoryIndex.categoriesOf(1L));
+
+        ProductDTO product = productService.findById(1L);
+        productService.update(1L, new ProductDTO(null, "Renomeado", product.getDescription(), 1.5, product.getImgUrl(),
+                product.getRating(), product.getSpecifications()));
+        awaitName(1L, "Renomeado");
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Product other = productRepository.findById(2L).orElseThrow();
+            other.setName("Alterado por outra instância");
+            changeRepository.save(new CatalogChange(null, 2L, Instant.now()));
+        });
+        assertNotEquals("Alterado por outra instância", productService.findById(2L).getName());
+        responseCache.put("/products/2", "application/json", new byte[]{1}, responseCache.generation());
+        assertEquals(1, snapshotService.catchUp());
+        assertNull(responseCache.get("/products/2"));
+        assertEquals("Alterado por outra instância", productService.findById(2L).getName());
+
+        CatalogSnapshotDTO written = snapshotService.writeSnapshot();
+        assertEquals(changeRepository.findLatestId(), written.getVersion());
+        assertEquals(0, snapshotService.catchUp());
+
+        CatalogStore restarted = new CatalogStore(SNAPSHOT_DIR, 2);
+        assertEquals("Renomeado", restarted.find(1L).product().getName());
+        assertEquals(1.5, restarted.find(1L).product().getPrice());
+    }
+
+    @Test
+    void findById_shouldServeSnapshotRowsWithJsonMatchingTheApplicationMapper() throws IOException {
+        ProductDTO product = productService.findById(3L);
+        assertInstanceOf(CatalogProductDTO.class, product);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ((CatalogProductDTO) product).writeJson(out);
+
+        ProductDTO copy = new ProductDTO(product.getId(), product.getName(), product.getDescription(), product.getPrice(),
+                product.getImgUrl(), product.getRating(), product.getSpecifications());
+        assertEquals(jsonMapper.writeValueAsString(copy), out.toString(StandardCharsets.UTF_8));
+    }
+
+    private void awaitName(Long id, String name) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!name.equals(productService.findById(id).getName()) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(name, productService.findById(id).getName());
+    }
+
+    private static Path createSnapshotDir() {
+        try {
+            return Files.createTempDirectory("melicommerce-catalog-it");
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.franciscode.melicommerce.services;
+
+import com.franciscode.melicommerce.dto.OrderArchiveDTO;
+import com.franciscode.melicommerce.dto.OrderSummaryDTO;
+import com.franciscode.melicommerce.entities.OrderStatus;
+import com.franciscode.melicommerce.repositories.OrderRepository;
+import com.franciscode.melicommerce.repositories.archive.OrderArchive;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {"orders.archive.enabled=true", "orders.archive.interval-minutes=0",
+        "spring.datasource.url=jdbc:h2:mem:archive-it", "payment.pipeline.enabled=false"})
+class OrderArchiveIntegrationTest {
+
+    private static final Path ARCHIVE_DIR = createArchiveDir();
+
+    @DynamicPropertySource
+    static void archiveDir(DynamicPropertyRegistry registry) {
+        registry.add("orders.archive.dir", ARCHIVE_DIR::toString);
+    }
+
+    @Autowired
+    private OrderArchiveService archiveService;
+
+    @Autowired
+    private OrderHistoryService historyService;
+
+    @Autowired
+    private SalesAnalyticsService salesAnalyticsService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Test
+    void archive_shouldMoveOldFinalOrdersOutOfHotTablesAndKeepThemReadable() {
+        long unitsBefore = salesAnalyticsService.findByProduct(3L).getUnitsSold();
+
+        OrderArchiveDTO result = archiveService.archive();
+
+        assertEquals(1, result.getArchived());
+        assertEquals(1, result.getSegments());
+        assertFalse(orderRepository.existsById(2L));
+        assertTrue(orderRepository.existsById(1L));
+        assertEquals(0, archiveService.archive().getArchived());
+
+        List<OrderSummaryDTO> client2 = historyService.findByClient(2L, 10);
+        assertEquals(1, client2.size());
+        assertEquals(OrderStatus.DELIVERED, client2.get(0).getStatus());
+        assertEquals(1250.0, client2.get(0).getTotal(), 0.001);
+
+        salesAnalyticsService.rebuild();
+        assertEquals(unitsBefore, salesAnalyticsService.findByProduct(3L).getUnitsSold());
+
+        assertEquals(1L, new OrderArchive(ARCHIVE_DIR, 1024).findByClient(2L).size());
+    }
+
+    private static Path createArchiveDir() {
+        try {
+            return Files.createTempDirectory("melicommerce-archive-it");
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.franciscode.melicommerce.services;
+
+import com.franciscode.melicommerce.dto.OrderArchiveDTO;
+import com.franciscode.melicommerce.entities.OrderStatus;
+import com.franciscode.melicommerce.repositories.OrderItemRepository;
+import com.franciscode.melicommerce.repositories.OrderRepository;
+import com.franciscode.melicommerce.repositories.archive.OrderArchive;
+import com.franciscode.melicommerce.repositories.sharding.ShardedOrder;
+import com.franciscode.melicommerce.repositories.sharding.ShardedOrderRepository;
+import com.franciscode.melicommerce.services.events.OrderLine;
+import com.franciscode.melicommerce.services.exceptions.BadRequestException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderArchiveServiceTest {
+
+    private static final Path PENDING = Path.of("orders-00000001.arc.pending");
+
+    @Mock
+    private OrderRepository repository;
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    @InjectMocks
+    private OrderArchiveService service;
+
+    @Test
+    void archive_whenDisabled_shouldThrowBadRequest() {
+        assertThrows(BadRequestException.class, () -> service.archive());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void getStatus_whenDisabled_shouldReportEmptyArchive() {
+        OrderArchiveDTO status = service.getStatus();
+
+        assertFalse(status.getEnabled());
+        assertEquals(0, status.getSegments());
+    }
+
+    @Test
+    void getStatus_shouldReportSegmentsOrdersAndSize() {
+        OrderArchive archive = mock(OrderArchive.class);
+        ReflectionTestUtils.setField(service, "archive", archive);
+        when(archive.getSegmentCount()).thenReturn(2);
+        when(archive.getOrderCount()).thenReturn(150L);
+        when(archive.getSizeBytes()).thenReturn(4096L);
+
+        OrderArchiveDTO status = service.getStatus();
+
+        assertTrue(status.getEnabled());
+        assertNull(status.getArchived());
+        assertEquals(150L, status.getOrders());
+        assertEquals(4096L, status.getSizeBytes());
+    }
+
+    @Test
+    void archive_whenSharded_shouldDeleteFromShardsBeforePublishingSegment() {
+        OrderArchive archive = mock(OrderArchive.class);
+        ShardedOrderRepository shardedRepository = shardedWithOneArchivableOrder(archive);
+
+        assertEquals(1, service.archive().getArchived());
+
+        InOrder order = inOrder(shardedRepository, archive);
+        order.verify(shardedRepository).deleteAll(List.of(1L));
+        order.verify(archive).publish(PENDING);
+        verify(archive, never()).discard(any());
+    }
+
+    @Test
+    void archive_whenShardDeleteFails_shouldDiscardSegmentAndKeepOrdersLive() {
+        OrderArchive archive = mock(OrderArchive.class);
+        ShardedOrderRepository shardedRepository = shardedWithOneArchivableOrder(archive);
+        doThrow(new DataAccessResourceFailureException("Shard indisponível")).when(shardedRepository).deleteAll(List.of(1L));
+
+        assertThrows(DataAccessResourceFailureException.class, () -> service.archive());
+
+        verify(archive).discard(PENDING);
+        verify(archive, never()).publish(any());
+    }
+
+    private ShardedOrderRepository shardedWithOneArchivableOrder(OrderArchive archive) {
+        ShardedOrderRepository shardedRepository = mock(ShardedOrderRepository.class);
+        ReflectionTestUtils.setField(service, "archive", archive);
+        ReflectionTestUtils.setField(service, "shardedRepository", shardedRepository);
+        ReflectionTestUtils.setField(service, "transactionManager", new NoOpTransactionManager());
+        ReflectionTestUtils.setField(service, "batchSize", 10);
+        when(shardedRepository.findIdsByStatusInAndMomentBefore(any(), any(), anyInt())).thenReturn(List.of(1L), List.of());
+        when(shardedRepository.findAllById(List.of(1L))).thenReturn(List.of(new ShardedOrder(1L, 7L,
+                Instant.parse("2024-01-01T10:00:00Z"), OrderStatus.DELIVERED, null, List.of(new OrderLine(1L, 1, 15.0)))));
+        when(archive.write(any())).thenReturn(PENDING);
+        return shardedRepository;
+    }
+
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.franciscode.melicommerce.services;
+
+import com.franciscode.melicommerce.dto.OrderSummaryDTO;
+import com.franciscode.melicommerce.entities.Order;
+import com.franciscode.melicommerce.entities.OrderStatus;
+import com.franciscode.melicommerce.entities.User;
+import com.franciscode.melicommerce.repositories.OrderRepository;
+import com.franciscode.melicommerce.repositories.UserRepository;
+import com.franciscode.melicommerce.repositories.archive.ArchivedOrder;
+import com.franciscode.melicommerce.repositories.archive.OrderArchive;
+import com.franciscode.melicommerce.repositories.sharding.ShardedOrder;
+import com.franciscode.melicommerce.repositories.sharding.ShardedOrderRepository;
+import com.franciscode.melicommerce.services.events.OrderLine;
+import com.franciscode.melicommerce.services.exceptions.BadRequestException;
+import com.franciscode.melicommerce.services.exceptions.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderHistoryServiceTest {
+
+    @Mock
+    private OrderRepository repository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private OrderHistoryService service;
+
+    private final OrderSummaryDTO summary = new OrderSummaryDTO(1L, 7L, Instant.parse("2024-01-01T10:00:00Z"),
+            OrderStatus.PAID, 2L, 35.0);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "maxLimit", 100);
+    }
+
+    @Test
+    void findByClient_withoutShards_shouldQueryPrimaryDatabase() {
+        when(userRepository.existsById(7L)).thenReturn(true);
+        when(repository.findSummariesByClientId(7L, PageRequest.of(0, 20))).thenReturn(List.of(summary));
+
+        List<OrderSummaryDTO> result = service.findByClient(7L, 20);
+
+        assertEquals(1, result.size());
+        assertEquals(35.0, result.get(0).getTotal());
+    }
+
+    @Test
+    void findByClient_withShards_shouldRouteToShardedRepository() {
+        ShardedOrderRepository sharded = mock(ShardedOrderRepository.class);
+        ReflectionTestUtils.setField(service, "shardedRepository", sharded);
+        when(userRepository.existsById(7L)).thenReturn(true);
+        when(sharded.findByClient(7L, 20)).thenReturn(List.of(summary));
+
+        assertEquals(List.of(summary), service.findByClient(7L, 20));
+        verify(repository, never()).findSummariesByClientId(any(), any());
+    }
+
+    @Test
+    void findByClient_withArchive_shouldMergeLiveAndArchivedOrders() {
+        OrderArchive archive = mock(OrderArchive.class);
+        ReflectionTestUtils.setField(service, "archive", archive);
+        when(userRepository.existsById(7L)).thenReturn(true);
+        when(repository.findSummariesByClientId(7L, PageRequest.of(0, 2))).thenReturn(List.of(summary));
+        when(archive.findByClient(7L)).thenReturn(List.of(
+                new ArchivedOrder(1L, 7L, summary.getMoment(), OrderStatus.DELIVERED, null, List.of()),
+                new ArchivedOrder(0L, 7L, Instant.parse("2021-01-01T00:00:00Z"), OrderStatus.CANCELED, null,
+                        List.of(new OrderLine(1L, 3, 10.0))),
+                new ArchivedOrder(-1L, 7L, Instant.parse("2020-01-01T00:00:00Z"), OrderStatus.CANCELED, null, List.of())));
+
+        List<OrderSummaryDTO> result = service.findByClient(7L, 2);
+
+        assertEquals(List.of(1L, 0L), result.stream().map(OrderSummaryDTO::getId).toList());
+        assertEquals(OrderStatus.PAID, result.get(0).getStatus());
+        assertEquals(30.0, result.get(1).getTotal(), 0.001);
+    }
+
+    @Test
+    void findByClient_unknownClient_shouldThrowResourceNotFound() {
+        when(userRepository.existsById(99L)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> service.findByClient(99L, 20));
+    }
+
+    @Test
+    void findByClient_invalidLimit_shouldThrowBadRequest() {
+        assertThrows(BadRequestException.class, () -> service.findByClient(7L, 0));
+        assertThrows(BadRequestException.class, () -> service.findByClient(7L, 101));
+    }
+
+    @Test
+    void findRecent_withShards_shouldFilterByStatus() {
+        ShardedOrderRepository sharded = mock(ShardedOrderRepository.class);
+        ReflectionTestUtils.setField(service, "shardedRepository", sharded);
+        when(sharded.findRecent(EnumSet.of(OrderStatus.PAID), 10)).thenReturn(List.of(summary));
+
+        assertEquals(List.of(summary), service.findRecent(OrderStatus.PAID, 10));
+    }
+
+    @Test
+    void findRecent_withoutStatus_shouldIncludeEveryStatus() {
+        when(repository.findRecentSummaries(EnumSet.allOf(OrderStatus.class), PageRequest.of(0, 10))).thenReturn(List.of(summary));
+
+        assertEquals(List.of(summary), service.findRecent(null, 10));
+    }
+
+    @Test
+    void backfill_withShards_shouldImportMissingOrdersAndReserveTheirIds() {
+        ShardedOrderRepository sharded = mock(ShardedOrderRepository.class);
+        ReflectionTestUtils.setField(service, "shardedRepository", sharded);
+        User client = new User(7L, "Maria", "maria@gmail.com", "988888888", LocalDate.of(2001, 7, 25), "123456");
+        Order first = new Order(1L, Instant.parse("2024-01-01T10:00:00Z"), OrderStatus.PAID, client, null);
+        Order second = new Order(2L, Instant.parse("2024-01-02T10:00:00Z"), OrderStatus.WAITING_PAYMENT, client, null);
+        when(repository.findIdsAfter(0L, PageRequest.of(0, 500))).thenReturn(List.of(1L, 2L));
+        when(repository.findIdsAfter(2L, PageRequest.of(0, 500))).thenReturn(List.of());
+        when(repository.findAllForExportByIdIn(List.of(1L, 2L))).thenReturn(List.of(first, second));
+        when(sharded.insertIfAbsent(any())).thenReturn(false, true);
+
+        assertEquals(1, service.backfill());
+
+        ArgumentCaptor<ShardedOrder> imported = ArgumentCaptor.forClass(ShardedOrder.class);
+        verify(sharded, times(2)).insertIfAbsent(imported.capture());
+        assertEquals(List.of(1L, 2L), imported.getAllValues().stream().map(ShardedOrder::id).toList());
+        verify(sharded).recordBackfillWatermark(2L);
+        verify(sharded).reserveIdsThrough(2L);
+    }
+
+    @Test
+    void backfill_withWatermark_shouldResumeAfterItAndSkipReservationWhenNothingIsNew() {
+        ShardedOrderRepository sharded = mock(ShardedOrderRepository.class);
+        ReflectionTestUtils.setField(service, "shardedRepository", sharded);
+        when(sharded.findBackfillWatermark()).thenReturn(2L);
+        when(repository.findIdsAfter(2L, PageRequest.of(0, 500))).thenReturn(List.of());
+
+        assertEquals(0, service.backfill());
+
+        verify(repository, never()).findAllForExportByIdIn(any());
+        verify(sharded, never()).insertIfAbsent(any());
+        verify(sharded, never()).recordBackfillWatermark(anyLong());
+        verify(sharded, never()).reserveIdsThrough(anyLong());
+    }
+
+    @Test
+    void backfill_withoutShards_shouldDoNothing() {
+        assertEquals(0, service.backfill());
+        verifyNoInteractions(repository);
+    }
+}
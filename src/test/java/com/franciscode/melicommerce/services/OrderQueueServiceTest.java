@@ -0,0 +1,88 @@
+package com.franciscode.melicommerce.services;
+
+import com.franciscode.melicommerce.entities.OrderStatus;
+import com.franciscode.melicommerce.projections.OrderStatusProjection;
+import com.franciscode.melicommerce.repositories.OrderRepository;
+import com.franciscode.melicommerce.services.events.OrderPlacedEvent;
+import com.franciscode.melicommerce.services.events.OrderStatusChangedEvent;
+import com.franciscode.melicommerce.services.exceptions.BadRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderQueueServiceTest {
+
+    @Mock
+    private OrderRepository repository;
+
+    @InjectMocks
+    private OrderQueueService service;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "leaseSeconds", 300L);
+        ReflectionTestUtils.setField(service, "maxPoll", 10);
+        when(repository.findStatusesByStatusIn(any())).thenReturn(List.of(
+                order(3L, OrderStatus.PAID), order(1L, OrderStatus.PAID), order(2L, OrderStatus.WAITING_PAYMENT)));
+        service.rebuild();
+    }
+
+    @Test
+    void poll_shouldClaimOldestOrdersFirstWithoutHandingThemOutTwice() {
+        assertEquals(List.of(1L), service.poll(OrderStatus.PAID, 1));
+        assertEquals(List.of(3L), service.poll(OrderStatus.PAID, 5));
+        assertTrue(service.poll(OrderStatus.PAID, 5).isEmpty());
+        assertEquals(2, service.size(OrderStatus.PAID));
+    }
+
+    @Test
+    void poll_whenLeaseExpired_shouldHandOrderOutAgain() {
+        ReflectionTestUtils.setField(service, "leaseSeconds", 0L);
+
+        assertEquals(List.of(1L, 3L), service.poll(OrderStatus.PAID, 5));
+        assertEquals(List.of(1L, 3L), service.poll(OrderStatus.PAID, 5));
+    }
+
+    @Test
+    void events_shouldMoveOrdersBetweenQueues() {
+        service.onOrderPlaced(new OrderPlacedEvent(4L, 1L, Instant.now(), OrderStatus.WAITING_PAYMENT, List.of()));
+        service.onOrderStatusChanged(new OrderStatusChangedEvent(2L, 1L, Instant.now(),
+                OrderStatus.WAITING_PAYMENT, OrderStatus.PAID, List.of()));
+        service.onOrderStatusChanged(new OrderStatusChangedEvent(1L, 1L, Instant.now(),
+                OrderStatus.PAID, OrderStatus.SHIPPED, List.of()));
+
+        assertEquals(List.of(4L), service.poll(OrderStatus.WAITING_PAYMENT, 10));
+        assertEquals(List.of(2L, 3L), service.poll(OrderStatus.PAID, 10));
+        assertEquals(List.of(1L), service.poll(OrderStatus.SHIPPED, 10));
+
+        service.onOrderStatusChanged(new OrderStatusChangedEvent(1L, 1L, Instant.now(),
+                OrderStatus.SHIPPED, OrderStatus.DELIVERED, List.of()));
+        assertEquals(0, service.size(OrderStatus.SHIPPED));
+    }
+
+    @Test
+    void poll_withFinalStatusOrInvalidLimit_shouldThrowBadRequest() {
+        assertThrows(BadRequestException.class, () -> service.poll(OrderStatus.DELIVERED, 1));
+        assertThrows(BadRequestException.class, () -> service.poll(OrderStatus.PAID, 0));
+        assertThrows(BadRequestException.class, () -> service.poll(OrderStatus.PAID, 11));
+    }
+
+    private static OrderStatusProjection order(Long id, OrderStatus status) {
+        return new OrderStatusProjection() {
+            public Long getId() { return id; }
+            public OrderStatus getStatus() { return status; }
+        };
+    }
+}
@@ -0,0 +1,248 @@
+package com.franciscode.melicommerce.services;
+
+import com.franciscode.melicommerce.dto.OrderDTO;
+import com.franciscode.melicommerce.dto.OrderItemDTO;
+import com.franciscode.melicommerce.entities.Order;
+import com.franciscode.melicommerce.entities.OrderStatus;
+import com.franciscode.melicommerce.entities.Product;
+import com.franciscode.melicommerce.entities.User;
+import com.franciscode.melicommerce.repositories.OrderItemRepository;
+import com.franciscode.melicommerce.repositories.OrderRepository;
+import com.franciscode.melicommerce.repositories.ProductRepository;
+import com.franciscode.melicommerce.repositories.UserRepository;
+import com.franciscode.melicommerce.repositories.sharding.ShardedOrder;
+import com.franciscode.melicommerce.repositories.sharding.ShardedOrderRepository;
+import com.franciscode.melicommerce.services.events.OrderLine;
+import com.franciscode.melicommerce.services.events.OrderPlacedEvent;
+import com.franciscode.melicommerce.services.events.OrderStatusChangedEvent;
+import com.franciscode.melicommerce.services.exceptions.BadRequestException;
+import com.franciscode.melicommerce.services.exceptions.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderServiceTest {
+
+    @Mock
+    private OrderRepository repository;
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private OrderService service;
+
+    private User client;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        client = new User(1L, "Maria", "maria@gmail.com", "988888888", LocalDate.of(2001, 7, 25), "123456");
+        product = new Product(3L, "Macbook Pro", "Desc", 1250.0, "img", 4.8, "specs");
+    }
+
+    @Test
+    void insert_shouldCreateWaitingPaymentOrderAndPublishEvent() {
+        OrderDTO dto = new OrderDTO(null, null, null, 1L, List.of(new OrderItemDTO(3L, null, null, 2)));
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(client));
+        when(productRepository.findById(3L)).thenReturn(Optional.of(product));
+        when(repository.save(any(Order.class))).thenAnswer(invocation -> {
+            Order order = invocation.getArgument(0);
+            order.setId(50L);
+            return order;
+        });
+
+        OrderDTO result = service.insert(dto);
+
+        assertEquals(50L, result.getId());
+        assertEquals(OrderStatus.WAITING_PAYMENT, result.getStatus());
+        assertEquals(1250.0, result.getItems().get(0).getPrice());
+        assertEquals(2500.0, result.getTotal());
+        verify(orderItemRepository, times(1)).saveAll(any());
+
+        ArgumentCaptor<OrderPlacedEvent> captor = ArgumentCaptor.forClass(OrderPlacedEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(captor.capture());
+        assertEquals(50L, captor.getValue().orderId());
+        assertEquals(3L, captor.getValue().lines().get(0).productId());
+    }
+
+    @Test
+    void insert_whenClientNotFound_shouldThrowResourceNotFoundException() {
+        OrderDTO dto = new OrderDTO(null, null, null, 9L, List.of(new OrderItemDTO(3L, null, null, 1)));
+        when(userRepository.findById(9L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> service.insert(dto));
+        verifyNoInteractions(repository, eventPublisher);
+    }
+
+    @Test
+    void insert_whenProductRepeated_shouldThrowBadRequest() {
+        OrderDTO dto = new OrderDTO(null, null, null, 1L, List.of(
+                new OrderItemDTO(3L, null, null, 1), new OrderItemDTO(3L, null, null, 1)));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(client));
+        when(productRepository.findById(3L)).thenReturn(Optional.of(product));
+
+        assertThrows(BadRequestException.class, () -> service.insert(dto));
+        verifyNoInteractions(repository, eventPublisher);
+    }
+
+    @Test
+    void findById_whenNotFound_shouldThrowResourceNotFoundException() {
+        when(repository.findById(99L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> service.findById(99L));
+    }
+
+    @Test
+    void updateStatus_toPaid_shouldRecordPaymentAndPublishEvent() {
+        Order order = new Order(1L, Instant.now(), OrderStatus.WAITING_PAYMENT, client, null);
+        when(repository.findById(1L)).thenReturn(Optional.of(order));
+
+        OrderDTO result = service.updateStatus(1L, OrderStatus.PAID);
+
+        assertEquals(OrderStatus.PAID, result.getStatus());
+        assertNotNull(order.getPayment());
+        assertSame(order, order.getPayment().getOrder());
+
+        ArgumentCaptor<OrderStatusChangedEvent> captor = ArgumentCaptor.forClass(OrderStatusChangedEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(captor.capture());
+        assertEquals(OrderStatus.WAITING_PAYMENT, captor.getValue().previous());
+        assertEquals(OrderStatus.PAID, captor.getValue().current());
+    }
+
+    @Test
+    void updateStatus_withInvalidTransition_shouldThrowBadRequest() {
+        Order order = new Order(1L, Instant.now(), OrderStatus.DELIVERED, client, null);
+        when(repository.findById(1L)).thenReturn(Optional.of(order));
+
+        assertThrows(BadRequestException.class, () -> service.updateStatus(1L, OrderStatus.SHIPPED));
+        assertEquals(OrderStatus.DELIVERED, order.getStatus());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void updateStatusBatch_shouldTransitionAllOrders() {
+        Order o1 = new Order(1L, Instant.now(), OrderStatus.PAID, client, null);
+        Order o2 = new Order(2L, Instant.now(), OrderStatus.PAID, client, null);
+        when(repository.findAllWithItemsByIdIn(any())).thenReturn(List.of(o1, o2));
+
+        int updated = service.updateStatus(List.of(1L, 2L, 2L), OrderStatus.SHIPPED);
+
+        assertEquals(2, updated);
+        assertEquals(OrderStatus.SHIPPED, o1.getStatus());
+        assertEquals(OrderStatus.SHIPPED, o2.getStatus());
+        verify(eventPublisher, times(2)).publishEvent(any(OrderStatusChangedEvent.class));
+    }
+
+    @Test
+    void updateStatusBatch_whenAnyTransitionInvalid_shouldChangeNothing() {
+        Order o1 = new Order(1L, Instant.now(), OrderStatus.PAID, client, null);
+        Order o2 = new Order(2L, Instant.now(), OrderStatus.WAITING_PAYMENT, client, null);
+        when(repository.findAllWithItemsByIdIn(any())).thenReturn(List.of(o1, o2));
+
+        BadRequestException e = assertThrows(BadRequestException.class,
+                () -> service.updateStatus(List.of(1L, 2L), OrderStatus.SHIPPED));
+
+        assertTrue(e.getMessage().contains("[2]"));
+        assertEquals(OrderStatus.PAID, o1.getStatus());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void updateStatusBatch_whenOrderMissing_shouldThrowResourceNotFound() {
+        when(repository.findAllWithItemsByIdIn(any())).thenReturn(List.of());
+
+        assertThrows(ResourceNotFoundException.class, () -> service.updateStatus(List.of(7L), OrderStatus.SHIPPED));
+    }
+
+    @Test
+    void insert_withShards_shouldWriteOnlyToClientShard() {
+        ShardedOrderRepository sharded = mock(ShardedOrderRepository.class);
+        ReflectionTestUtils.setField(service, "shardedRepository", sharded);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(client));
+        when(productRepository.findById(3L)).thenReturn(Optional.of(product));
+        when(sharded.nextId(1L)).thenReturn(41L);
+
+        OrderDTO result = service.insert(new OrderDTO(null, null, null, 1L, List.of(new OrderItemDTO(3L, null, null, 2))));
+
+        ArgumentCaptor<ShardedOrder> inserted = ArgumentCaptor.forClass(ShardedOrder.class);
+        verify(sharded).insert(inserted.capture());
+        assertEquals(41L, inserted.getValue().id());
+        assertEquals(List.of(new OrderLine(3L, 2, 1250.0)), inserted.getValue().lines());
+        assertEquals(41L, result.getId());
+        assertEquals("Macbook Pro", result.getItems().get(0).getName());
+        verify(eventPublisher).publishEvent(any(OrderPlacedEvent.class));
+        verify(repository, never()).save(any());
+        verifyNoInteractions(orderItemRepository);
+    }
+
+    @Test
+    void updateStatus_withShards_shouldUpdateClientShardAndPublishEvent() {
+        ShardedOrderRepository sharded = mock(ShardedOrderRepository.class);
+        ReflectionTestUtils.setField(service, "shardedRepository", sharded);
+        ShardedOrder order = new ShardedOrder(41L, 1L, Instant.now(), OrderStatus.WAITING_PAYMENT, null,
+                List.of(new OrderLine(3L, 2, 1250.0)));
+        when(sharded.findAllById(List.of(41L))).thenReturn(List.of(order));
+        when(productRepository.findAllById(List.of(3L))).thenReturn(List.of(product));
+
+        OrderDTO result = service.updateStatus(41L, OrderStatus.PAID);
+
+        assertEquals(OrderStatus.PAID, result.getStatus());
+        verify(sharded).updateStatus(eq(List.of(order)), eq(OrderStatus.PAID), any());
+        ArgumentCaptor<OrderStatusChangedEvent> event = ArgumentCaptor.forClass(OrderStatusChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(OrderStatus.WAITING_PAYMENT, event.getValue().previous());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void updateStatus_withShards_whenChangedConcurrently_shouldThrowBadRequest() {
+        ShardedOrderRepository sharded = mock(ShardedOrderRepository.class);
+        ReflectionTestUtils.setField(service, "shardedRepository", sharded);
+        ShardedOrder order = new ShardedOrder(41L, 1L, Instant.now(), OrderStatus.WAITING_PAYMENT, null, List.of());
+        when(sharded.findAllById(List.of(41L))).thenReturn(List.of(order));
+        when(sharded.updateStatus(any(), eq(OrderStatus.PAID), any()))
+                .thenThrow(new OptimisticLockingFailureException("Order 41 is no longer WAITING_PAYMENT"));
+
+        assertThrows(BadRequestException.class, () -> service.updateStatus(41L, OrderStatus.PAID));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void updateStatusBatch_withShards_whenOrderMissing_shouldThrowResourceNotFound() {
+        ShardedOrderRepository sharded = mock(ShardedOrderRepository.class);
+        ReflectionTestUtils.setField(service, "shardedRepository", sharded);
+        when(sharded.findAllById(any())).thenReturn(List.of());
+
+        assertThrows(ResourceNotFoundException.class, () -> service.updateStatus(List.of(7L), OrderStatus.SHIPPED));
+        verify(sharded, never()).updateStatus(any(), any(), any());
+    }
+}
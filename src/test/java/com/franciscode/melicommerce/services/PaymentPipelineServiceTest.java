@@ -0,0 +1,196 @@
+package com.franciscode.melicommerce.services;
+
+import com.franciscode.melicommerce.entities.OrderStatus;
+import com.franciscode.melicommerce.projections.SaleLineProjection;
+import com.franciscode.melicommerce.repositories.OrderItemRepository;
+import com.franciscode.melicommerce.services.events.OrderLine;
+import com.franciscode.melicommerce.services.events.OrderPlacedEvent;
+import com.franciscode.melicommerce.services.exceptions.BadRequestException;
+import com.franciscode.melicommerce.services.payments.PaymentProvider;
+import com.franciscode.melicommerce.services.payments.PaymentResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentPipelineServiceTest {
+
+    @Mock
+    private PaymentProvider provider;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    @InjectMocks
+    private PaymentPipelineService service;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "workers", 2);
+        ReflectionTestUtils.setField(service, "batchSize", 10);
+        ReflectionTestUtils.setField(service, "flushMs", 50L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.stop();
+    }
+
+    @Test
+    void onOrderPlaced_shouldAuthorizeAndMarkOrdersPaidInBatch() throws Exception {
+        when(provider.authorize(anyLong(), anyDouble())).thenReturn(true);
+        service.start();
+
+        service.onOrderPlaced(placed(1L, OrderStatus.WAITING_PAYMENT));
+        service.onOrderPlaced(placed(2L, OrderStatus.WAITING_PAYMENT));
+
+        verify(provider, timeout(2000)).authorize(1L, 25.0);
+        verify(provider, timeout(2000)).authorize(2L, 25.0);
+        verify(orderService, timeout(2000).atLeastOnce()).updateStatus(anyCollection(), eq(OrderStatus.PAID));
+        verify(orderService, never()).updateStatus(anyCollection(), eq(OrderStatus.CANCELED));
+    }
+
+    @Test
+    void start_shouldEnqueueOrdersStillWaitingPayment() throws Exception {
+        when(orderItemRepository.findSaleLinesByStatusIn(List.of(OrderStatus.WAITING_PAYMENT))).thenReturn(List.of(
+                line(7L, 2, 10.0), line(7L, 1, 5.0), line(8L, 1, 40.0)));
+        when(provider.authorize(anyLong(), anyDouble())).thenReturn(true);
+        service.start();
+
+        verify(provider, timeout(2000)).authorize(7L, 25.0);
+        verify(provider, timeout(2000)).authorize(8L, 40.0);
+        verify(orderService, timeout(2000).atLeastOnce()).updateStatus(anyCollection(), eq(OrderStatus.PAID));
+    }
+
+    @Test
+    void start_whenPendingOrderIsAlsoPlacedAgain_shouldAuthorizeOnce() throws Exception {
+        when(orderItemRepository.findSaleLinesByStatusIn(List.of(OrderStatus.WAITING_PAYMENT)))
+                .thenReturn(List.of(line(1L, 2, 10.0), line(1L, 1, 5.0)));
+        when(provider.authorize(anyLong(), anyDouble())).then(invocation -> {
+            Thread.sleep(200);
+            return true;
+        });
+        service.start();
+        service.onOrderPlaced(placed(1L, OrderStatus.WAITING_PAYMENT));
+
+        verify(orderService, timeout(2000)).updateStatus(anyCollection(), eq(OrderStatus.PAID));
+        verify(provider, times(1)).authorize(1L, 25.0);
+    }
+
+    @Test
+    void authorize_whenInterrupted_shouldLeaveOrderWaitingPayment() throws Exception {
+        when(provider.authorize(anyLong(), anyDouble())).thenThrow(new InterruptedException());
+        ReflectionTestUtils.setField(service, "workers", 1);
+        service.start();
+
+        service.onOrderPlaced(placed(1L, OrderStatus.WAITING_PAYMENT));
+
+        verify(provider, timeout(2000)).authorize(1L, 25.0);
+        verify(orderService, after(300).never()).updateStatus(anyCollection(), any(OrderStatus.class));
+        verify(orderService, never()).updateStatus(anyLong(), any(OrderStatus.class));
+    }
+
+    @Test
+    void onOrderPlaced_whenNotWaitingPayment_shouldIgnore() {
+        service.onOrderPlaced(placed(1L, OrderStatus.PAID));
+
+        verifyNoInteractions(provider);
+        assertEquals(0, service.pending());
+    }
+
+    @Test
+    void start_whenNoProviderConfigured_shouldStayDisabled() {
+        ReflectionTestUtils.setField(service, "provider", null);
+        service.start();
+
+        service.onOrderPlaced(placed(1L, OrderStatus.WAITING_PAYMENT));
+
+        assertEquals(0, service.pending());
+    }
+
+    @Test
+    void flush_shouldCancelDeclinedOrders() {
+        service.flush(List.of(new PaymentResult(1L, true), new PaymentResult(2L, false)));
+
+        verify(orderService).updateStatus(List.of(1L), OrderStatus.PAID);
+        verify(orderService).updateStatus(List.of(2L), OrderStatus.CANCELED);
+    }
+
+    @Test
+    void flush_whenBatchRejected_shouldFallBackToSingleUpdates() {
+        when(orderService.updateStatus(anyCollection(), eq(OrderStatus.PAID)))
+                .thenThrow(new BadRequestException("Transição inválida"));
+        lenient().when(orderService.updateStatus(2L, OrderStatus.PAID)).thenThrow(new BadRequestException("Transição inválida"));
+
+        service.flush(List.of(new PaymentResult(1L, true), new PaymentResult(2L, true), new PaymentResult(3L, true)));
+
+        verify(orderService).updateStatus(1L, OrderStatus.PAID);
+        verify(orderService).updateStatus(2L, OrderStatus.PAID);
+        verify(orderService).updateStatus(3L, OrderStatus.PAID);
+    }
+
+    @Test
+    void flush_whenSingleUpdateFailsUnexpectedly_shouldContinueWithRemainingOrders() {
+        when(orderService.updateStatus(anyCollection(), eq(OrderStatus.PAID)))
+                .thenThrow(new BadRequestException("Transição inválida"));
+        when(orderService.updateStatus(1L, OrderStatus.PAID)).thenThrow(new IllegalStateException("Conexão perdida"));
+
+        service.flush(List.of(new PaymentResult(1L, true), new PaymentResult(2L, true)));
+
+        verify(orderService).updateStatus(2L, OrderStatus.PAID);
+    }
+
+    @Test
+    void flushLoop_whenBatchFailsUnexpectedly_shouldKeepProcessingLaterResults() throws Exception {
+        when(provider.authorize(anyLong(), anyDouble())).thenReturn(true);
+        when(orderService.updateStatus(anyCollection(), eq(OrderStatus.PAID)))
+                .thenThrow(new IllegalStateException("Conexão perdida"))
+                .thenReturn(1);
+        service.start();
+
+        service.onOrderPlaced(placed(1L, OrderStatus.WAITING_PAYMENT));
+        verify(orderService, timeout(2000)).updateStatus(anyCollection(), eq(OrderStatus.PAID));
+        service.onOrderPlaced(placed(2L, OrderStatus.WAITING_PAYMENT));
+
+        verify(orderService, timeout(2000).times(2)).updateStatus(anyCollection(), eq(OrderStatus.PAID));
+    }
+
+    private static SaleLineProjection line(Long orderId, Integer quantity, Double price) {
+        return new SaleLineProjection() {
+            public Long getOrderId() { return orderId; }
+            public Long getProductId() { return 1L; }
+            public Instant getMoment() { return Instant.now(); }
+            public OrderStatus getStatus() { return OrderStatus.WAITING_PAYMENT; }
+            public Integer getQuantity() { return quantity; }
+            public Double getPrice() { return price; }
+        };
+    }
+
+    private static OrderPlacedEvent placed(Long orderId, OrderStatus status) {
+        return new OrderPlacedEvent(orderId, 1L, Instant.now(), status,
+                List.of(new OrderLine(1L, 2, 10.0), new OrderLine(2L, 1, 5.0)));
+    }
+}
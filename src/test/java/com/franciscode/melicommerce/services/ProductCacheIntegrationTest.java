@@ -0,0 +1,80 @@
+package com.franciscode.melicommerce.services;
+
+import com.franciscode.melicommerce.dto.CacheRegionStatisticsDTO;
+import com.franciscode.melicommerce.dto.CacheStatisticsDTO;
+import com.franciscode.melicommerce.dto.ProductDTO;
+import com.franciscode.melicommerce.dto.ProductSummaryDTO;
+import com.franciscode.melicommerce.entities.Product;
+import com.franciscode.melicommerce.services.exceptions.ResourceNotFoundException;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class ProductCacheIntegrationTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final Pageable newestFirst = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "id"));
+
+    @Test
+    void findById_shouldBeServedFromSecondLevelCache() {
+        productService.findById(5L);
+        long hitsBefore = productRegion().getHitCount();
+
+        productService.findById(5L);
+
+        assertTrue(entityManagerFactory.getCache().contains(Product.class, 5L));
+        assertTrue(productRegion().getHitCount() > hitsBefore);
+    }
+
+    @Test
+    void writes_shouldInvalidateEntityAndListingQueryCache() {
+        ProductDTO created = productService.insert(product("Produto em cache"));
+
+        assertEquals("Produto em cache", productService.findById(created.getId()).getName());
+        assertEquals("Produto em cache", newestSummary().getName());
+        long queryHitsBefore = cacheStatisticsService.getStatistics().getQueryCacheHitCount();
+        assertEquals("Produto em cache", newestSummary().getName());
+        assertTrue(cacheStatisticsService.getStatistics().getQueryCacheHitCount() > queryHitsBefore);
+
+        productService.update(created.getId(), product("Produto atualizado"));
+
+        assertEquals("Produto atualizado", productService.findById(created.getId()).getName());
+        assertEquals("Produto atualizado", newestSummary().getName());
+
+        productService.delete(created.getId());
+
+        assertThrows(ResourceNotFoundException.class, () -> productService.findById(created.getId()));
+        assertNotEquals(created.getId(), newestSummary().getId());
+    }
+
+    private ProductSummaryDTO newestSummary() {
+        return productService.findAll(newestFirst).getContent().get(0);
+    }
+
+    private CacheRegionStatisticsDTO productRegion() {
+        CacheStatisticsDTO statistics = cacheStatisticsService.getStatistics();
+        return statistics.getRegions().stream()
+                .filter(region -> region.getRegion().equals("product"))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static ProductDTO product(String name) {
+        return new ProductDTO(null, name, "Descrição longa o suficiente", 10.0, "img", 4.0, "specs");
+    }
+}
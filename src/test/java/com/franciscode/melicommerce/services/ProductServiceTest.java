@@ -1,8 +1,16 @@
 package com.franciscode.melicommerce.services;
 
 import com.franciscode.melicommerce.dto.ProductDTO;
+import com.franciscode.melicommerce.dto.ProductField;
+import com.franciscode.melicommerce.dto.ProductSummaryDTO;
+import com.franciscode.melicommerce.dto.SparseProductDTO;
+import com.franciscode.melicommerce.entities.CatalogChange;
 import com.franciscode.melicommerce.entities.Product;
+import com.franciscode.melicommerce.repositories.CatalogChangeRepository;
 import com.franciscode.melicommerce.repositories.ProductRepository;
+import com.franciscode.melicommerce.repositories.catalog.CatalogEntry;
+import com.franciscode.melicommerce.repositories.catalog.CatalogStore;
+import com.franciscode.melicommerce.services.events.ProductChangedEvent;
 import com.franciscode.melicommerce.services.exceptions.BadRequestException;
 import com.franciscode.melicommerce.services.exceptions.DatabaseException;
 import com.franciscode.melicommerce.services.exceptions.ResourceNotFoundException;
@@ -14,14 +22,21 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -34,6 +49,15 @@ class ProductServiceTest {
     @Mock
     private ProductRepository repository;
 
+    @Mock
+    private CatalogChangeRepository catalogChangeRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private ProductService service;
 
@@ -70,17 +94,20 @@ class ProductServiceTest {
     @Test
     void findAll_shouldReturnPageOfDTOs() {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Product> page = new PageImpl<>(List.of(product1, product2), pageable, 2L);
+        Page<ProductSummaryDTO> page = new PageImpl<>(List.of(
+                new ProductSummaryDTO(1L, "P1", 10.0, "img1", 4.0),
+                new ProductSummaryDTO(2L, "P2", 20.0, "img2", 4.5)), pageable, 2L);
 
-        when(repository.findAll(pageable)).thenReturn(page);
+        when(repository.findAllSummaries(pageable)).thenReturn(page);
 
-        Page<ProductDTO> result = service.findAll(pageable);
+        Page<ProductSummaryDTO> result = service.findAll(pageable);
 
         assertNotNull(result);
         assertEquals(2, result.getTotalElements());
         assertEquals("P1", result.getContent().get(0).getName());
         assertEquals("P2", result.getContent().get(1).getName());
-        verify(repository, times(1)).findAll(pageable);
+        verify(repository, times(1)).findAllSummaries(pageable);
+        verify(repository, never()).findAll(any(Pageable.class));
     }
 
     @Test
@@ -102,6 +129,10 @@ class ProductServiceTest {
         Product entityPassed = captor.getValue();
         assertEquals(dto.getName(), entityPassed.getName());
         assertEquals(dto.getDescription(), entityPassed.getDescription());
+        verify(eventPublisher, times(1)).publishEvent(any(ProductChangedEvent.class));
+        ArgumentCaptor<CatalogChange> change = ArgumentCaptor.forClass(CatalogChange.class);
+        verify(catalogChangeRepository, times(1)).save(change.capture());
+        assertEquals(10L, change.getValue().getProductId());
     }
 
     @Test
@@ -141,6 +172,49 @@ class ProductServiceTest {
         assertDoesNotThrow(() -> service.delete(7L));
         verify(repository, times(1)).existsById(7L);
         verify(repository, times(1)).deleteById(7L);
+        verify(eventPublisher, times(1)).publishEvent(ProductChangedEvent.deleted(7L));
+        verify(catalogChangeRepository, times(1)).save(any(CatalogChange.class));
+    }
+
+    @Test
+    void findById_whenCatalogSnapshotHasProduct_shouldNotQueryDatabase() {
+        CatalogStore catalogStore = mock(CatalogStore.class);
+        ReflectionTestUtils.setField(service, "catalogStore", catalogStore);
+        ProductDTO cached = new ProductDTO(product1);
+        when(catalogStore.find(1L)).thenReturn(new CatalogEntry(cached, new long[]{2L}));
+
+        assertSame(cached, service.findById(1L));
+        verify(repository, never()).findById(anyLong());
+    }
+
+    @Test
+    void compareProductsByIds_whenCatalogSnapshotMissesSome_shouldLoadOnlyMissingFromDatabase() {
+        CatalogStore catalogStore = mock(CatalogStore.class);
+        ReflectionTestUtils.setField(service, "catalogStore", catalogStore);
+        when(catalogStore.find(1L)).thenReturn(new CatalogEntry(new ProductDTO(product1), new long[0]));
+        when(repository.findAllDtosByIdIn(List.of(2L))).thenReturn(List.of(new ProductDTO(product2)));
+
+        List<ProductDTO> result = service.compareProductsByIds("1,2");
+
+        assertEquals(List.of(1L, 2L), result.stream().map(ProductDTO::getId).toList());
+        verify(repository, times(1)).findAllDtosByIdIn(List.of(2L));
+    }
+
+    @Test
+    void compareProductsByIds_shouldReturnEachProductOnceInRequestOrder() {
+        CatalogStore catalogStore = mock(CatalogStore.class);
+        when(catalogStore.find(1L)).thenReturn(new CatalogEntry(new ProductDTO(product1), new long[0]));
+        when(catalogStore.find(2L)).thenReturn(null);
+        when(repository.findAllDtosByIdIn(List.of(2L, 1L)))
+                .thenReturn(List.of(new ProductDTO(product1), new ProductDTO(product2)));
+        when(repository.findAllDtosByIdIn(List.of(2L))).thenReturn(List.of(new ProductDTO(product2)));
+
+        List<Long> fromDatabase = service.compareProductsByIds("2,1,2,1").stream().map(ProductDTO::getId).toList();
+        ReflectionTestUtils.setField(service, "catalogStore", catalogStore);
+        List<Long> fromCatalog = service.compareProductsByIds("2,1,2,1").stream().map(ProductDTO::getId).toList();
+
+        assertEquals(List.of(2L, 1L), fromDatabase);
+        assertEquals(List.of(2L, 1L), fromCatalog);
     }
 
     @Test
@@ -160,6 +234,16 @@ class ProductServiceTest {
         assertThrows(DatabaseException.class, () -> service.delete(9L));
         verify(repository, times(1)).existsById(9L);
         verify(repository, times(1)).deleteById(9L);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void delete_whenFlushViolatesIntegrity_shouldThrowDatabaseExceptionWithoutRecordingChange() {
+        when(repository.existsById(9L)).thenReturn(true);
+        doThrow(DataIntegrityViolationException.class).when(repository).flush();
+
+        assertThrows(DatabaseException.class, () -> service.delete(9L));
+        verifyNoInteractions(catalogChangeRepository, eventPublisher);
     }
 
     @Test
@@ -179,15 +263,16 @@ class ProductServiceTest {
 
     @Test
     void compareProductsByIds_whenNoProductsFound_shouldThrowResourceNotFound() {
-        when(repository.findAllById(List.of(100L, 101L))).thenReturn(List.of());
+        when(repository.findAllDtosByIdIn(List.of(100L, 101L))).thenReturn(List.of());
 
         assertThrows(ResourceNotFoundException.class, () -> service.compareProductsByIds("100,101"));
-        verify(repository, times(1)).findAllById(List.of(100L, 101L));
+        verify(repository, times(1)).findAllDtosByIdIn(List.of(100L, 101L));
     }
 
     @Test
     void compareProductsByIds_whenProductsFound_shouldReturnDTOList() {
-        when(repository.findAllById(List.of(1L, 2L))).thenReturn(List.of(product1, product2));
+        when(repository.findAllDtosByIdIn(List.of(1L, 2L)))
+                .thenReturn(List.of(new ProductDTO(product1), new ProductDTO(product2)));
 
         List<ProductDTO> result = service.compareProductsByIds("1,2");
 
@@ -195,6 +280,75 @@ class ProductServiceTest {
         assertEquals(2, result.size());
         assertEquals("P1", result.get(0).getName());
         assertEquals("P2", result.get(1).getName());
-        verify(repository, times(1)).findAllById(List.of(1L, 2L));
+        verify(repository, times(1)).findAllDtosByIdIn(List.of(1L, 2L));
+    }
+
+    @Test
+    void findById_withFields_shouldSelectOnlyRequestedColumns() {
+        Set<ProductField> fields = EnumSet.of(ProductField.ID, ProductField.NAME, ProductField.PRICE);
+        when(repository.findFieldsById(1L, fields))
+                .thenReturn(Optional.of(new ProductDTO(1L, "P1", null, 10.0, null, null, null)));
+
+        SparseProductDTO dto = service.findById(1L, "price, name,id");
+
+        assertEquals(fields, dto.getFields());
+        assertEquals(Map.of("id", 1L, "name", "P1", "price", 10.0), dto.toMap());
+        verify(repository, times(1)).findFieldsById(1L, fields);
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    void findById_withFieldsAndCatalogSnapshot_shouldTrimCachedProduct() {
+        CatalogStore catalogStore = mock(CatalogStore.class);
+        ReflectionTestUtils.setField(service, "catalogStore", catalogStore);
+        when(catalogStore.find(1L)).thenReturn(new CatalogEntry(new ProductDTO(product1), new long[0]));
+
+        SparseProductDTO dto = service.findById(1L, "id,rating");
+
+        assertEquals(List.of("id", "rating"), List.copyOf(dto.toMap().keySet()));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void findAll_withFields_shouldPushSelectionDownToRepository() {
+        Set<ProductField> fields = EnumSet.of(ProductField.ID, ProductField.IMG_URL);
+        Pageable pageable = PageRequest.of(0, 2, Sort.by("price"));
+        when(repository.findAllFields(fields, pageable))
+                .thenReturn(new PageImpl<>(List.of(new ProductDTO(1L, null, null, null, "url1", null, null)), pageable, 1));
+
+        Page<SparseProductDTO> page = service.findAll(pageable, "imgUrl,id");
+
+        assertEquals(Map.of("id", 1L, "imgUrl", "url1"), page.getContent().get(0).toMap());
+        verify(repository, times(1)).findAllFields(fields, pageable);
+    }
+
+    @Test
+    void findAll_withFieldsAndUnknownSort_shouldThrowBadRequest() {
+        Pageable pageable = PageRequest.of(0, 2, Sort.by("category"));
+
+        assertThrows(BadRequestException.class, () -> service.findAll(pageable, "id"));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void compareProductsByIds_withFields_shouldLoadOnlyRequestedColumns() {
+        Set<ProductField> fields = EnumSet.of(ProductField.ID, ProductField.NAME);
+        when(repository.findFieldsByIdIn(List.of(1L, 2L), fields)).thenReturn(List.of(
+                new ProductDTO(1L, "P1", null, null, null, null, null),
+                new ProductDTO(2L, "P2", null, null, null, null, null)));
+
+        List<SparseProductDTO> result = service.compareProductsByIds("1,2", "name");
+
+        assertEquals(List.of(Map.of("name", "P1"), Map.of("name", "P2")),
+                result.stream().map(SparseProductDTO::toMap).toList());
+        verify(repository, never()).findAllDtosByIdIn(any());
+    }
+
+    @Test
+    void parseFields_whenBlankOrUnknown_shouldThrowBadRequest() {
+        assertThrows(BadRequestException.class, () -> ProductService.parseFields(""));
+        assertThrows(BadRequestException.class, () -> ProductService.parseFields("id,,name"));
+        assertThrows(BadRequestException.class, () -> ProductService.parseFields("id,category"));
+        assertThrows(BadRequestException.class, () -> ProductService.parseFields("img_url"));
     }
-}
\ No newline at end of file
+}
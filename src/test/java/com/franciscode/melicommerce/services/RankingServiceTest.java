@@ -0,0 +1,131 @@
+package com.franciscode.melicommerce.services;
+
+import com.franciscode.melicommerce.dto.ProductDTO;
+import com.franciscode.melicommerce.dto.SalesSummaryDTO;
+import com.franciscode.melicommerce.entities.OrderStatus;
+import com.franciscode.melicommerce.entities.Product;
+import com.franciscode.melicommerce.projections.ProductRatingProjection;
+import com.franciscode.melicommerce.repositories.ProductRepository;
+import com.franciscode.melicommerce.services.events.OrderLine;
+import com.franciscode.melicommerce.services.events.OrderStatusChangedEvent;
+import com.franciscode.melicommerce.services.events.ProductChangedEvent;
+import com.franciscode.melicommerce.services.exceptions.BadRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RankingServiceTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductCategoryIndex categoryIndex;
+
+    @Mock
+    private SalesAnalyticsService salesAnalyticsService;
+
+    @InjectMocks
+    private RankingService service;
+
+    private final Product p1 = new Product(1L, "P1", "Desc1", 10.0, "url1", 4.0, "s1");
+    private final Product p2 = new Product(2L, "P2", "Desc2", 20.0, "url2", 4.9, "s2");
+    private final Product p3 = new Product(3L, "P3", "Desc3", 30.0, "url3", 4.5, "s3");
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "maxLimit", 10);
+        when(productRepository.findAllRatings()).thenReturn(List.of(rating(1L, 4.0), rating(2L, 4.9), rating(3L, 4.5)));
+        when(categoryIndex.categoriesOf(1L)).thenReturn(new long[]{1L});
+        when(categoryIndex.categoriesOf(2L)).thenReturn(new long[]{2L});
+        when(categoryIndex.categoriesOf(3L)).thenReturn(new long[]{1L});
+        when(salesAnalyticsService.findByProduct(anyLong())).thenAnswer(inv -> new SalesSummaryDTO(inv.getArgument(0), 0L, 0.0));
+        when(salesAnalyticsService.findByProduct(1L)).thenReturn(new SalesSummaryDTO(1L, 3L, 30.0));
+        when(salesAnalyticsService.findByProduct(3L)).thenReturn(new SalesSummaryDTO(3L, 1L, 30.0));
+        when(productRepository.findAllById(anyList())).thenReturn(List.of(p1, p2, p3));
+        service.rebuild();
+    }
+
+    @Test
+    void findTop_byRating_shouldReturnProductsInScoreOrder() {
+        List<ProductDTO> result = service.findTop("rating", null, 2);
+
+        assertEquals(List.of(2L, 3L), result.stream().map(ProductDTO::getId).toList());
+    }
+
+    @Test
+    void findTop_byRatingAndCategory_shouldOnlyConsiderCategoryMembers() {
+        List<ProductDTO> result = service.findTop("RATING", 1L, 10);
+
+        assertEquals(List.of(3L, 1L), result.stream().map(ProductDTO::getId).toList());
+    }
+
+    @Test
+    void findTop_bySales_shouldIgnoreUnsoldProductsAndFollowStatusChanges() {
+        assertEquals(List.of(1L, 3L), service.findTop("sales", null, 10).stream().map(ProductDTO::getId).toList());
+
+        when(salesAnalyticsService.findByProduct(2L)).thenReturn(new SalesSummaryDTO(2L, 5L, 100.0));
+        service.onOrderStatusChanged(new OrderStatusChangedEvent(9L, 1L, Instant.now(), OrderStatus.WAITING_PAYMENT,
+                OrderStatus.PAID, List.of(new OrderLine(2L, 5, 20.0))));
+
+        assertEquals(List.of(2L, 1L, 3L), service.findTop("sales", null, 10).stream().map(ProductDTO::getId).toList());
+    }
+
+    @Test
+    void onProductChanged_shouldReorderAndRemoveDeletedProducts() {
+        service.onProductChanged(ProductChangedEvent.saved(new ProductDTO(1L, "P1", "Desc1", 10.0, "url1", 5.0, "s1")));
+        assertEquals(List.of(1L, 2L), service.findTop("rating", null, 2).stream().map(ProductDTO::getId).toList());
+
+        service.onProductChanged(ProductChangedEvent.deleted(2L));
+        assertEquals(List.of(1L, 3L), service.findTop("rating", null, 2).stream().map(ProductDTO::getId).toList());
+        verify(categoryIndex, times(1)).evict(2L);
+    }
+
+    @Test
+    void findTop_whenDroppedProductsMayRankHigher_shouldServeCurrentRankingAndRebuildInBackground() {
+        ReflectionTestUtils.setField(service, "maxLimit", 2);
+        service.rebuild();
+        assertEquals(List.of(2L, 3L), service.findTop("rating", null, 2).stream().map(ProductDTO::getId).toList());
+
+        when(productRepository.findAllRatings()).thenReturn(List.of(rating(1L, 4.0), rating(3L, 4.5)));
+        service.onProductChanged(ProductChangedEvent.deleted(2L));
+        when(productRepository.findAllById(anyList())).thenReturn(List.of(p1, p3));
+
+        assertEquals(List.of(3L), service.findTop("rating", null, 2).stream().map(ProductDTO::getId).toList());
+        verify(productRepository, timeout(2000).times(3)).findAllRatings();
+        assertEquals(List.of(3L, 1L), service.findTop("rating", null, 2).stream().map(ProductDTO::getId).toList());
+    }
+
+    @Test
+    void findTop_withInvalidParameters_shouldThrowBadRequest() {
+        assertThrows(BadRequestException.class, () -> service.findTop("price", null, 5));
+        assertThrows(BadRequestException.class, () -> service.findTop("rating", null, 0));
+        assertThrows(BadRequestException.class, () -> service.findTop("rating", null, 11));
+    }
+
+    private static ProductRatingProjection rating(Long id, Double rating) {
+        return new ProductRatingProjection() {
+            public Long getId() { return id; }
+            public Double getRating() { return rating; }
+        };
+    }
+}
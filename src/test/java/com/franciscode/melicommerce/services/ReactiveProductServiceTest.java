@@ -0,0 +1,80 @@
+package com.franciscode.melicommerce.services;
+
+import com.franciscode.melicommerce.dto.ProductDTO;
+import com.franciscode.melicommerce.dto.ProductSummaryDTO;
+import com.franciscode.melicommerce.repositories.ReactiveProductRepository;
+import com.franciscode.melicommerce.services.exceptions.BadRequestException;
+import com.franciscode.melicommerce.services.exceptions.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveProductServiceTest {
+
+    @Mock
+    private ReactiveProductRepository repository;
+
+    @InjectMocks
+    private ReactiveProductService service;
+
+    private final ProductDTO product = new ProductDTO(1L, "A", "Desc A long enough", 10.0, "url", 4.5, "specs");
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "catalogScheduler", Schedulers.immediate());
+    }
+
+    @Test
+    void findById_whenMissing_shouldSignalResourceNotFound() {
+        when(repository.findById(9L)).thenReturn(Mono.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> service.findById(9L).block());
+    }
+
+    @Test
+    void findAll_shouldTranslateSortAndBuildPage() {
+        ProductSummaryDTO summary = new ProductSummaryDTO(1L, "A", 10.0, "url", 4.5);
+        when(repository.findPage("price DESC, img_url ASC", 2, 4L)).thenReturn(Flux.just(summary));
+        when(repository.count()).thenReturn(Mono.just(5L));
+
+        Page<ProductSummaryDTO> page = service.findAll(PageRequest.of(2, 2, Sort.by(Sort.Order.desc("price"), Sort.Order.asc("imgUrl")))).block();
+
+        assertNotNull(page);
+        assertEquals(List.of(summary), page.getContent());
+        assertEquals(5L, page.getTotalElements());
+        assertEquals(3, page.getTotalPages());
+    }
+
+    @Test
+    void findAll_withUnknownSortProperty_shouldThrowBadRequest() {
+        assertThrows(BadRequestException.class,
+                () -> service.findAll(PageRequest.of(0, 2, Sort.by("id; DROP TABLE tb_product"))));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void compareProductsByIds_shouldParseIdsAndFailWhenNothingFound() {
+        when(repository.findAllById(List.of(1L, 2L))).thenReturn(Flux.just(product));
+        when(repository.findAllById(List.of(7L))).thenReturn(Flux.empty());
+
+        assertEquals(List.of(product), service.compareProductsByIds("1, 2").block());
+        assertThrows(ResourceNotFoundException.class, () -> service.compareProductsByIds("7").block());
+        assertThrows(BadRequestException.class, () -> service.compareProductsByIds("a,b"));
+    }
+}
@@ -0,0 +1,85 @@
+package com.franciscode.melicommerce.services;
+
+import com.franciscode.melicommerce.dto.RelatedProductDTO;
+import com.franciscode.melicommerce.entities.OrderStatus;
+import com.franciscode.melicommerce.projections.OrderProductProjection;
+import com.franciscode.melicommerce.repositories.OrderItemRepository;
+import com.franciscode.melicommerce.services.events.OrderLine;
+import com.franciscode.melicommerce.services.events.OrderPlacedEvent;
+import com.franciscode.melicommerce.services.exceptions.BadRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RecommendationServiceTest {
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    @InjectMocks
+    private RecommendationService service;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "topK", 2);
+        when(orderItemRepository.findOrderProductsByStatusNot(OrderStatus.CANCELED)).thenReturn(List.of(
+                row(1L, 1L), row(1L, 2L), row(1L, 3L),
+                row(2L, 1L), row(2L, 3L),
+                row(3L, 1L), row(3L, 3L), row(3L, 4L)));
+        service.rebuild();
+    }
+
+    @Test
+    void rebuild_shouldRankNeighborsByCoOccurrenceAndKeepTopK() {
+        List<RelatedProductDTO> related = service.findRelated(1L, 2);
+
+        assertEquals(2, related.size());
+        assertEquals(3L, related.get(0).getProductId());
+        assertEquals(3, related.get(0).getScore());
+        assertEquals(2L, related.get(1).getProductId());
+        assertEquals(1, related.get(1).getScore());
+    }
+
+    @Test
+    void onOrderPlaced_shouldUpdateAffectedProductsIncrementally() {
+        List<OrderLine> lines = List.of(new OrderLine(4L, 1, 10.0), new OrderLine(1L, 1, 10.0));
+        service.onOrderPlaced(new OrderPlacedEvent(4L, 1L, Instant.now(), OrderStatus.WAITING_PAYMENT, lines));
+        service.onOrderPlaced(new OrderPlacedEvent(5L, 1L, Instant.now(), OrderStatus.WAITING_PAYMENT, lines));
+
+        List<RelatedProductDTO> related = service.findRelated(1L, 2);
+        assertEquals(4L, related.get(1).getProductId());
+        assertEquals(3, related.get(1).getScore());
+
+        List<RelatedProductDTO> reverse = service.findRelated(4L, 1);
+        assertEquals(1L, reverse.get(0).getProductId());
+    }
+
+    @Test
+    void findRelated_whenUnknownProduct_shouldReturnEmptyList() {
+        assertTrue(service.findRelated(99L, 1).isEmpty());
+    }
+
+    @Test
+    void findRelated_whenLimitOutOfRange_shouldThrowBadRequest() {
+        assertThrows(BadRequestException.class, () -> service.findRelated(1L, 0));
+        assertThrows(BadRequestException.class, () -> service.findRelated(1L, 3));
+    }
+
+    private static OrderProductProjection row(Long orderId, Long productId) {
+        return new OrderProductProjection() {
+            public Long getOrderId() { return orderId; }
+            public Long getProductId() { return productId; }
+        };
+    }
+}
@@ -0,0 +1,137 @@
+package com.franciscode.melicommerce.services;
+
+import com.franciscode.melicommerce.dto.DailySalesDTO;
+import com.franciscode.melicommerce.dto.SalesSummaryDTO;
+import com.franciscode.melicommerce.entities.OrderStatus;
+import com.franciscode.melicommerce.projections.SaleLineProjection;
+import com.franciscode.melicommerce.repositories.OrderItemRepository;
+import com.franciscode.melicommerce.services.events.OrderLine;
+import com.franciscode.melicommerce.services.events.OrderPlacedEvent;
+import com.franciscode.melicommerce.services.events.OrderStatusChangedEvent;
+import com.franciscode.melicommerce.services.exceptions.BadRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SalesAnalyticsServiceTest {
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    @Mock
+    private ProductCategoryIndex categoryIndex;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private SalesAnalyticsService service;
+
+    private final Instant today = LocalDate.now(ZoneOffset.UTC).atStartOfDay().toInstant(ZoneOffset.UTC);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "windowDays", 30);
+        service.init();
+    }
+
+    @Test
+    void onApplicationReady_shouldRebuildInsideReadOnlyTransaction() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(orderItemRepository.findSaleLinesByStatusIn(any())).thenReturn(List.of());
+
+        service.onApplicationReady();
+
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, times(1)).getTransaction(definition.capture());
+        assertTrue(definition.getValue().isReadOnly());
+        verify(orderItemRepository, times(1)).findSaleLinesByStatusIn(any());
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    void rebuild_shouldAggregateSaleLinesPerProductCategoryAndDay() {
+        when(categoryIndex.categoriesOf(1L)).thenReturn(new long[]{10L});
+        when(categoryIndex.categoriesOf(2L)).thenReturn(new long[]{10L, 20L});
+        when(orderItemRepository.findSaleLinesByStatusIn(any())).thenReturn(List.of(
+                line(1L, 1L, today, 2, 90.5),
+                line(1L, 2L, today, 1, 1250.0),
+                line(2L, 2L, today.minusSeconds(86400), 3, 1250.0)));
+
+        service.rebuild();
+
+        verify(categoryIndex, times(1)).reload();
+        SalesSummaryDTO product2 = service.findByProduct(2L);
+        assertEquals(4L, product2.getUnitsSold());
+        assertEquals(5000.0, product2.getRevenue());
+
+        SalesSummaryDTO category10 = service.findByCategory(10L);
+        assertEquals(6L, category10.getUnitsSold());
+        assertEquals(5181.0, category10.getRevenue());
+
+        List<DailySalesDTO> daily = service.findDaily(2);
+        assertEquals(2, daily.size());
+        assertEquals(3L, daily.get(0).getUnitsSold());
+        assertEquals(3L, daily.get(1).getUnitsSold());
+        assertEquals(1431.0, daily.get(1).getRevenue());
+
+        List<DailySalesDTO> category20 = service.findDailyByCategory(20L, 1);
+        assertEquals(1L, category20.get(0).getUnitsSold());
+    }
+
+    @Test
+    void orderEvents_shouldUpdateAggregatesOnlyWhenSaleStatusChanges() {
+        when(categoryIndex.categoriesOf(5L)).thenReturn(new long[]{1L});
+        List<OrderLine> lines = List.of(new OrderLine(5L, 2, 10.0));
+
+        service.onOrderPlaced(new OrderPlacedEvent(1L, 1L, today, OrderStatus.WAITING_PAYMENT, lines));
+        assertEquals(0L, service.findByProduct(5L).getUnitsSold());
+
+        service.onOrderStatusChanged(new OrderStatusChangedEvent(1L, 1L, today, OrderStatus.WAITING_PAYMENT, OrderStatus.PAID, lines));
+        assertEquals(2L, service.findByProduct(5L).getUnitsSold());
+        assertEquals(20.0, service.findByCategory(1L).getRevenue());
+
+        service.onOrderStatusChanged(new OrderStatusChangedEvent(1L, 1L, today, OrderStatus.PAID, OrderStatus.SHIPPED, lines));
+        assertEquals(2L, service.findByProduct(5L).getUnitsSold());
+
+        service.onOrderStatusChanged(new OrderStatusChangedEvent(1L, 1L, today, OrderStatus.SHIPPED, OrderStatus.CANCELED, lines));
+        assertEquals(0L, service.findByProduct(5L).getUnitsSold());
+        assertEquals(0.0, service.findDaily(1).get(0).getRevenue());
+    }
+
+    @Test
+    void findDaily_whenDaysOutsideWindow_shouldThrowBadRequest() {
+        assertThrows(BadRequestException.class, () -> service.findDaily(0));
+        assertThrows(BadRequestException.class, () -> service.findDaily(31));
+        assertThrows(BadRequestException.class, () -> service.findDailyByCategory(1L, 31));
+    }
+
+    private static SaleLineProjection line(Long orderId, Long productId, Instant moment, Integer quantity, Double price) {
+        return new SaleLineProjection() {
+            public Long getOrderId() { return orderId; }
+            public Long getProductId() { return productId; }
+            public Instant getMoment() { return moment; }
+            public OrderStatus getStatus() { return OrderStatus.PAID; }
+            public Integer getQuantity() { return quantity; }
+            public Double getPrice() { return price; }
+        };
+    }
+}
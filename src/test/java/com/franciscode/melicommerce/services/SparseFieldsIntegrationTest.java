@@ -0,0 +1,71 @@
+package com.franciscode.melicommerce.services;
+
+import com.franciscode.melicommerce.config.SqlStatistics;
+import com.franciscode.melicommerce.dto.ProductField;
+import com.franciscode.melicommerce.dto.SparseProductDTO;
+import com.franciscode.melicommerce.repositories.ProductRepository;
+import com.franciscode.melicommerce.services.exceptions.BadRequestException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class SparseFieldsIntegrationTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private SqlStatistics sqlStatistics;
+
+    @Test
+    void findAll_withFields_shouldSelectOnlyRequestedColumns() {
+        sqlStatistics.clear();
+
+        Page<SparseProductDTO> page = productService.findAll(
+                PageRequest.of(1, 3, Sort.by(Sort.Direction.DESC, "price")), "id,price");
+
+        assertEquals(3, page.getNumberOfElements());
+        assertTrue(page.getTotalElements() > 3);
+        assertNull(page.getContent().get(0).getProduct().getName());
+        assertTrue(page.getContent().get(0).getProduct().getPrice() >= page.getContent().get(1).getProduct().getPrice());
+        String select = productSelects().get(0);
+        assertTrue(select.contains("price"), select);
+        assertFalse(select.contains("description"), select);
+        assertFalse(select.contains("specifications"), select);
+    }
+
+    @Test
+    void findById_withFields_shouldMatchFullProduct() {
+        SparseProductDTO sparse = productService.findById(4L, "name,imgUrl");
+
+        assertEquals(productService.findById(4L).getName(), sparse.toMap().get("name"));
+        assertEquals(List.of("imgUrl", "name"), List.copyOf(sparse.toMap().keySet()));
+    }
+
+    @Test
+    void findAllFields_withUnknownSortProperty_shouldThrowBadRequest() {
+        BadRequestException e = assertThrows(BadRequestException.class, () -> productRepository.findAllFields(
+                EnumSet.of(ProductField.ID), PageRequest.of(0, 3, Sort.by("stock"))));
+
+        assertEquals("Não é possível ordenar por 'stock'.", e.getMessage());
+    }
+
+    private List<String> productSelects() {
+        return sqlStatistics.getEntries().stream()
+                .map(SqlStatistics.Entry::getShape)
+                .filter(shape -> shape.startsWith("select") && shape.contains("tb_product") && !shape.contains("count("))
+                .toList();
+    }
+}
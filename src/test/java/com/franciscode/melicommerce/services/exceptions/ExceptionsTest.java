@@ -42,4 +42,16 @@ class ExceptionsTest {
         ResourceNotFoundException thrown = assertThrows(ResourceNotFoundException.class, () -> { throw ex; });
         assertEquals(msg, thrown.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    void domainExceptions_shouldNotCaptureStackTraceOrSuppressed() {
+        for (DomainException ex : new DomainException[]{new BadRequestException("a"), new DatabaseException("b"),
+                new ResourceNotFoundException("c")}) {
+            ex.addSuppressed(new IllegalStateException());
+
+            assertEquals(0, ex.getStackTrace().length);
+            assertEquals(0, ex.getSuppressed().length);
+            assertNull(ex.getCause());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.franciscode.melicommerce.services.rankings;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeaderboardTest {
+
+    @Test
+    void update_shouldKeepOnlyBestEntriesUpToCapacity() {
+        Leaderboard leaderboard = new Leaderboard(3);
+        for (long id = 1; id <= 10; id++) {
+            leaderboard.update(id, id);
+        }
+
+        assertEquals(3, leaderboard.size());
+        assertArrayEquals(new long[]{10L, 9L, 8L}, leaderboard.top(5));
+        assertTrue(leaderboard.isExact(3));
+        assertFalse(leaderboard.isExact(4));
+    }
+
+    @Test
+    void isExact_whenTopEntryIsRemovedOrDemoted_shouldReportDroppedEntriesMayRankHigher() {
+        Leaderboard leaderboard = new Leaderboard(3);
+        for (long id = 1; id <= 4; id++) {
+            leaderboard.update(id, id);
+        }
+
+        assertTrue(leaderboard.isExact(2));
+        leaderboard.remove(4L);
+        assertTrue(leaderboard.isExact(2));
+        assertFalse(leaderboard.isExact(3));
+
+        leaderboard.update(3L, 0.5);
+        assertArrayEquals(new long[]{2L, 3L}, leaderboard.top(2));
+        assertTrue(leaderboard.isExact(1));
+        assertFalse(leaderboard.isExact(2));
+    }
+
+    @Test
+    void update_whenDroppedProductImproves_shouldReenterRanking() {
+        Leaderboard leaderboard = new Leaderboard(2);
+        leaderboard.update(1L, 5.0);
+        leaderboard.update(2L, 4.0);
+        leaderboard.update(3L, 1.0);
+
+        leaderboard.update(3L, 9.0);
+
+        assertArrayEquals(new long[]{3L, 1L}, leaderboard.top(2));
+        assertEquals(2, leaderboard.size());
+    }
+
+    @Test
+    void isExact_withoutDrops_shouldAlwaysBeTrue() {
+        Leaderboard leaderboard = new Leaderboard(10);
+        leaderboard.update(1L, 1.0);
+
+        assertTrue(leaderboard.isExact(5));
+    }
+}